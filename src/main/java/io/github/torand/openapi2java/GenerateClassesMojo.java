@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java;
+
+import io.github.torand.openapi2java.generators.Options;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.util.List;
+
+import static io.github.torand.openapi2java.writers.WriterFactory.compileSourceArchive;
+
+/**
+ * Generates source code like the 'generate' goal, but compiles it in-process to compiledClassesDir against the project
+ * compile classpath, without writing the sources to disk. The outputFormat parameter is ignored.
+ */
+@Mojo( name = "generate-classes", defaultPhase = LifecyclePhase.PROCESS_SOURCES, requiresDependencyResolution = ResolutionScope.COMPILE )
+public class GenerateClassesMojo extends OpenApi2JavaMojo {
+
+    /**
+     * The project compile classpath, used to compile generated sources.
+     */
+    @Parameter( defaultValue = "${project.compileClasspathElements}", readonly = true )
+    private List<String> compileClasspathElements;
+
+    /**
+     * The Java release to compile generated sources for. Uses the release of the running JDK if not specified.
+     */
+    @Parameter( property = "maven.compiler.release" )
+    private String release;
+
+    @Override
+    protected String getOutputFormat() {
+        return "classes";
+    }
+
+    @Override
+    protected List<String> getSupportedOutputFormats() {
+        return List.of("classes");
+    }
+
+    @Override
+    protected void compileGeneratedSources(Options opts) {
+        compileSourceArchive(opts, compileClasspathElements, release);
+    }
+}
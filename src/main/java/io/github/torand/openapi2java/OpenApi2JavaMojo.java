@@ -15,13 +15,10 @@
  */
 package io.github.torand.openapi2java;
 
-import io.github.torand.openapi2java.generators.ModelGenerator;
-import io.github.torand.openapi2java.generators.OpenApiDefGenerator;
+import io.github.torand.openapi2java.generators.CodeGenerator;
 import io.github.torand.openapi2java.generators.Options;
-import io.github.torand.openapi2java.generators.ResourceGenerator;
+import io.github.torand.openapi2java.readers.OpenApiReader;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -32,6 +29,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
+import static io.github.torand.openapi2java.utils.MemoryUtils.formatMegabytes;
+import static io.github.torand.openapi2java.utils.MemoryUtils.getUsedHeapAfterGc;
+import static io.github.torand.openapi2java.writers.WriterFactory.discardSourceArchive;
+import static io.github.torand.openapi2java.writers.WriterFactory.finishSourceArchive;
+import static java.util.stream.Collectors.joining;
+
 /**
  * Generates source code for a REST-API with resource interfaces and representation model classes
  * based on an OpenAPI specification file.
@@ -42,7 +45,7 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     private static final Logger logger = LoggerFactory.getLogger(OpenApi2JavaMojo.class);
 
     /**
-     * Input file containing OpenAPI specification.
+     * Input file containing OpenAPI specification. May also be a gzip-compressed file produced by the 'precompile' goal.
      */
     @Parameter(property = "openApiFile", required = true )
     private String openApiFile;
@@ -53,6 +56,25 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     @Parameter( property = "outputDir", defaultValue = "${project.build.directory}" )
     private String outputDir;
 
+    /**
+     * The output format of generated files. Valid values are "files" (individual source files) and "srcjar" (a single, reproducible source archive in outputDir).
+     * To compile the sources in-process to compiledClassesDir, without writing them to disk, use the 'generate-classes' goal.
+     */
+    @Parameter( property = "outputFormat", defaultValue = "files" )
+    private String outputFormat;
+
+    /**
+     * Directory to write compiled classes to, with the 'generate-classes' goal.
+     */
+    @Parameter( property = "compiledClassesDir", defaultValue = "${project.build.outputDirectory}" )
+    private String compiledClassesDir;
+
+    /**
+     * Whether to also write the generated sources as a source archive in outputDir, with the 'generate-classes' goal.
+     */
+    @Parameter( property = "writeCompiledSources", defaultValue = "false" )
+    private boolean writeCompiledSources;
+
     /**
      * Root package of classes and enums.
      */
@@ -135,18 +157,120 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     @Parameter( property = "includeTags", defaultValue = "" )
     private List<String> includeTags;
 
+    /**
+     * Read the OpenAPI specification as a raw JSON/YAML tree and materialize only the operations of the included tags,
+     * and the components they reference (directly or transitively), into the OpenAPI model.
+     *
+     * Only applies when 'includeTags' is specified.
+     */
+    @Parameter( property = "readIncludedTagsOnly", defaultValue = "false" )
+    private boolean readIncludedTagsOnly;
+
+    /**
+     * Load local files referenced by external references ({@code $ref}) in the OpenAPI specification concurrently,
+     * and bundle the referenced components into a single OpenAPI model before generating code.
+     * Each file is loaded as soon as the first file referencing it has been parsed.
+     */
+    @Parameter( property = "loadExternalRefsInParallel", defaultValue = "false" )
+    private boolean loadExternalRefsInParallel;
+
+    /**
+     * Shrink the OpenAPI model of very large OpenAPI specifications, by not materializing content not used for
+     * code generation (e.g. examples) into it. Generated files are not written in batches, so memory usage still
+     * grows with the size of the specification. Ignored when generating a static OpenAPI file.
+     */
+    @Parameter( property = "lowMemoryMode", defaultValue = "false" )
+    private boolean lowMemoryMode;
+
     /**
      * Generate resource interfaces (one for each tag included).
      */
     @Parameter( property = "generateResourceInterfaces", defaultValue = "true" )
     private boolean generateResourceInterfaces;
 
+    /**
+     * Whether to generate a client class based on the JDK HttpClient for each resource, in addition to the resource interface.
+     */
+    @Parameter( property = "generateApiClients", defaultValue = "false" )
+    private boolean generateApiClients;
+
+    /**
+     * Generate a Microprofile Rest Client ResponseExceptionMapper per resource, decoding declared error response bodies
+     * into typed exceptions. The mapper is registered on the resource interface when 'addMpRestClientAnnotations' is set.
+     *
+     * Only supported for Java syntax.
+     */
+    @Parameter( property = "generateResponseExceptionMappers", defaultValue = "false" )
+    private boolean generateResponseExceptionMappers;
+
+    /**
+     * Generate a decorator per resource letting concurrent identical calls of idempotent operations share one in-flight
+     * request and its result. GET operations are coalesced unless the extension 'x-coalesce' is false, other operations
+     * only if it is true.
+     *
+     * Only supported for Java syntax, and for operations with typed return values.
+     */
+    @Parameter( property = "generateCoalescingDecorators", defaultValue = "false" )
+    private boolean generateCoalescingDecorators;
+
+    /**
+     * Generate a helper class per resource with bulk variants of single-item operations, i.e. operations with a single path
+     * parameter and no request body. A bulk variant takes a collection of path parameter values, and calls the operation
+     * for each value concurrently on virtual threads, with a configurable concurrency limit.
+     *
+     * Only supported for Java syntax. The generated code requires Java 21 or later.
+     */
+    @Parameter( property = "generateBulkHelpers", defaultValue = "false" )
+    private boolean generateBulkHelpers;
+
     /**
      * Generate an OpenAPI definition class file with implementation oriented annotations.
      */
     @Parameter( property = "generateOpenApiDefClass", defaultValue = "true" )
     private boolean generateOpenApiDefClass;
 
+    /**
+     * Generate GraalVM native-image configuration files ({@code reflect-config.json} and {@code proxy-config.json})
+     * registering the generated pojos, enums and resource interfaces.
+     */
+    @Parameter( property = "generateNativeImageConfig", defaultValue = "false" )
+    private boolean generateNativeImageConfig;
+
+    /**
+     * Directory to write GraalVM native-image configuration files to.
+     */
+    @Parameter( property = "nativeImageConfigDir", defaultValue = "${project.build.outputDirectory}/META-INF/native-image/${project.groupId}/${project.artifactId}" )
+    private String nativeImageConfigDir;
+
+    /**
+     * Generate a pre-serialized {@code openapi.json} from the parsed OpenAPI specification, for the Microprofile OpenAPI
+     * runtime to load as a static file instead of scanning annotations at startup.
+     *
+     * Note! Setting this to true implicitly sets 'addMpOpenApiAnnotations' to false.
+     */
+    @Parameter( property = "generateStaticOpenApiFile", defaultValue = "false" )
+    private boolean generateStaticOpenApiFile;
+
+    /**
+     * Directory to write the pre-serialized OpenAPI document to.
+     */
+    @Parameter( property = "staticOpenApiFileDir", defaultValue = "${project.build.outputDirectory}/META-INF" )
+    private String staticOpenApiFileDir;
+
+    /**
+     * Generate a {@code microprofile-config.properties} file with the Rest Client settings (connection pool, keep-alive,
+     * HTTP/2, timeouts, redirects) specified by the {@code x-restclient-config} extension of the tags, keyed by the config
+     * key of each resource. Properties in {@code application.properties} take precedence over the generated ones.
+     */
+    @Parameter( property = "generateRestClientConfig", defaultValue = "false" )
+    private boolean generateRestClientConfig;
+
+    /**
+     * Directory to write the generated Rest Client configuration file to.
+     */
+    @Parameter( property = "restClientConfigDir", defaultValue = "${project.build.outputDirectory}/META-INF" )
+    private String restClientConfigDir;
+
     /**
      * Generate Jackson JSON property annotations.
      */
@@ -171,12 +295,36 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     @Parameter( property = "addMpRestClientAnnotations", defaultValue = "true" )
     private boolean addMpRestClientAnnotations;
 
+    /**
+     * Generate the Quarkus {@code @RegisterForReflection} annotation on pojos and enums.
+     */
+    @Parameter( property = "addRegisterForReflectionAnnotations", defaultValue = "false" )
+    private boolean addRegisterForReflectionAnnotations;
+
     /**
      * Generate Kotlin source code.
      */
     @Parameter( property = "useKotlinSyntax", defaultValue = "false" )
     private boolean useKotlinSyntax;
 
+    /**
+     * Generate Kotlin resource methods as coroutine {@code suspend} functions with typed return values.
+     * Array responses of a streaming media type (e.g. application/x-ndjson) are returned as a non-suspending {@code Flow}, other arrays as a {@code List}.
+     *
+     * Only applies when 'useKotlinSyntax' is true.
+     */
+    @Parameter( property = "useKotlinCoroutines", defaultValue = "false" )
+    private boolean useKotlinCoroutines;
+
+    /**
+     * Generate Kotlin pojos and enums annotated for kotlinx.serialization ({@code @Serializable}, {@code @SerialName}) instead of Jackson.
+     * Types without a built-in serializer (e.g. dates, UUID, URI and BigDecimal) are annotated with {@code @Contextual}.
+     *
+     * Only applies when 'useKotlinSyntax' is true.
+     */
+    @Parameter( property = "useKotlinSerialization", defaultValue = "false" )
+    private boolean useKotlinSerialization;
+
     /**
      * Use the more typesafe {@code RestResponse} from RESTEasy instead of the
      * normal untyped {@code Response} from Jakarta WS core.
@@ -188,6 +336,15 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     @Parameter( property = "useResteasyResponse", defaultValue = "false" )
     private boolean useResteasyResponse;
 
+    /**
+     * Use the inferred success response type directly as the return type of resource methods, instead of the untyped
+     * {@code Response} from Jakarta WS core. Non-successful responses are mapped to exceptions by the rest client.
+     *
+     * Ignored when 'useResteasyResponse' is set.
+     */
+    @Parameter( property = "useTypedReturnValues", defaultValue = "false" )
+    private boolean useTypedReturnValues;
+
     /**
      * Add the Quarkus OIDC client annotation to all resource interfaces.
      */
@@ -213,11 +370,30 @@ public class OpenApi2JavaMojo extends AbstractMojo {
     private boolean verbose;
 
     public void execute() throws MojoExecutionException {
-        SwaggerParseResult result = new OpenAPIV3Parser().readLocation(openApiFile, null, null);
-        OpenAPI openApiDoc = result.getOpenAPI();
+        String outputFormat = getOutputFormat();
+        List<String> supportedOutputFormats = getSupportedOutputFormats();
+        if (!supportedOutputFormats.contains(outputFormat.toLowerCase())) {
+            if ("classes".equalsIgnoreCase(outputFormat)) {
+                throw new MojoExecutionException("outputFormat 'classes' requires the compile classpath, please use the 'generate-classes' goal instead");
+            }
+            String expected = supportedOutputFormats.stream().map("'%s'"::formatted).collect(joining(" or "));
+            throw new MojoExecutionException("Unsupported outputFormat '%s', expected %s".formatted(outputFormat, expected));
+        }
+
+        if ("classes".equalsIgnoreCase(outputFormat) && useKotlinSyntax) {
+            throw new MojoExecutionException("outputFormat 'classes' is not supported with Kotlin syntax");
+        }
+
+        if (generateStaticOpenApiFile && addMpOpenApiAnnotations) {
+            logger.warn("Generating static OpenAPI file: overriding 'addMpOpenApiAnnotations' to false, as the annotations would duplicate the static openapi.json");
+            addMpOpenApiAnnotations = false;
+        }
 
         Options opts = new Options(
             outputDir,
+            outputFormat,
+            compiledClassesDir,
+            writeCompiledSources,
             rootPackage,
             rootUrlPath,
             resourceNameSuffix,
@@ -231,14 +407,31 @@ public class OpenApi2JavaMojo extends AbstractMojo {
             dateClassName,
             dateTimeClassName,
             includeTags,
+            readIncludedTagsOnly,
+            loadExternalRefsInParallel,
+            lowMemoryMode,
             generateResourceInterfaces,
+            generateApiClients,
+            generateResponseExceptionMappers,
+            generateCoalescingDecorators,
+            generateBulkHelpers,
             generateOpenApiDefClass,
+            generateNativeImageConfig,
+            nativeImageConfigDir,
+            generateStaticOpenApiFile,
+            staticOpenApiFileDir,
+            generateRestClientConfig,
+            restClientConfigDir,
             addJsonPropertyAnnotations,
             addJakartaBeanValidationAnnotations,
             addMpOpenApiAnnotations,
             addMpRestClientAnnotations,
+            addRegisterForReflectionAnnotations,
             useKotlinSyntax,
+            useKotlinCoroutines,
+            useKotlinSerialization,
             useResteasyResponse,
+            useTypedReturnValues,
             useOidcClientAnnotation,
             indentWithTab,
             indentSize,
@@ -250,17 +443,52 @@ public class OpenApi2JavaMojo extends AbstractMojo {
             addJsonPropertyAnnotations = true;
         }
 
-        ModelGenerator modelGenerator = new ModelGenerator(opts);
-        modelGenerator.generate(openApiDoc);
-
-        if (opts.generateResourceInterfaces()) {
-            ResourceGenerator resourceGenerator = new ResourceGenerator(opts);
-            resourceGenerator.generate(openApiDoc);
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(openApiFile);
+        logUsedHeapAfterGc(opts, "reading OpenAPI specification");
+
+        // The source archive is bound to the current thread, which Maven may reuse for other builds (-T, mvnd)
+        try {
+            new CodeGenerator(opts).generate(openApiDoc, stage -> logUsedHeapAfterGc(opts, stage));
+
+            if (opts.isSrcJarOutputFormat()) {
+                finishSourceArchive();
+            } else if (opts.isClassesOutputFormat()) {
+                compileGeneratedSources(opts);
+                logger.info("Compiled generated sources to {}", opts.getCompiledClassesDir());
+            }
+        } finally {
+            discardSourceArchive();
         }
+    }
+
+    /**
+     * Gets the output format of generated files.
+     * @return the output format.
+     */
+    protected String getOutputFormat() {
+        return outputFormat;
+    }
+
+    /**
+     * Gets the output formats supported by this goal.
+     * @return the supported output formats.
+     */
+    protected List<String> getSupportedOutputFormats() {
+        return List.of("files", "srcjar");
+    }
+
+    /**
+     * Compiles the generated sources collected in-process, when the output format is "classes".
+     * Overridden by the 'generate-classes' goal, which resolves the compile classpath.
+     * @param opts the plugin options.
+     */
+    protected void compileGeneratedSources(Options opts) {
+        throw new IllegalStateException("Compiling generated sources requires the 'generate-classes' goal");
+    }
 
-        if (opts.generateOpenApiDefClass()) {
-            OpenApiDefGenerator openApiDefGenerator = new OpenApiDefGenerator(opts);
-            openApiDefGenerator.generate(openApiDoc);
+    private void logUsedHeapAfterGc(Options opts, String stage) {
+        if (opts.verbose()) {
+            logger.info("Used heap after GC following {}: {}", stage, formatMegabytes(getUsedHeapAfterGc()));
         }
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.readers.SpecPrecompiler;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.nio.file.Path;
+
+import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+
+/**
+ * Converts an OpenAPI specification file, including any local files it references, into a single precompiled
+ * file for faster ingestion by the 'generate' goal. The precompiled file is accompanied by a SHA-256 checksum file.
+ */
+@Mojo( name = "precompile", defaultPhase = LifecyclePhase.GENERATE_RESOURCES )
+public class PrecompileSpecMojo extends AbstractMojo {
+
+    /**
+     * Input file containing OpenAPI specification.
+     */
+    @Parameter( property = "openApiFile", required = true )
+    private String openApiFile;
+
+    /**
+     * Precompiled output file. Defaults to 'openapi.json.gz' in the build directory, or 'openapi.json' if not compressed.
+     */
+    @Parameter( property = "precompiledFile" )
+    private String precompiledFile;
+
+    /**
+     * Whether to gzip-compress the precompiled file.
+     */
+    @Parameter( property = "compress", defaultValue = "true" )
+    private boolean compress;
+
+    /**
+     * Enables verbose logging
+     */
+    @Parameter( property = "verbose", defaultValue = "false" )
+    private boolean verbose;
+
+    @Parameter( defaultValue = "${project.build.directory}", readonly = true )
+    private String buildDirectory;
+
+    public void execute() throws MojoExecutionException {
+        Options opts = Options.defaults().withVerbose(verbose);
+
+        Path outputFile = isBlank(precompiledFile)
+            ? Path.of(buildDirectory, compress ? "openapi.json.gz" : "openapi.json")
+            : Path.of(precompiledFile);
+
+        new SpecPrecompiler(opts).precompile(openApiFile, outputFile, compress);
+    }
+}
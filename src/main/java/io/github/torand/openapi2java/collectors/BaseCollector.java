@@ -17,9 +17,15 @@ package io.github.torand.openapi2java.collectors;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.ConstantValue;
+import io.github.torand.openapi2java.model.RateLimitInfo;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
 import static io.github.torand.javacommons.lang.StringHelper.quote;
@@ -35,6 +41,7 @@ import static java.util.Objects.nonNull;
  * Base class for all collectors.
  */
 public abstract class BaseCollector {
+    private static final Pattern RATE_LIMIT_PATTERN = Pattern.compile("(\\d{1,9})\\s*/\\s*(s|m|min|h)");
 
     /**
      * The plugin options.
@@ -49,6 +56,14 @@ public abstract class BaseCollector {
         this.opts = opts;
     }
 
+    /**
+     * Indicates whether Kotlin models should be annotated for kotlinx.serialization instead of Jackson.
+     * @return true if kotlinx.serialization annotations should be generated; else false.
+     */
+    protected boolean useKotlinSerialization() {
+        return opts.useKotlinSyntax() && opts.useKotlinSerialization();
+    }
+
     /**
      * Modifies the description text for further use in code generation.
      * @param description the original description text.
@@ -150,6 +165,28 @@ public abstract class BaseCollector {
         return extensions(extensionsByName).getString(Extensions.EXT_DEPRECATION_MESSAGE).orElse("Deprecated");
     }
 
+    /**
+     * Gets the rate limit of outgoing requests, specified as number of requests per second, minute or hour, e.g. "200/s".
+     * @param extensionsByName the OpenAPI extensions containing a rate limit, or not.
+     * @param owner the name of the tag or operation containing the extensions, for error messages.
+     * @return the rate limit, if found; else empty.
+     */
+    protected Optional<RateLimitInfo> getRateLimitInfo(Map<String, Object> extensionsByName, String owner) {
+        return extensions(extensionsByName).getString(Extensions.EXT_RATE_LIMIT).map(rateLimit -> {
+            Matcher matcher = RATE_LIMIT_PATTERN.matcher(rateLimit.trim());
+            if (!matcher.matches() || Integer.parseInt(matcher.group(1)) < 1) {
+                throw new OpenApi2JavaException("Value '%s' of extension %s in %s is not a positive number of requests per s, m or h".formatted(rateLimit, Extensions.EXT_RATE_LIMIT, owner));
+            }
+
+            Duration period = switch (matcher.group(2)) {
+                case "s" -> Duration.ofSeconds(1);
+                case "m", "min" -> Duration.ofMinutes(1);
+                default -> Duration.ofHours(1);
+            };
+            return new RateLimitInfo(Integer.parseInt(matcher.group(1)), period);
+        });
+    }
+
     /**
      * Gets header name constant from specified header name.
      * @param name the header name.
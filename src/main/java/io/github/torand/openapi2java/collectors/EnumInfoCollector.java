@@ -49,6 +49,14 @@ public class EnumInfoCollector extends BaseCollector {
             enumInfo = enumInfo.withAddedAnnotation(getSchemaAnnotation(name, schema));
         }
 
+        if (useKotlinSerialization()) {
+            enumInfo = enumInfo.withAddedAnnotation(new AnnotationInfo("@Serializable", "kotlinx.serialization.Serializable"));
+        }
+
+        if (opts.addRegisterForReflectionAnnotations()) {
+            enumInfo = enumInfo.withAddedAnnotation(new AnnotationInfo("@RegisterForReflection", "io.quarkus.runtime.annotations.RegisterForReflection"));
+        }
+
         if (TRUE.equals(schema.getDeprecated())) {
             enumInfo = enumInfo.withAddedAnnotation(new AnnotationInfo("@Deprecated"));
         }
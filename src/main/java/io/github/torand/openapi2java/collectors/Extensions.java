@@ -17,6 +17,8 @@ package io.github.torand.openapi2java.collectors;
 
 import io.github.torand.openapi2java.utils.OpenApi2JavaException;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,11 @@ public class Extensions {
      */
     public static final String EXT_RESTCLIENT_PROVIDERS = "x-restclient-providers";
 
+    /**
+     * Map of MP Rest Client settings (connection pool, keep-alive, HTTP/2, timeouts, redirects) of the config key.
+     */
+    public static final String EXT_RESTCLIENT_CONFIG = "x-restclient-config";
+
     /**
      * Fully qualified classname of a Jackson serializer class for the schema.
      */
@@ -85,6 +92,53 @@ public class Extensions {
      */
     public static final String EXT_DEPRECATION_MESSAGE = "x-deprecation-message";
 
+    /**
+     * If `true` a Kotlin value class is generated to wrap the primitive type of the component schema.
+     */
+    public static final String EXT_KOTLIN_VALUE_CLASS = "x-kotlin-value-class";
+
+    /**
+     * Time-to-live of cached responses of a GET operation, in seconds or as an ISO-8601 duration.
+     */
+    public static final String EXT_CACHE_TTL = "x-cache-ttl";
+
+    /**
+     * Array of names of the parameters identifying a cached response, in addition to the path parameters.
+     */
+    public static final String EXT_CACHE_KEY_PARAMS = "x-cache-key-params";
+
+    /**
+     * If `true` concurrent identical calls of the operation share one in-flight request. Default is `true` for GET operations only.
+     */
+    public static final String EXT_COALESCE = "x-coalesce";
+
+    /**
+     * The operationId of the batch operation, taking an array of item keys, that calls of a single-item GET operation may be aggregated into.
+     */
+    public static final String EXT_BATCH_OPERATION = "x-batch-operation";
+
+    /**
+     * Name of the property identifying an item in the response of the batch operation. If not specified, items are matched by position.
+     */
+    public static final String EXT_BATCH_KEY_PROPERTY = "x-batch-key-property";
+
+    /**
+     * Maximum number of item keys per call of the batch operation.
+     */
+    public static final String EXT_BATCH_MAX_SIZE = "x-batch-max-size";
+
+    /**
+     * Number of milliseconds to wait for a response of a GET operation before sending a second, identical request. A value of 0 disables hedging.
+     * In a tag, the default for all GET operations of the tag.
+     */
+    public static final String EXT_HEDGE_AFTER_MS = "x-hedge-after-ms";
+
+    /**
+     * Rate limit of outgoing requests, as number of requests per second, minute or hour, e.g. `200/s`.
+     * In a tag, the limit of all requests of the tag combined.
+     */
+    public static final String EXT_RATE_LIMIT = "x-rate-limit";
+
     private final Map<String, Object> extensionsByName;
 
     /**
@@ -154,6 +208,47 @@ public class Extensions {
         return Optional.of((Boolean)value);
     }
 
+    /**
+     * Gets value of an integer extension property.
+     * @param name the extension property name.
+     * @return the extension property value, if found; else empty.
+     */
+    public Optional<Integer> getInteger(String name) {
+        Object value = extensionsByName.get(name);
+        if (isNull(value)) {
+            return Optional.empty();
+        }
+        if (!(value instanceof Integer)) {
+            throw new OpenApi2JavaException("Value of extension %s is not an Integer".formatted(name));
+        }
+
+        return Optional.of((Integer)value);
+    }
+
+    /**
+     * Gets value of a duration extension property, specified in seconds or as an ISO-8601 duration.
+     * @param name the extension property name.
+     * @return the extension property value, if found; else empty.
+     */
+    public Optional<Duration> getDuration(String name) {
+        Object value = extensionsByName.get(name);
+        if (isNull(value)) {
+            return Optional.empty();
+        }
+        if (value instanceof Number number) {
+            return Optional.of(Duration.ofSeconds(number.longValue()));
+        }
+        if (value instanceof String string) {
+            try {
+                return Optional.of(Duration.parse(string));
+            } catch (DateTimeParseException e) {
+                throw new OpenApi2JavaException("Value of extension %s is not an ISO-8601 duration".formatted(name), e);
+            }
+        }
+
+        throw new OpenApi2JavaException("Value of extension %s is not a Number or String".formatted(name));
+    }
+
     /**
      * Gets value of a map extension property.
      * @param name the extension property name.
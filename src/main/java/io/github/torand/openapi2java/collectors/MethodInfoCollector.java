@@ -17,11 +17,15 @@ package io.github.torand.openapi2java.collectors;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotationInfo;
+import io.github.torand.openapi2java.model.BatchInfo;
+import io.github.torand.openapi2java.model.CacheInfo;
 import io.github.torand.openapi2java.model.ConstantValue;
 import io.github.torand.openapi2java.model.MethodInfo;
 import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.RateLimitInfo;
 import io.github.torand.openapi2java.model.SecurityRequirementInfo;
 import io.github.torand.openapi2java.model.TypeInfo;
+import io.github.torand.openapi2java.utils.IdentifierUtils;
 import io.github.torand.openapi2java.utils.OpenApi2JavaException;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.headers.Header;
@@ -32,9 +36,11 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
@@ -43,6 +49,14 @@ import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
 import static io.github.torand.javacommons.lang.StringHelper.quote;
 import static io.github.torand.javacommons.lang.StringHelper.stripTail;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_BATCH_KEY_PROPERTY;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_BATCH_MAX_SIZE;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_BATCH_OPERATION;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_CACHE_KEY_PARAMS;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_CACHE_TTL;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_COALESCE;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_HEDGE_AFTER_MS;
+import static io.github.torand.openapi2java.collectors.Extensions.extensions;
 import static io.github.torand.openapi2java.collectors.SchemaResolver.isObjectType;
 import static io.github.torand.openapi2java.collectors.TypeInfoCollector.NullabilityResolution.FORCE_NOT_NULLABLE;
 import static io.github.torand.openapi2java.collectors.TypeInfoCollector.NullabilityResolution.FORCE_NULLABLE;
@@ -76,6 +90,10 @@ public class MethodInfoCollector extends BaseCollector {
     private static final String PARAM_IN_QUERY = "query";
     private static final String PARAM_IN_PATH = "path";
     private static final String PARAM_IN_COOKIE = "cookie";
+    private static final String PARAM_IN_BODY = "body";
+    private static final String PARAM_IN_FORM = "form";
+
+    private static final int DEFAULT_BATCH_MAX_SIZE = 100;
 
     private final ComponentResolver componentResolver;
     private final TypeInfoCollector typeInfoCollector;
@@ -90,6 +108,7 @@ public class MethodInfoCollector extends BaseCollector {
 
     public MethodInfo getMethodInfo(String verb, String path, Operation operation) {
         MethodInfo methodInfo = new MethodInfo(toMethodName(operation.getOperationId()))
+            .withHttpOperation(verb, normalizePath(path))
             .withAddedAnnotation(getVerbAnnotation(verb))
             .withAddedAnnotation(getPathAnnotation(path));
 
@@ -99,10 +118,30 @@ public class MethodInfoCollector extends BaseCollector {
 
         if (nonNull(operation.getRequestBody())) {
             methodInfo = methodInfo.withAddedAnnotation(getConsumesAnnotation(operation.getRequestBody()));
+
+            if (nonEmpty(operation.getRequestBody().getContent())) {
+                methodInfo = methodInfo.withRequestMediaType(operation.getRequestBody().getContent().keySet().iterator().next());
+            }
         }
 
         if (nonNull(operation.getResponses())) {
             methodInfo = methodInfo.withAddedAnnotation(getProducesAnnotation(operation.getResponses()));
+
+            Optional<ApiResponse> successResponse = getSuccessResponse(operation.getResponses());
+            if (successResponse.isPresent() && nonEmpty(successResponse.get().getContent())) {
+                Map.Entry<String, MediaType> firstContent = successResponse.get().getContent().entrySet().iterator().next();
+                TypeInfo bodyType = nonNull(firstContent.getValue().getSchema()) ? typeInfoCollector.getTypeInfo(firstContent.getValue().getSchema()) : null;
+                methodInfo = methodInfo.withResponse(firstContent.getKey(), bodyType);
+            }
+
+            for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+                if (isErrorStatusCode(response.getKey())) {
+                    Optional<TypeInfo> errorType = getErrorResponseType(response.getValue());
+                    if (errorType.isPresent()) {
+                        methodInfo = methodInfo.withAddedErrorResponseType(response.getKey(), errorType.get());
+                    }
+                }
+            }
         }
 
         if (nonEmpty(operation.getSecurity())) {
@@ -130,7 +169,7 @@ public class MethodInfoCollector extends BaseCollector {
                 );
                 methodInfo = methodInfo.withAddedAnnotations(apiResponseAnnotations);
 
-                if (opts.useResteasyResponse()) {
+                if (opts.useResteasyResponse() || (opts.useKotlinSyntax() && opts.useKotlinCoroutines())) {
                     String code = operation.getResponses().keySet().iterator().next();
                     ApiResponse response = operation.getResponses().get(code);
                     methodInfo = methodInfo.withReturnType(getResponseType(code, response));
@@ -138,9 +177,108 @@ public class MethodInfoCollector extends BaseCollector {
             }
         }
 
+        if (opts.useTypedReturnValues() && !opts.useResteasyResponse() && nonEmpty(operation.getResponses())) {
+            Optional<String> successCode = operation.getResponses().keySet().stream()
+                .filter(sc -> sc.matches("2\\d\\d"))
+                .findFirst();
+
+            if (successCode.isPresent()) {
+                ApiResponse response = operation.getResponses().get(successCode.get());
+                if (nonNull(response.get$ref())) {
+                    response = componentResolver.responses().getOrThrow(response.get$ref());
+                }
+                methodInfo = methodInfo.withReturnType(getResponseType(successCode.get(), response));
+            }
+        }
+
         List<MethodParamInfo> methodParams = getMethodParams(operation);
+        methodInfo = methodInfo.withAddedParameters(methodParams);
+
+        // Only idempotent operations are coalesced by default
+        boolean coalesce = extensions(operation.getExtensions()).getBoolean(EXT_COALESCE).orElse("GET".equals(verb));
+        methodInfo = methodInfo.withCoalesce(coalesce);
+
+        Optional<Duration> cacheTtl = extensions(operation.getExtensions()).getDuration(EXT_CACHE_TTL);
+        if (cacheTtl.isPresent()) {
+            methodInfo = methodInfo.withCache(getCacheInfo(verb, operation, cacheTtl.get(), methodParams));
+        }
+
+        Optional<Integer> hedgeAfterMs = extensions(operation.getExtensions()).getInteger(EXT_HEDGE_AFTER_MS);
+        if (hedgeAfterMs.isPresent()) {
+            methodInfo = methodInfo.withHedgeAfter(getHedgeAfter(verb, operation, hedgeAfterMs.get()));
+        }
+
+        Optional<RateLimitInfo> rateLimit = getRateLimitInfo(operation.getExtensions(), "operation " + operation.getOperationId());
+        if (rateLimit.isPresent()) {
+            methodInfo = methodInfo.withRateLimit(rateLimit.get());
+        }
+
+        Optional<String> batchOperationId = extensions(operation.getExtensions()).getString(EXT_BATCH_OPERATION);
+        if (batchOperationId.isPresent()) {
+            methodInfo = methodInfo.withBatch(getBatchInfo(verb, operation, batchOperationId.get(), methodParams));
+        }
+
+        return methodInfo;
+    }
+
+    private Duration getHedgeAfter(String verb, Operation operation, int hedgeAfterMs) {
+        // A duplicate request is only harmless for safe operations
+        if (!"GET".equals(verb)) {
+            throw new OpenApi2JavaException("Extension %s is only supported for GET operations, not for operation %s".formatted(EXT_HEDGE_AFTER_MS, operation.getOperationId()));
+        }
+        if (hedgeAfterMs < 0) {
+            throw new OpenApi2JavaException("Value of extension %s must not be negative in operation %s".formatted(EXT_HEDGE_AFTER_MS, operation.getOperationId()));
+        }
+
+        return Duration.ofMillis(hedgeAfterMs);
+    }
+
+    private BatchInfo getBatchInfo(String verb, Operation operation, String batchOperationId, List<MethodParamInfo> methodParams) {
+        if (!"GET".equals(verb)) {
+            throw new OpenApi2JavaException("Extension %s is only supported for GET operations, not for operation %s".formatted(EXT_BATCH_OPERATION, operation.getOperationId()));
+        }
+
+        // The single path parameter identifies the item, and is passed as an array element to the batch operation
+        List<MethodParamInfo> pathParams = methodParams.stream().filter(p -> PARAM_IN_PATH.equals(p.in())).toList();
+        if (pathParams.size() != 1) {
+            throw new OpenApi2JavaException("Extension %s requires exactly one path parameter in operation %s".formatted(EXT_BATCH_OPERATION, operation.getOperationId()));
+        }
+
+        String keyProperty = extensions(operation.getExtensions()).getString(EXT_BATCH_KEY_PROPERTY)
+            .map(IdentifierUtils::toJavaIdentifier)
+            .orElse(null);
+
+        int maxSize = extensions(operation.getExtensions()).getInteger(EXT_BATCH_MAX_SIZE).orElse(DEFAULT_BATCH_MAX_SIZE);
+        if (maxSize < 1) {
+            throw new OpenApi2JavaException("Value of extension %s must be positive in operation %s".formatted(EXT_BATCH_MAX_SIZE, operation.getOperationId()));
+        }
 
-        return methodInfo.withAddedParameters(methodParams);
+        return new BatchInfo(toMethodName(batchOperationId), pathParams.get(0).name(), keyProperty, maxSize);
+    }
+
+    private CacheInfo getCacheInfo(String verb, Operation operation, Duration ttl, List<MethodParamInfo> methodParams) {
+        if (!"GET".equals(verb)) {
+            throw new OpenApi2JavaException("Extension %s is only supported for GET operations, not for operation %s".formatted(EXT_CACHE_TTL, operation.getOperationId()));
+        }
+
+        // Path parameters always identify the cached response, and by default all other parameters do as well
+        Optional<List<String>> selectedParams = extensions(operation.getExtensions()).getStringArray(EXT_CACHE_KEY_PARAMS);
+        if (selectedParams.isPresent()) {
+            selectedParams.get().stream()
+                .filter(name -> methodParams.stream().noneMatch(p -> name.equals(p.httpName())))
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new OpenApi2JavaException("Parameter %s in extension %s not found in operation %s".formatted(name, EXT_CACHE_KEY_PARAMS, operation.getOperationId()));
+                });
+        }
+
+        List<String> keyParams = methodParams.stream()
+            .filter(p -> !PARAM_IN_BODY.equals(p.in()) && !PARAM_IN_FORM.equals(p.in()))
+            .filter(p -> PARAM_IN_PATH.equals(p.in()) || selectedParams.map(names -> names.contains(p.httpName())).orElse(true))
+            .map(MethodParamInfo::name)
+            .toList();
+
+        return new CacheInfo(ttl, keyParams);
     }
 
     private String toMethodName(String operationId) {
@@ -180,7 +318,8 @@ public class MethodInfoCollector extends BaseCollector {
                 paramInfo = paramInfo
                     .withType(paramType)
                     .withName(toMethodParamName(realParam.getName()))
-                    .withComment(paramType.description());
+                    .withComment(paramType.description())
+                    .withHttpLocation(realParam.getIn(), realParam.getName());
 
                 if (TRUE.equals(realParam.getDeprecated())) {
                     paramInfo = paramInfo.withDeprecationMessage(formatDeprecationMessage(realParam.getExtensions()));
@@ -265,7 +404,8 @@ public class MethodInfoCollector extends BaseCollector {
         return new MethodParamInfo(toMethodParamName(bodyType.name()))
             .withNullable(false)
             .withType(bodyType)
-            .withComment(bodyType.description());
+            .withComment(bodyType.description())
+            .withHttpLocation(PARAM_IN_BODY, null);
     }
 
     private MethodParamInfo getMultipartPayloadMethodParameter(String name, Schema<?> schema) {
@@ -305,6 +445,7 @@ public class MethodInfoCollector extends BaseCollector {
             .withNullable(bodyType.nullable())
             .withType(bodyType)
             .withComment(bodyType.description())
+            .withHttpLocation(PARAM_IN_FORM, name)
             .withAddedAnnotation(new AnnotationInfo("@RestForm(\"%s\")".formatted(name), "org.jboss.resteasy.reactive.RestForm"))
             .withAddedAnnotation(new AnnotationInfo("@PartType(%s)".formatted(partMediaTypeConstant.value()), "org.jboss.resteasy.reactive.PartType"))
             .withAddedImports(partMediaTypeConstant);
@@ -614,7 +755,8 @@ public class MethodInfoCollector extends BaseCollector {
         return responses.keySet().stream()
             .filter(sc -> sc.startsWith("2"))
             .findFirst()
-            .map(responses::get);
+            .map(responses::get)
+            .map(response -> nonNull(response.get$ref()) ? componentResolver.responses().getOrThrow(response.get$ref()) : response);
     }
 
     private ConstantValue getMediaTypeConstant(String contentType) {
@@ -626,6 +768,30 @@ public class MethodInfoCollector extends BaseCollector {
         }
     }
 
+    private Optional<TypeInfo> getErrorResponseType(ApiResponse response) {
+        ApiResponse realResponse = response;
+        if (nonNull(response.get$ref())) {
+            realResponse = componentResolver.responses().getOrThrow(response.get$ref());
+        }
+
+        if (isNull(realResponse.getContent())) {
+            return Optional.empty();
+        }
+
+        // Only single (non-collection) model types can be decoded into typed exceptions
+        String modelPackagePrefix = opts.rootPackage() + ".";
+        return realResponse.getContent().values().stream()
+            .map(MediaType::getSchema)
+            .filter(Objects::nonNull)
+            .map(typeInfoCollector::getTypeInfo)
+            .filter(t -> isNull(t.itemType()) && t.imports().normalImports().stream().anyMatch(i -> i.startsWith(modelPackagePrefix)))
+            .findFirst();
+    }
+
+    private boolean isErrorStatusCode(String statusCode) {
+        return "default".equals(statusCode) || statusCode.startsWith("4") || statusCode.startsWith("5");
+    }
+
     private boolean isSuccessfulStatusCode(int statusCode) {
         return statusCode >= 200 && statusCode < 300;
     }
@@ -19,6 +19,7 @@ import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotationInfo;
 import io.github.torand.openapi2java.model.PojoInfo;
 import io.github.torand.openapi2java.model.PropertyInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
@@ -29,6 +30,7 @@ import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
 import static io.github.torand.openapi2java.collectors.Extensions.EXT_MODEL_SUBDIR;
 import static io.github.torand.openapi2java.collectors.Extensions.extensions;
+import static io.github.torand.openapi2java.collectors.TypeInfoCollector.NullabilityResolution.FORCE_NOT_NULLABLE;
 import static io.github.torand.openapi2java.utils.StringUtils.joinCsv;
 import static java.lang.Boolean.TRUE;
 
@@ -37,15 +39,39 @@ import static java.lang.Boolean.TRUE;
  */
 public class PojoInfoCollector extends BaseCollector {
     private final PropertyInfoCollector propertyInfoCollector;
+    private final TypeInfoCollector typeInfoCollector;
     private final SchemaResolver schemaResolver;
 
     public PojoInfoCollector(SchemaResolver schemaResolver, Options opts) {
         super(opts);
         this.propertyInfoCollector = new PropertyInfoCollector(schemaResolver, opts);
+        this.typeInfoCollector = new TypeInfoCollector(schemaResolver, opts);
         this.schemaResolver = schemaResolver;
     }
 
     public PojoInfo getPojoInfo(String name, Schema<?> schema) {
+        PojoInfo pojoInfo = getBasePojoInfo(name, schema)
+            .withAddedProperties(getSchemaProperties(schema));
+
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            throw new IllegalStateException("Schema-based 'additionalProperties' not supported for Pojos. Please specify this inside a property schema instead.");
+        }
+
+        return pojoInfo;
+    }
+
+    public PojoInfo getValueClassInfo(String name, Schema<?> schema) {
+        TypeInfo valueType = typeInfoCollector.getTypeInfo(schema, FORCE_NOT_NULLABLE);
+        PropertyInfo valueProperty = new PropertyInfo("value")
+            .withRequired(true)
+            .withType(valueType);
+
+        return getBasePojoInfo(name, schema)
+            .withValueClass(true)
+            .withAddedProperties(List.of(valueProperty));
+    }
+
+    private PojoInfo getBasePojoInfo(String name, Schema<?> schema) {
         PojoInfo pojoInfo = new PojoInfo(name);
 
         Optional<String> maybeModelSubdir = extensions(schema.getExtensions()).getString(EXT_MODEL_SUBDIR);
@@ -56,14 +82,16 @@ public class PojoInfoCollector extends BaseCollector {
             pojoInfo = pojoInfo.withAddedAnnotation(getSchemaAnnotation(name, schema));
         }
 
-        if (TRUE.equals(schema.getDeprecated())) {
-            pojoInfo = pojoInfo.withDeprecationMessage(formatDeprecationMessage(schema.getExtensions()));
+        if (useKotlinSerialization()) {
+            pojoInfo = pojoInfo.withAddedAnnotation(new AnnotationInfo("@Serializable", "kotlinx.serialization.Serializable"));
         }
 
-        pojoInfo = pojoInfo.withAddedProperties(getSchemaProperties(schema));
+        if (opts.addRegisterForReflectionAnnotations()) {
+            pojoInfo = pojoInfo.withAddedAnnotation(new AnnotationInfo("@RegisterForReflection", "io.quarkus.runtime.annotations.RegisterForReflection"));
+        }
 
-        if (schema.getAdditionalProperties() instanceof Schema) {
-            throw new IllegalStateException("Schema-based 'additionalProperties' not supported for Pojos. Please specify this inside a property schema instead.");
+        if (TRUE.equals(schema.getDeprecated())) {
+            pojoInfo = pojoInfo.withDeprecationMessage(formatDeprecationMessage(schema.getExtensions()));
         }
 
         return pojoInfo;
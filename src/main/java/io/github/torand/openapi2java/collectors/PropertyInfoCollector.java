@@ -24,9 +24,11 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 import static io.github.torand.openapi2java.utils.IdentifierUtils.toJavaIdentifier;
+import static io.github.torand.openapi2java.utils.PackageUtils.getClassNameFromFqn;
 import static io.github.torand.openapi2java.utils.StringUtils.escape;
 import static io.github.torand.openapi2java.utils.StringUtils.joinCsv;
 import static java.lang.Boolean.TRUE;
@@ -57,7 +59,11 @@ public class PropertyInfoCollector extends BaseCollector {
             propInfo = propInfo.withAddedAnnotation(schemaAnnotation);
         }
 
-        if (opts.addJsonPropertyAnnotations()) {
+        if (useKotlinSerialization()) {
+            AnnotationInfo serialNameAnnotation = getSerialNameAnnotation(name);
+            propInfo = propInfo.withAddedAnnotation(serialNameAnnotation)
+                .withType(withContextualSerialization(propInfo.type()));
+        } else if (opts.addJsonPropertyAnnotations()) {
             AnnotationInfo jsonPropAnnotation = getJsonPropertyAnnotation(name);
             propInfo = propInfo.withAddedAnnotation(jsonPropAnnotation);
         }
@@ -115,6 +121,38 @@ public class PropertyInfoCollector extends BaseCollector {
         );
     }
 
+    private AnnotationInfo getSerialNameAnnotation(String name) {
+        return new AnnotationInfo(
+            "@SerialName(\"%s\")".formatted(name),
+            "kotlinx.serialization.SerialName"
+        );
+    }
+
+    private TypeInfo withContextualSerialization(TypeInfo typeInfo) {
+        // Types without a built-in serializer must be resolved from the serializers module at runtime
+        if (nonNull(typeInfo.keyType())) {
+            typeInfo = typeInfo.withKeyType(withContextualSerialization(typeInfo.keyType()));
+        }
+        if (nonNull(typeInfo.itemType())) {
+            typeInfo = typeInfo.withItemType(withContextualSerialization(typeInfo.itemType()));
+        }
+        if (getContextualTypeNames().contains(typeInfo.name())) {
+            typeInfo = typeInfo.withAddedAnnotation(new AnnotationInfo("@Contextual", "kotlinx.serialization.Contextual"));
+        }
+        return typeInfo;
+    }
+
+    private Set<String> getContextualTypeNames() {
+        return Set.of(
+            "URI",
+            "UUID",
+            "BigDecimal",
+            getClassNameFromFqn(opts.durationClassName()),
+            getClassNameFromFqn(opts.dateClassName()),
+            getClassNameFromFqn(opts.dateTimeClassName())
+        );
+    }
+
     private AnnotationInfo getJsonPropertyAnnotation(String name) {
         return new AnnotationInfo(
             "@JsonProperty(\"%s\")".formatted(name),
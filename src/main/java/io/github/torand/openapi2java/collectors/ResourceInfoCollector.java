@@ -17,24 +17,35 @@ package io.github.torand.openapi2java.collectors;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotationInfo;
+import io.github.torand.openapi2java.model.BatchInfo;
 import io.github.torand.openapi2java.model.ConstantValue;
 import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.RateLimitInfo;
 import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.model.RestClientConfigInfo;
 import io.github.torand.openapi2java.model.SecurityRequirementInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.tags.Tag;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
 import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_HEDGE_AFTER_MS;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_RESTCLIENT_CONFIG;
 import static io.github.torand.openapi2java.collectors.Extensions.EXT_RESTCLIENT_CONFIGKEY;
 import static io.github.torand.openapi2java.collectors.Extensions.EXT_RESTCLIENT_HEADERS;
 import static io.github.torand.openapi2java.collectors.Extensions.EXT_RESTCLIENT_HEADERSFACTORY;
@@ -49,6 +60,12 @@ import static java.util.Objects.nonNull;
  * Collects information about a resource from a collection of path items.
  */
 public class ResourceInfoCollector extends BaseCollector {
+    private static final String PARAM_IN_BODY = "body";
+
+    // Quarkus REST Client settings supported in the x-restclient-config extension, by type of value
+    private static final Set<String> NUMERIC_RESTCLIENT_SETTINGS = Set.of("connect-timeout", "read-timeout", "connection-pool-size", "connection-ttl");
+    private static final Set<String> BOOLEAN_RESTCLIENT_SETTINGS = Set.of("keep-alive-enabled", "http2", "follow-redirects");
+
     private final MethodInfoCollector methodInfoCollector;
     private final SecurityRequirementCollector securityRequirementCollector;
 
@@ -64,10 +81,55 @@ public class ResourceInfoCollector extends BaseCollector {
 
         if (opts.useResteasyResponse()) {
             resourceInfo = resourceInfo.withAddedNormalImport("org.jboss.resteasy.reactive.RestResponse");
-        } else {
+        } else if (!opts.useTypedReturnValues() && !useKotlinCoroutines()) {
             resourceInfo = resourceInfo.withAddedNormalImport("jakarta.ws.rs.core.Response");
         }
 
+        String tagName = nonNull(tag) ? tag.getName() : null;
+
+        List<MethodInfo> methods = new ArrayList<>();
+        paths.forEach((path, pathInfo) -> {
+            if (shouldProcessOperation(pathInfo.getGet(), tagName)) {
+                methods.add(methodInfoCollector.getMethodInfo("GET", path, pathInfo.getGet()));
+            }
+            if (shouldProcessOperation(pathInfo.getPost(), tagName)) {
+                methods.add(methodInfoCollector.getMethodInfo("POST", path, pathInfo.getPost()));
+            }
+            if (shouldProcessOperation(pathInfo.getDelete(), tagName)) {
+                methods.add(methodInfoCollector.getMethodInfo("DELETE", path, pathInfo.getDelete()));
+            }
+            if (shouldProcessOperation(pathInfo.getPut(), tagName)) {
+                methods.add(methodInfoCollector.getMethodInfo("PUT", path, pathInfo.getPut()));
+            }
+            if (shouldProcessOperation(pathInfo.getPatch(), tagName)) {
+                methods.add(methodInfoCollector.getMethodInfo("PATCH", path, pathInfo.getPatch()));
+            }
+        });
+
+        if (nonNull(tag)) {
+            Optional<Integer> hedgeAfterMs = extensions(tag.getExtensions()).getInteger(EXT_HEDGE_AFTER_MS);
+            if (hedgeAfterMs.isPresent()) {
+                if (hedgeAfterMs.get() < 0) {
+                    throw new OpenApi2JavaException("Value of extension %s must not be negative in tag %s".formatted(EXT_HEDGE_AFTER_MS, tag.getName()));
+                }
+
+                // The tag default applies to the safe operations not specifying their own threshold
+                Duration hedgeAfter = Duration.ofMillis(hedgeAfterMs.get());
+                methods.replaceAll(m -> isNull(m.hedgeAfter()) && "GET".equals(m.httpMethod()) ? m.withHedgeAfter(hedgeAfter) : m);
+            }
+        }
+
+        if (nonNull(tag)) {
+            Optional<RateLimitInfo> rateLimit = getRateLimitInfo(tag.getExtensions(), "tag " + tag.getName());
+            if (rateLimit.isPresent()) {
+                resourceInfo = resourceInfo.withRateLimit(rateLimit.get());
+            }
+        }
+
+        methods.stream()
+            .filter(m -> nonNull(m.batch()))
+            .forEach(m -> verifyBatchMethod(m, methods));
+
         if (nonEmpty(securityRequirements)) {
             SecurityRequirementInfo secReqInfo = securityRequirementCollector.getSequrityRequirementInfo(securityRequirements);
             resourceInfo = resourceInfo.withAddedAnnotation(secReqInfo.annotation());
@@ -99,6 +161,14 @@ public class ResourceInfoCollector extends BaseCollector {
                     List<AnnotationInfo> clientHeaderAnnotations = getClientHeaderParamAnnotations(maybeHeaders.get());
                     resourceInfo = resourceInfo.withAddedAnnotations(clientHeaderAnnotations);
                 }
+
+                Optional<Map<String, Object>> maybeRestClientConfig = extensions(tag.getExtensions())
+                    .getMap(EXT_RESTCLIENT_CONFIG);
+
+                if (maybeRestClientConfig.isPresent()) {
+                    RestClientConfigInfo restClientConfig = getRestClientConfigInfo(configKey, maybeRestClientConfig.get(), tag);
+                    resourceInfo = resourceInfo.withRestClientConfig(restClientConfig);
+                }
             }
 
             String clientHeadersFactory = opts.resourceClientHeadersFactoryOverride();
@@ -124,6 +194,16 @@ public class ResourceInfoCollector extends BaseCollector {
                     emptyList();
             }
 
+            if (opts.generateResponseExceptionMappers() && !opts.useKotlinSyntax() && methods.stream().anyMatch(MethodInfo::hasErrorResponseTypes)) {
+                providers = new ArrayList<>(providers);
+                providers.add(opts.rootPackage() + "." + ResourceInfo.getExceptionMapperName(resourceInfo.name()));
+            }
+
+            if (!opts.useKotlinSyntax() && (nonNull(resourceInfo.rateLimit()) || methods.stream().anyMatch(m -> nonNull(m.rateLimit())))) {
+                providers = new ArrayList<>(providers);
+                providers.add(opts.rootPackage() + "." + ResourceInfo.getRateLimitFilterName(resourceInfo.name()));
+            }
+
             if (nonEmpty(providers)) {
                 List<AnnotationInfo> registerProviderAnnotations = getRegisterProviderAnnotations(providers);
                 resourceInfo = resourceInfo.withAddedAnnotations(registerProviderAnnotations);
@@ -138,34 +218,53 @@ public class ResourceInfoCollector extends BaseCollector {
         AnnotationInfo pathAnnotation = getPathAnnotation(resourceInfo);
         resourceInfo = resourceInfo.withAddedAnnotation(pathAnnotation);
 
-        String tagName = nonNull(tag) ? tag.getName() : null;
-
-        List<MethodInfo> methods = new ArrayList<>();
-        paths.forEach((path, pathInfo) -> {
-            if (shouldProcessOperation(pathInfo.getGet(), tagName)) {
-                methods.add(methodInfoCollector.getMethodInfo("GET", path, pathInfo.getGet()));
-            }
-            if (shouldProcessOperation(pathInfo.getPost(), tagName)) {
-                methods.add(methodInfoCollector.getMethodInfo("POST", path, pathInfo.getPost()));
-            }
-            if (shouldProcessOperation(pathInfo.getDelete(), tagName)) {
-                methods.add(methodInfoCollector.getMethodInfo("DELETE", path, pathInfo.getDelete()));
-            }
-            if (shouldProcessOperation(pathInfo.getPut(), tagName)) {
-                methods.add(methodInfoCollector.getMethodInfo("PUT", path, pathInfo.getPut()));
-            }
-            if (shouldProcessOperation(pathInfo.getPatch(), tagName)) {
-                methods.add(methodInfoCollector.getMethodInfo("PATCH", path, pathInfo.getPatch()));
-            }
-        });
-
         for (MethodInfo method : methods) {
             resourceInfo = resourceInfo.withAddedMethod(method);
         }
 
+        // With typed return values or coroutines, the untyped response is only needed when a single return type could not be inferred
+        if (!opts.useResteasyResponse() && (opts.useTypedReturnValues() || useKotlinCoroutines()) && methods.stream().anyMatch(MethodInfo::hasAmbiguousReturnType)) {
+            resourceInfo = resourceInfo.withAddedNormalImport("jakarta.ws.rs.core.Response");
+        }
+
         return resourceInfo;
     }
 
+    private void verifyBatchMethod(MethodInfo methodInfo, List<MethodInfo> methods) {
+        BatchInfo batch = methodInfo.batch();
+        MethodInfo batchMethod = methods.stream()
+            .filter(m -> m.name().equals(batch.batchMethodName()))
+            .findFirst()
+            .orElseThrow(() -> new OpenApi2JavaException("Batch operation %s of operation %s not found in the same resource".formatted(batch.batchMethodName(), methodInfo.name())));
+
+        MethodParamInfo keyParam = methodInfo.parameters().stream()
+            .filter(p -> p.name().equals(batch.keyParam()))
+            .findFirst()
+            .orElseThrow();
+
+        List<MethodParamInfo> bodyParams = batchMethod.parameters().stream().filter(p -> PARAM_IN_BODY.equals(p.in())).toList();
+        if (bodyParams.size() != 1 || !isListOf(bodyParams.get(0).type(), keyParam.type())) {
+            throw new OpenApi2JavaException("Batch operation %s must take an array of %s as request body".formatted(batchMethod.name(), keyParam.type().getFullName()));
+        }
+
+        if (isNull(methodInfo.responseType()) || isNull(batchMethod.responseType()) || !isListOf(batchMethod.responseType(), methodInfo.responseType())) {
+            throw new OpenApi2JavaException("Batch operation %s must return an array of the response type of operation %s".formatted(batchMethod.name(), methodInfo.name()));
+        }
+
+        // The other parameters of the batch operation are passed on from the single-item call
+        batchMethod.parameters().stream()
+            .filter(p -> !PARAM_IN_BODY.equals(p.in()))
+            .filter(p -> p.name().equals(batch.keyParam()) || methodInfo.parameters().stream().noneMatch(sp -> sp.name().equals(p.name())))
+            .findFirst()
+            .ifPresent(p -> {
+                throw new OpenApi2JavaException("Parameter %s of batch operation %s not found in operation %s".formatted(p.name(), batchMethod.name(), methodInfo.name()));
+            });
+    }
+
+    private static boolean isListOf(TypeInfo listType, TypeInfo itemType) {
+        return "List".equals(listType.name()) && nonNull(listType.itemType()) && listType.itemType().getFullName().equals(itemType.getFullName());
+    }
+
     private List<AnnotationInfo> getRegisterProviderAnnotations(List<String> providers) {
         List<AnnotationInfo> registerProviderAnnotations = new ArrayList<>();
 
@@ -180,6 +279,28 @@ public class ResourceInfoCollector extends BaseCollector {
         return registerProviderAnnotations;
     }
 
+    private static RestClientConfigInfo getRestClientConfigInfo(String configKey, Map<String, Object> config, Tag tag) {
+        Map<String, String> settings = new TreeMap<>();
+
+        config.forEach((name, value) -> {
+            if (NUMERIC_RESTCLIENT_SETTINGS.contains(name)) {
+                if (!(value instanceof Integer || value instanceof Long) || ((Number)value).longValue() < 0) {
+                    throw new OpenApi2JavaException("Value of setting %s in extension %s of tag %s is not a non-negative integer".formatted(name, EXT_RESTCLIENT_CONFIG, tag.getName()));
+                }
+            } else if (BOOLEAN_RESTCLIENT_SETTINGS.contains(name)) {
+                if (!(value instanceof Boolean)) {
+                    throw new OpenApi2JavaException("Value of setting %s in extension %s of tag %s is not a Boolean".formatted(name, EXT_RESTCLIENT_CONFIG, tag.getName()));
+                }
+            } else {
+                throw new OpenApi2JavaException("Setting %s in extension %s of tag %s is not supported".formatted(name, EXT_RESTCLIENT_CONFIG, tag.getName()));
+            }
+
+            settings.put(name, value.toString());
+        });
+
+        return new RestClientConfigInfo(configKey, settings);
+    }
+
     private static AnnotationInfo getOidcClientFilterAnnotation(String configKey) {
         return new AnnotationInfo(
             "@OidcClientFilter(\"%s\")".formatted(configKey),
@@ -240,4 +361,8 @@ public class ResourceInfoCollector extends BaseCollector {
 
         return nonNull(operation.getTags()) && operation.getTags().contains(tag);
     }
+
+    private boolean useKotlinCoroutines() {
+        return opts.useKotlinSyntax() && opts.useKotlinCoroutines();
+    }
 }
@@ -17,11 +17,13 @@ package io.github.torand.openapi2java.collectors;
 
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
 import static io.github.torand.javacommons.lang.Exceptions.illegalStateException;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_KOTLIN_VALUE_CLASS;
 import static io.github.torand.openapi2java.collectors.Extensions.EXT_MODEL_SUBDIR;
 import static io.github.torand.openapi2java.collectors.Extensions.extensions;
 import static java.util.Objects.nonNull;
@@ -30,25 +32,58 @@ import static java.util.Objects.nonNull;
  * Resolves schema components referenced in an OpenAPI specification.
  */
 public class SchemaResolver {
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private static final int ENUM = 1;
+    private static final int OBJECT = 1 << 1;
+    private static final int ARRAY = 1 << 2;
+    private static final int COMPOUND = 1 << 3;
+    private static final int PRIMITIVE = 1 << 4;
+    private static final int VALUE_CLASS = 1 << 5;
+
+    /**
+     * Precomputed information about a schema component.
+     * @param schema the schema.
+     * @param typeName the type name.
+     * @param modelSubpackage the model subpackage, if any.
+     * @param classification the classification flags.
+     */
+    private record SchemaEntry(Schema<?> schema, String typeName, Optional<String> modelSubpackage, int classification) {
+        boolean is(int flag) {
+            return (classification & flag) != 0;
+        }
+    }
+
     private final Map<String, Schema<?>> schemas;
+    private final Map<String, SchemaEntry> entriesByRef;
+    private final TypeInterner typeInterner = new TypeInterner();
 
     SchemaResolver(Map<String, Schema<?>> schemas) {
         this.schemas = schemas;
+        this.entriesByRef = buildIndex(schemas);
+    }
+
+    /**
+     * Gets the interner sharing type descriptors of the schemas, for as long as this resolver is in use.
+     * @return the type interner.
+     */
+    public TypeInterner getTypeInterner() {
+        return typeInterner;
     }
 
     public String getTypeName(String ref) {
-        return ref.replace("#/components/schemas/", "");
+        SchemaEntry entry = entriesByRef.get(ref);
+        return nonNull(entry) ? entry.typeName() : ref.replace(SCHEMA_REF_PREFIX, "");
     }
 
     public Optional<String> getModelSubpackage(String ref) {
-        Schema<?> schema = getOrThrow(ref);
-        return extensions(schema.getExtensions())
-            .getString(EXT_MODEL_SUBDIR)
-            .map(subdir -> subdir.replace("/", "."));
+        SchemaEntry entry = entriesByRef.get(ref);
+        return nonNull(entry) ? entry.modelSubpackage() : getModelSubpackage(getOrThrow(ref));
     }
 
     public Optional<Schema<?>> get(String ref) {
-        return Optional.ofNullable(schemas.get(getTypeName(ref)));
+        SchemaEntry entry = entriesByRef.get(ref);
+        return nonNull(entry) ? Optional.of(entry.schema()) : Optional.ofNullable(nonNull(schemas) ? schemas.get(getTypeName(ref)) : null);
     }
 
     public Schema<?> getOrThrow(String ref) {
@@ -56,23 +91,71 @@ public class SchemaResolver {
     }
 
     public boolean isEnumType(String ref) {
-        return get(ref).map(SchemaResolver::isEnumType).orElse(false);
+        return is(ref, ENUM);
     }
 
     public boolean isObjectType(String ref) {
-        return get(ref).map(SchemaResolver::isObjectType).orElse(false);
+        return is(ref, OBJECT);
     }
 
     public boolean isArrayType(String ref) {
-        return get(ref).map(SchemaResolver::isArrayType).orElse(false);
+        return is(ref, ARRAY);
     }
 
     public boolean isCompoundType(String ref) {
-        return get(ref).map(SchemaResolver::isCompoundType).orElse(false);
+        return is(ref, COMPOUND);
     }
 
     public boolean isPrimitiveType(String ref) {
-        return get(ref).map(SchemaResolver::isPrimitiveType).orElse(false);
+        return is(ref, PRIMITIVE);
+    }
+
+    public boolean isValueClassType(String ref) {
+        return is(ref, VALUE_CLASS);
+    }
+
+    private boolean is(String ref, int flag) {
+        SchemaEntry entry = entriesByRef.get(ref);
+        return nonNull(entry) ? entry.is(flag) : get(ref).map(schema -> (classify(schema) & flag) != 0).orElse(false);
+    }
+
+    private static Map<String, SchemaEntry> buildIndex(Map<String, Schema<?>> schemas) {
+        Map<String, SchemaEntry> entriesByRef = new HashMap<>();
+        if (nonNull(schemas)) {
+            schemas.forEach((name, schema) ->
+                entriesByRef.put(SCHEMA_REF_PREFIX + name, new SchemaEntry(schema, name, getModelSubpackage(schema), classify(schema)))
+            );
+        }
+        return entriesByRef;
+    }
+
+    private static Optional<String> getModelSubpackage(Schema<?> schema) {
+        return extensions(schema.getExtensions())
+            .getString(EXT_MODEL_SUBDIR)
+            .map(subdir -> subdir.replace("/", "."));
+    }
+
+    private static int classify(Schema<?> schema) {
+        int classification = 0;
+        if (isEnumType(schema)) {
+            classification |= ENUM;
+        }
+        if (isObjectType(schema)) {
+            classification |= OBJECT;
+        }
+        if (isArrayType(schema)) {
+            classification |= ARRAY;
+        }
+        if (isCompoundType(schema)) {
+            classification |= COMPOUND;
+        }
+        if (isPrimitiveType(schema)) {
+            classification |= PRIMITIVE;
+        }
+        if (isValueClassType(schema)) {
+            classification |= VALUE_CLASS;
+        }
+        return classification;
     }
 
     public static boolean isEnumType(Schema<?> schema) {
@@ -97,4 +180,11 @@ public class SchemaResolver {
     public static boolean isPrimitiveType(Schema<?> schema) {
         return !isEnumType(schema) && !isObjectType(schema) && !isArrayType(schema) && !isCompoundType(schema);
     }
+
+    /**
+     * Indicates if schema represents a primitive JSON type to be wrapped in a Kotlin value class
+     */
+    public static boolean isValueClassType(Schema<?> schema) {
+        return isPrimitiveType(schema) && extensions(schema.getExtensions()).getBoolean(EXT_KOTLIN_VALUE_CLASS).orElse(false);
+    }
 }
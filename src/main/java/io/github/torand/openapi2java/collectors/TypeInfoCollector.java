@@ -49,13 +49,21 @@ import static java.util.function.Predicate.not;
  * Collects information about a type from a schema.
  */
 public class TypeInfoCollector extends BaseCollector {
+    private static final AnnotationInfo VALID_ANNOTATION = new AnnotationInfo("@Valid", "jakarta.validation.Valid");
+    private static final AnnotationInfo NOT_NULL_ANNOTATION = new AnnotationInfo("@NotNull", "jakarta.validation.constraints.NotNull");
+    private static final AnnotationInfo NOT_BLANK_ANNOTATION = new AnnotationInfo("@NotBlank", "jakarta.validation.constraints.NotBlank");
+    private static final AnnotationInfo NOT_EMPTY_ANNOTATION = new AnnotationInfo("@NotEmpty", "jakarta.validation.constraints.NotEmpty");
+    private static final AnnotationInfo EMAIL_ANNOTATION = new AnnotationInfo("@Email", "jakarta.validation.constraints.Email");
+
     public enum NullabilityResolution {FROM_SCHEMA, FORCE_NULLABLE, FORCE_NOT_NULLABLE}
 
     private final SchemaResolver schemaResolver;
+    private final TypeInterner typeInterner;
 
     public TypeInfoCollector(SchemaResolver schemaResolver, Options opts) {
         super(opts);
         this.schemaResolver = schemaResolver;
+        this.typeInterner = schemaResolver.getTypeInterner();
     }
 
     public <T> TypeInfo getTypeInfo(Schema<T> schema) {
@@ -63,6 +71,10 @@ public class TypeInfoCollector extends BaseCollector {
     }
 
     public TypeInfo getTypeInfo(Schema<?> schema, NullabilityResolution nullabilityResolution) {
+        return typeInterner.intern(collectTypeInfo(schema, nullabilityResolution));
+    }
+
+    private TypeInfo collectTypeInfo(Schema<?> schema, NullabilityResolution nullabilityResolution) {
         if (isEmpty(schema.getTypes())) {
 
             boolean nullable = isNullable(schema, nullabilityResolution);
@@ -89,7 +101,8 @@ public class TypeInfoCollector extends BaseCollector {
             if (nonBlank(ref)) {
                 TypeInfo typeInfo;
 
-                if (schemaResolver.isPrimitiveType(ref) || schemaResolver.isArrayType(ref)) {
+                boolean isValueClass = opts.useKotlinSyntax() && schemaResolver.isValueClassType(ref);
+                if (!isValueClass && (schemaResolver.isPrimitiveType(ref) || schemaResolver.isArrayType(ref))) {
                     Schema<?> refSchema = schemaResolver.getOrThrow(ref);
                     typeInfo = getTypeInfo(refSchema, nullable ? FORCE_NULLABLE : FORCE_NOT_NULLABLE);
                 } else {
@@ -156,16 +169,18 @@ public class TypeInfoCollector extends BaseCollector {
             throw new IllegalStateException("Unexpected schema: %s".formatted(schema.toString()));
         }
 
-        Optional<String> maybeJsonSerializer = extensions(schema.getExtensions()).getString(EXT_JSON_SERIALIZER);
-        if (maybeJsonSerializer.isPresent()) {
-            AnnotationInfo jsonSerializeAnnotation = getJsonSerializeAnnotation(maybeJsonSerializer.get());
-            typeInfo = typeInfo.withAddedAnnotation(jsonSerializeAnnotation);
-        }
+        if (!useKotlinSerialization()) {
+            Optional<String> maybeJsonSerializer = extensions(schema.getExtensions()).getString(EXT_JSON_SERIALIZER);
+            if (maybeJsonSerializer.isPresent()) {
+                AnnotationInfo jsonSerializeAnnotation = getJsonSerializeAnnotation(maybeJsonSerializer.get());
+                typeInfo = typeInfo.withAddedAnnotation(jsonSerializeAnnotation);
+            }
 
-        Optional<String> maybeJsonDeserializer = extensions(schema.getExtensions()).getString(EXT_JSON_DESERIALIZER);
-        if (maybeJsonDeserializer.isPresent()) {
-            AnnotationInfo jsonDeserializeAnnotation = getJsonDeserializeAnnotation(maybeJsonDeserializer.get());
-            typeInfo = typeInfo.withAddedAnnotation(jsonDeserializeAnnotation);
+            Optional<String> maybeJsonDeserializer = extensions(schema.getExtensions()).getString(EXT_JSON_DESERIALIZER);
+            if (maybeJsonDeserializer.isPresent()) {
+                AnnotationInfo jsonDeserializeAnnotation = getJsonDeserializeAnnotation(maybeJsonDeserializer.get());
+                typeInfo = typeInfo.withAddedAnnotation(jsonDeserializeAnnotation);
+            }
         }
 
         Optional<String> maybeValidationConstraint = extensions(schema.getExtensions()).getString(EXT_VALIDATION_CONSTRAINT);
@@ -214,7 +229,7 @@ public class TypeInfoCollector extends BaseCollector {
                 typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
             }
             Optional<String> maybeJsonFormat = extensions(schema.getExtensions()).getString(EXT_JSON_FORMAT);
-            if (maybeJsonFormat.isPresent()) {
+            if (maybeJsonFormat.isPresent() && !useKotlinSerialization()) {
                 AnnotationInfo jsonFormatAnnotation = getJsonFormatAnnotation(maybeJsonFormat.get());
                 typeInfo = typeInfo.withAddedAnnotation(jsonFormatAnnotation);
             }
@@ -227,7 +242,7 @@ public class TypeInfoCollector extends BaseCollector {
                 typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
             }
             Optional<String> maybeJsonFormat = extensions(schema.getExtensions()).getString(EXT_JSON_FORMAT);
-            if (maybeJsonFormat.isPresent()) {
+            if (maybeJsonFormat.isPresent() && !useKotlinSerialization()) {
                 AnnotationInfo jsonFormatAnnotation = getJsonFormatAnnotation(maybeJsonFormat.get());
                 typeInfo = typeInfo.withAddedAnnotation(jsonFormatAnnotation);
             }
@@ -441,57 +456,47 @@ public class TypeInfoCollector extends BaseCollector {
     }
 
     private AnnotationInfo getJsonFormatAnnotation(String pattern) {
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@JsonFormat(pattern = \"%s\")".formatted(escape(pattern)),
-            "com.fasterxml.jackson.annotation.JsonFormat");
+            "com.fasterxml.jackson.annotation.JsonFormat"));
     }
 
     private AnnotationInfo getValidAnnotation() {
-        return new AnnotationInfo(
-            "@Valid",
-            "jakarta.validation.Valid");
+        return VALID_ANNOTATION;
     }
 
     private AnnotationInfo getNotNullAnnotation() {
-        return new AnnotationInfo(
-            "@NotNull",
-            "jakarta.validation.constraints.NotNull");
+        return NOT_NULL_ANNOTATION;
     }
 
     private AnnotationInfo getNotBlankAnnotation() {
-        return new AnnotationInfo(
-            "@NotBlank",
-            "jakarta.validation.constraints.NotBlank");
+        return NOT_BLANK_ANNOTATION;
     }
 
     private AnnotationInfo getNotEmptyAnnotation() {
-        return new AnnotationInfo(
-            "@NotEmpty",
-            "jakarta.validation.constraints.NotEmpty");
+        return NOT_EMPTY_ANNOTATION;
     }
 
     private AnnotationInfo getMinAnnotation(Schema<?> schema) {
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@Min(%d)".formatted(schema.getMinimum().longValue()),
-            "jakarta.validation.constraints.Min");
+            "jakarta.validation.constraints.Min"));
     }
 
     private AnnotationInfo getMaxAnnotation(Schema<?> schema) {
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@Max(%d)".formatted(schema.getMaximum().longValue()),
-            "jakarta.validation.constraints.Max");
+            "jakarta.validation.constraints.Max"));
     }
 
     private AnnotationInfo getPatternAnnotation(Schema<?> schema) {
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@Pattern(regexp = \"%s\")".formatted(escape(schema.getPattern())),
-            "jakarta.validation.constraints.Pattern");
+            "jakarta.validation.constraints.Pattern"));
     }
 
     private AnnotationInfo getEmailAnnotation() {
-        return new AnnotationInfo(
-            "@Email",
-            "jakarta.validation.constraints.Email");
+        return EMAIL_ANNOTATION;
     }
 
     private AnnotationInfo getArraySizeAnnotation(Schema<?> schema) {
@@ -502,9 +507,9 @@ public class TypeInfoCollector extends BaseCollector {
         if (nonNull(schema.getMaxItems())) {
             sizeParams.add("max = %d".formatted(schema.getMaxItems()));
         }
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@Size(%s)".formatted(joinCsv(sizeParams)),
-            "jakarta.validation.constraints.Size");
+            "jakarta.validation.constraints.Size"));
     }
 
     private AnnotationInfo getStringSizeAnnotation(Schema<?> schema) {
@@ -515,9 +520,9 @@ public class TypeInfoCollector extends BaseCollector {
         if (nonNull(schema.getMaxLength())) {
             sizeParams.add("max = %d".formatted(schema.getMaxLength()));
         }
-        return new AnnotationInfo(
+        return typeInterner.intern(new AnnotationInfo(
             "@Size(%s)".formatted(joinCsv(sizeParams)),
-            "jakarta.validation.constraints.Size");
+            "jakarta.validation.constraints.Size"));
     }
 
     private String getClassRefFromFullyQualifiedClassName(String fullyQualifiedClassName) {
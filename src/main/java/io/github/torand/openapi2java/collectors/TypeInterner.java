@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.collectors;
+
+import io.github.torand.openapi2java.model.AnnotationInfo;
+import io.github.torand.openapi2java.model.ImportInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
+import io.github.torand.openapi2java.utils.Interner;
+
+/**
+ * Shares structurally identical type, annotation and import descriptors across use sites within a generation run.
+ */
+public class TypeInterner {
+    private final Interner<ImportInfo> importInterner = new Interner<>();
+    private final Interner<AnnotationInfo> annotationInterner = new Interner<>();
+    private final Interner<TypeInfo> typeInterner = new Interner<>();
+
+    /**
+     * Gets the canonical instance of specified imports.
+     * @param imports the imports.
+     * @return the canonical imports.
+     */
+    ImportInfo intern(ImportInfo imports) {
+        return importInterner.intern(imports);
+    }
+
+    /**
+     * Gets the canonical instance of specified annotation.
+     * @param annotation the annotation.
+     * @return the canonical annotation.
+     */
+    AnnotationInfo intern(AnnotationInfo annotation) {
+        return annotationInterner.intern(annotation, a -> new AnnotationInfo(a.annotation(), intern(a.imports())));
+    }
+
+    /**
+     * Gets the canonical instance of specified type.
+     * @param typeInfo the type.
+     * @return the canonical type.
+     */
+    TypeInfo intern(TypeInfo typeInfo) {
+        return typeInterner.intern(typeInfo, t -> new TypeInfo(
+            t.name(),
+            t.description(),
+            t.nullable(),
+            intern(t.keyType()),
+            t.primitive(),
+            intern(t.itemType()),
+            t.schemaFormat(),
+            t.schemaPattern(),
+            t.schemaMinLength(),
+            t.schemaMaxLength(),
+            t.annotations().stream().map(this::intern).toList(),
+            intern(t.imports())
+        ));
+    }
+
+    /**
+     * Gets the number of distinct descriptors interned.
+     * @return the number of distinct descriptors.
+     */
+    public int getInstanceCount() {
+        return importInterner.size() + annotationInterner.size() + typeInterner.size();
+    }
+
+    /**
+     * Gets the number of descriptors replaced by an existing, structurally identical instance.
+     * @return the number of descriptors replaced.
+     */
+    public int getSharedCount() {
+        return importInterner.hitCount() + annotationInterner.hitCount() + typeInterner.hitCount();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.generators;
+
+import io.github.torand.openapi2java.collectors.ComponentResolver;
+import io.github.torand.openapi2java.collectors.TypeInterner;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Generates all enabled source code and configuration files, by running the individual generators in order.
+ */
+public class CodeGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(CodeGenerator.class);
+
+    private final Options opts;
+
+    public CodeGenerator(Options opts) {
+        this.opts = opts;
+    }
+
+    /**
+     * Runs all enabled generators.
+     * @param openApiDoc the OpenAPI specification.
+     */
+    public void generate(OpenAPI openApiDoc) {
+        generate(openApiDoc, stage -> {});
+    }
+
+    /**
+     * Runs all enabled generators, notifying specified listener after each major stage.
+     * @param openApiDoc the OpenAPI specification.
+     * @param stageListener the listener receiving a description of each completed stage.
+     */
+    public void generate(OpenAPI openApiDoc, Consumer<String> stageListener) {
+        // The component maps are indexed once and shared by all generators
+        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+
+        ModelGenerator modelGenerator = new ModelGenerator(opts);
+        modelGenerator.generate(openApiDoc, componentResolver);
+        stageListener.accept("generating model");
+
+        List<String> resourceInterfaceNames = emptyList();
+        if (opts.generateResourceInterfaces()) {
+            ResourceGenerator resourceGenerator = new ResourceGenerator(opts);
+            resourceGenerator.generate(openApiDoc, componentResolver);
+            resourceInterfaceNames = resourceGenerator.getGeneratedClassNames();
+            stageListener.accept("generating resources");
+        }
+
+        if (opts.verbose()) {
+            TypeInterner typeInterner = componentResolver.schemas().getTypeInterner();
+            logger.info("Shared {} type descriptors among {} use sites", typeInterner.getInstanceCount(), typeInterner.getInstanceCount() + typeInterner.getSharedCount());
+        }
+
+        if (opts.generateOpenApiDefClass()) {
+            OpenApiDefGenerator openApiDefGenerator = new OpenApiDefGenerator(opts);
+            openApiDefGenerator.generate(openApiDoc, componentResolver);
+        }
+
+        if (opts.generateNativeImageConfig()) {
+            NativeImageConfigGenerator nativeImageConfigGenerator = new NativeImageConfigGenerator(opts);
+            nativeImageConfigGenerator.generate(modelGenerator.getGeneratedClassNames(), resourceInterfaceNames);
+        }
+
+        if (opts.generateStaticOpenApiFile()) {
+            StaticOpenApiFileGenerator staticOpenApiFileGenerator = new StaticOpenApiFileGenerator(opts);
+            staticOpenApiFileGenerator.generate(openApiDoc);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.generators;
+
+import io.github.torand.openapi2java.readers.OpenApiReader;
+import io.github.torand.openapi2java.writers.SourceArchive;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+import static io.github.torand.openapi2java.writers.WriterFactory.closeSourceArchive;
+import static io.github.torand.openapi2java.writers.WriterFactory.openSourceArchive;
+
+/**
+ * Generates source code and configuration files in memory, without touching the file system.
+ * Paths of generated files are relative to the output directory of the options, using '/' as separator.
+ * Instances are stateless and may be used concurrently from multiple threads.
+ */
+public class InMemoryGenerator {
+    private final Options opts;
+
+    public InMemoryGenerator(Options opts) {
+        this.opts = isBlank(opts.outputDir()) ? opts.withOutputDir(".") : opts;
+    }
+
+    /**
+     * Reads the OpenAPI specification at specified location and generates all enabled files.
+     * @param openApiLocation the path or URL of the OpenAPI specification.
+     * @return the content of generated files, keyed and ordered by path.
+     */
+    public Map<String, String> generate(String openApiLocation) {
+        return generate(new OpenApiReader(opts).read(openApiLocation));
+    }
+
+    /**
+     * Generates all enabled files for specified OpenAPI specification.
+     * @param openApiDoc the OpenAPI specification.
+     * @return the content of generated files, keyed and ordered by path.
+     */
+    public Map<String, String> generate(OpenAPI openApiDoc) {
+        Map<String, String> generatedFiles = new TreeMap<>();
+        generate(openApiDoc, generatedFiles::put);
+        return generatedFiles;
+    }
+
+    /**
+     * Generates all enabled files for specified OpenAPI specification, passing each file to specified consumer as soon as it is complete.
+     * @param openApiDoc the OpenAPI specification.
+     * @param fileConsumer the consumer of generated file path and content.
+     */
+    public void generate(OpenAPI openApiDoc, BiConsumer<String, String> fileConsumer) {
+        openSourceArchive(new SourceArchive(opts.outputDir(), fileConsumer));
+        try {
+            new CodeGenerator(opts).generate(openApiDoc);
+        } finally {
+            closeSourceArchive();
+        }
+    }
+}
@@ -46,7 +46,6 @@ import static io.github.torand.openapi2java.utils.StringUtils.pluralSuffix;
 import static io.github.torand.openapi2java.writers.WriterFactory.createEnumWriter;
 import static io.github.torand.openapi2java.writers.WriterFactory.createPojoWriter;
 import static java.util.Objects.nonNull;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * Generates source code for models (pojos).
@@ -55,14 +54,30 @@ public class ModelGenerator {
     private static final Logger logger = LoggerFactory.getLogger(ModelGenerator.class);
 
     private final Options opts;
+    private final List<String> generatedClassNames = new ArrayList<>();
 
     public ModelGenerator(Options opts) {
         this.opts = opts;
     }
 
+    /**
+     * Gets the fully qualified names of the enums and pojos generated so far.
+     * @return the generated class names.
+     */
+    public List<String> getGeneratedClassNames() {
+        return List.copyOf(generatedClassNames);
+    }
+
     public void generate(OpenAPI openApiDoc) {
-        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+        generate(openApiDoc, new ComponentResolver(openApiDoc));
+    }
 
+    /**
+     * Generates the model, resolving component references with specified resolver.
+     * @param openApiDoc the OpenAPI specification.
+     * @param componentResolver the component resolver of the OpenAPI specification.
+     */
+    public void generate(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         // Generate pojos and enums referenced by included tags only
         Set<String> relevantPojos = getRelevantPojos(openApiDoc, componentResolver);
 
@@ -78,7 +93,7 @@ public class ModelGenerator {
                     enumCount.incrementAndGet();
                 }
 
-                if (isClass(schema)) {
+                if (isClass(schema) || isValueClass(schema)) {
                     generatePojoFile(pojoName, schema, componentResolver.schemas());
                     pojoCount.incrementAndGet();
                 }
@@ -101,6 +116,7 @@ public class ModelGenerator {
         String enumFilename = name + opts.getFileExtension();
         try (EnumWriter enumWriter = createEnumWriter(enumFilename, opts, enumInfo.modelSubdir())) {
             enumWriter.write(enumInfo);
+            generatedClassNames.add(opts.getModelPackage(enumInfo.modelSubpackage()) + "." + enumInfo.name());
         } catch (IOException e) {
             throw new OpenApi2JavaException("Failed to write file %s".formatted(enumFilename), e);
         }
@@ -112,11 +128,14 @@ public class ModelGenerator {
         }
 
         PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(schemaResolver, opts);
-        PojoInfo pojoInfo = pojoInfoCollector.getPojoInfo(name, schema);
+        PojoInfo pojoInfo = isValueClass(schema)
+            ? pojoInfoCollector.getValueClassInfo(name, schema)
+            : pojoInfoCollector.getPojoInfo(name, schema);
 
         String pojoFilename = name + opts.getFileExtension();
         try (PojoWriter pojoWriter = createPojoWriter(pojoFilename, opts, pojoInfo.modelSubdir())) {
             pojoWriter.write(pojoInfo);
+            generatedClassNames.add(opts.getModelPackage(pojoInfo.modelSubpackage()) + "." + pojoInfo.name());
         } catch (IOException e) {
             throw new OpenApi2JavaException("Failed to write file %s".formatted(pojoFilename), e);
         }
@@ -125,7 +144,12 @@ public class ModelGenerator {
     private Set<String> getRelevantPojos(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         record PathOperation(String path, String method, Operation operation) {}
 
-        return openApiDoc.getPaths().entrySet().stream()
+        // Shared across operations, so each referenced schema is traversed once only
+        Set<String> relevantPojos = new HashSet<>();
+        Set<String> visitedRefs = new HashSet<>();
+        TypeInfoCollector typeInfoCollector = new TypeInfoCollector(componentResolver.schemas(), opts);
+
+        openApiDoc.getPaths().entrySet().stream()
             .flatMap(entry -> {
                 var path = entry.getKey();
                 var pathItem = entry.getValue();
@@ -138,25 +162,25 @@ public class ModelGenerator {
                     new PathOperation(path, "PATCH", pathItem.getPatch())
                 ).filter(po -> po.operation != null);
             })
-            .map(pathOperation -> {
+            .forEach(pathOperation -> {
                 try {
                     if (opts.verbose()) {
                         logger.info("Getting relevant Pojos for {} {}", pathOperation.method, pathOperation.path);
                     }
 
-                    return getRelevantPojosForOperation(pathOperation.operation(), componentResolver);
+                    Set<String> operationPojos = getRelevantPojosForOperation(pathOperation.operation(), componentResolver, typeInfoCollector);
+                    relevantPojos.addAll(operationPojos);
+                    relevantPojos.addAll(getNestedPojos(operationPojos, componentResolver.schemas(), typeInfoCollector, visitedRefs));
                 } catch (RuntimeException e) {
                     throw new IllegalArgumentException("Failed to get relevant Pojos for %s %s"
                         .formatted(pathOperation.method, pathOperation.path), e);
                 }
-            })
-            .flatMap(Collection::stream)
-            .collect(toSet());
-    }
+            });
 
-    private Set<String> getRelevantPojosForOperation(Operation operation, ComponentResolver componentResolver) {
-        TypeInfoCollector typeInfoCollector = new TypeInfoCollector(componentResolver.schemas(), opts);
+        return relevantPojos;
+    }
 
+    private Set<String> getRelevantPojosForOperation(Operation operation, ComponentResolver componentResolver, TypeInfoCollector typeInfoCollector) {
         Set<String> relevantPojos = new HashSet<>();
 
         if (isEmpty(operation.getTags()) || isRelevantTag(operation)) {
@@ -206,43 +230,43 @@ public class ModelGenerator {
             }
         }
 
-        relevantPojos.addAll(getNestedPojos(relevantPojos, componentResolver.schemas()));
-
         return relevantPojos;
     }
 
-    private Set<String> getNestedPojos(Set<String> parentPojos, SchemaResolver schemaResolver) {
-        TypeInfoCollector typeInfoCollector = new TypeInfoCollector(schemaResolver, opts);
-
+    private Set<String> getNestedPojos(Set<String> parentPojos, SchemaResolver schemaResolver, TypeInfoCollector typeInfoCollector, Set<String> visitedRefs) {
         Set<String> nestedPojos = new HashSet<>();
         parentPojos.forEach(pojo -> {
             String schemaRef = "#/components/schemas/" + stripTail(pojo, opts.pojoNameSuffix().length());
-            schemaResolver.get(schemaRef).ifPresent(schema -> nestedPojos.addAll(getNestedSchemaTypes(schema, schemaResolver, typeInfoCollector)));
+            if (visitedRefs.add(schemaRef)) {
+                schemaResolver.get(schemaRef).ifPresent(schema -> nestedPojos.addAll(getNestedSchemaTypes(schema, schemaResolver, typeInfoCollector, visitedRefs)));
+            }
         });
 
         return nestedPojos;
     }
 
-    private Set<String> getNestedSchemaTypes(Schema<?> parentSchema, SchemaResolver schemaResolver, TypeInfoCollector typeInfoCollector) {
+    private Set<String> getNestedSchemaTypes(Schema<?> parentSchema, SchemaResolver schemaResolver, TypeInfoCollector typeInfoCollector, Set<String> visitedRefs) {
         Set<String> schemaTypes = new HashSet<>();
 
         if (nonEmpty(parentSchema.getAllOf())) {
-            parentSchema.getAllOf().forEach(subSchema -> schemaTypes.addAll(getNestedSchemaTypes(subSchema, schemaResolver, typeInfoCollector)));
+            parentSchema.getAllOf().forEach(subSchema -> schemaTypes.addAll(getNestedSchemaTypes(subSchema, schemaResolver, typeInfoCollector, visitedRefs)));
         } else if (nonEmpty(parentSchema.getOneOf())) {
             List<Schema<?>> oneOfSchemas = (List<Schema<?>>)(Object)parentSchema.getOneOf();
             Schema<?> subSchema = typeInfoCollector.getNonNullableSubSchema(oneOfSchemas)
                 .orElseThrow(illegalStateException("Schema 'oneOf' must contain a non-nullable sub-schema"));
-            schemaTypes.addAll(getNestedSchemaTypes(subSchema, schemaResolver, typeInfoCollector));
+            schemaTypes.addAll(getNestedSchemaTypes(subSchema, schemaResolver, typeInfoCollector, visitedRefs));
         } else if (nonBlank(parentSchema.get$ref())) {
             getPojoTypeName(parentSchema, typeInfoCollector).ifPresent(schemaTypes::add);
-            Schema<?> refSchema = schemaResolver.getOrThrow(parentSchema.get$ref());
-            schemaTypes.addAll(getNestedSchemaTypes(refSchema, schemaResolver, typeInfoCollector));
+            if (visitedRefs.add(parentSchema.get$ref())) {
+                Schema<?> refSchema = schemaResolver.getOrThrow(parentSchema.get$ref());
+                schemaTypes.addAll(getNestedSchemaTypes(refSchema, schemaResolver, typeInfoCollector, visitedRefs));
+            }
         } else if (nonEmpty(parentSchema.getProperties())) {
             parentSchema.getProperties().forEach((propName, propSchema) ->
-                schemaTypes.addAll(getNestedSchemaTypes(propSchema, schemaResolver, typeInfoCollector))
+                schemaTypes.addAll(getNestedSchemaTypes(propSchema, schemaResolver, typeInfoCollector, visitedRefs))
             );
         } else if (nonNull(parentSchema.getItems())) {
-            schemaTypes.addAll(getNestedSchemaTypes(parentSchema.getItems(), schemaResolver, typeInfoCollector));
+            schemaTypes.addAll(getNestedSchemaTypes(parentSchema.getItems(), schemaResolver, typeInfoCollector, visitedRefs));
         }
 
         return schemaTypes;
@@ -271,4 +295,8 @@ public class ModelGenerator {
     private boolean isClass(Schema<?> schema) {
         return streamSafely(schema.getTypes()).anyMatch("object"::equals) || nonNull(schema.getAllOf());
     }
+
+    private boolean isValueClass(Schema<?> schema) {
+        return opts.useKotlinSyntax() && SchemaResolver.isValueClassType(schema);
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.generators;
+
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.NativeImageConfigWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.torand.openapi2java.writers.WriterFactory.createNativeImageConfigWriter;
+
+/**
+ * Generates GraalVM native-image configuration files for generated types.
+ */
+public class NativeImageConfigGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(NativeImageConfigGenerator.class);
+
+    private static final String REFLECT_CONFIG_FILENAME = "reflect-config.json";
+    private static final String PROXY_CONFIG_FILENAME = "proxy-config.json";
+
+    private final Options opts;
+
+    public NativeImageConfigGenerator(Options opts) {
+        this.opts = opts;
+    }
+
+    public void generate(List<String> modelClassNames, List<String> resourceInterfaceNames) {
+        List<String> reflectionClassNames = new ArrayList<>(modelClassNames);
+        reflectionClassNames.addAll(resourceInterfaceNames);
+
+        if (opts.verbose()) {
+            logger.info("Generating native-image configuration for {} types", reflectionClassNames.size());
+        }
+
+        try (NativeImageConfigWriter writer = createNativeImageConfigWriter(REFLECT_CONFIG_FILENAME, opts)) {
+            writer.writeReflectConfig(reflectionClassNames.stream().sorted().toList());
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write file %s".formatted(REFLECT_CONFIG_FILENAME), e);
+        }
+
+        try (NativeImageConfigWriter writer = createNativeImageConfigWriter(PROXY_CONFIG_FILENAME, opts)) {
+            writer.writeProxyConfig(resourceInterfaceNames.stream().sorted().toList());
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write file %s".formatted(PROXY_CONFIG_FILENAME), e);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Generated native-image configuration in directory {}", opts.getNativeImageConfigDir());
+        }
+    }
+}
@@ -39,7 +39,15 @@ public class OpenApiDefGenerator {
     }
 
     public void generate(OpenAPI openApiDoc) {
-        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+        generate(openApiDoc, new ComponentResolver(openApiDoc));
+    }
+
+    /**
+     * Generates the OpenAPI definition class, resolving component references with specified resolver.
+     * @param openApiDoc the OpenAPI specification.
+     * @param componentResolver the component resolver of the OpenAPI specification.
+     */
+    public void generate(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         OpenApiDefInfoCollector openApiDefInfoCollector = new OpenApiDefInfoCollector(componentResolver, opts);
 
         String openApiDefClassName = "OpenApiDefinition";
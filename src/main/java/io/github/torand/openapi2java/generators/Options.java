@@ -22,6 +22,9 @@ import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 /**
  * Contains configuration of the source code generators.
  * @param outputDir the root directory of output.
+ * @param outputFormat the output format of generated files: {@code files} for individual source files, {@code srcjar} for a single source archive, or {@code classes} for in-process compiled classes.
+ * @param compiledClassesDir the directory to write compiled classes to, when using the {@code classes} output format.
+ * @param writeCompiledSources the flag to also write the source archive when compiling generated sources in-process.
  * @param rootPackage the root package of classes and enums.
  * @param rootUrlPath the root URL path for resources.
  * @param resourceNameSuffix the resource name suffix.
@@ -35,14 +38,31 @@ import static io.github.torand.javacommons.lang.StringHelper.isBlank;
  * @param dateClassName the fully qualified name of the class to represent schemas of type "string" and format "date" in generated code.
  * @param dateTimeClassName the fully qualified name of the class to represent schemas of type "string" and format "date-time" in generated code.
  * @param includeTags the tags to generate source code for. Includes all tags if not specified.
+ * @param readIncludedTagsOnly the flag to materialize only the operations of included tags, and the components they reference, when reading the OpenAPI specification.
+ * @param loadExternalRefsInParallel the flag to load local files referenced by external references concurrently, and bundle them into a single OpenAPI model.
+ * @param lowMemoryMode the flag to not materialize content not used for code generation (e.g. examples) into the OpenAPI model.
  * @param generateResourceInterfaces the flag to generate resource interfaces (one for each tag included).
+ * @param generateApiClients the flag to generate a {@code java.net.http.HttpClient} based client class for each resource (requires {@code generateResourceInterfaces}).
+ * @param generateResponseExceptionMappers the flag to generate a Microprofile Rest Client {@code ResponseExceptionMapper} per resource, decoding declared error response bodies into typed exceptions.
+ * @param generateCoalescingDecorators the flag to generate a decorator per resource letting concurrent identical calls of idempotent operations share one in-flight request.
+ * @param generateBulkHelpers the flag to generate a helper per resource with bulk variants of single-item operations, calling them concurrently on virtual threads.
  * @param generateOpenApiDefClass the flag to generate an OpenAPI definition class file with implementation oriented annotations.
+ * @param generateNativeImageConfig the flag to generate GraalVM native-image reflection and proxy configuration files for the generated types.
+ * @param nativeImageConfigDir the directory to write GraalVM native-image configuration files to. Uses "META-INF/native-image" below the output directory if not specified.
+ * @param generateStaticOpenApiFile the flag to generate a pre-serialized OpenAPI document (openapi.json) for the Microprofile OpenAPI runtime.
+ * @param staticOpenApiFileDir the directory to write the pre-serialized OpenAPI document to. Uses "META-INF" below the output directory if not specified.
+ * @param generateRestClientConfig the flag to generate a {@code microprofile-config.properties} file with the Microprofile Rest Client settings specified per config key in tag extensions.
+ * @param restClientConfigDir the directory to write the generated Microprofile Rest Client configuration file to. Uses "META-INF" below the output directory if not specified.
  * @param addJsonPropertyAnnotations the flag to generate Jackson JSON property annotations.
  * @param addJakartaBeanValidationAnnotations the flag to generate Jakarta Bean Validation annotations.
  * @param addMpOpenApiAnnotations the flag to generate Microprofile OpenAPI annotations.
  * @param addMpRestClientAnnotations the flag to generate Microprofile Rest Client annotations (on resource interfaces).
+ * @param addRegisterForReflectionAnnotations the flag to generate the Quarkus {@code @RegisterForReflection} annotation on pojos and enums.
  * @param useKotlinSyntax the flag to generate Kotlin source code.
+ * @param useKotlinCoroutines the flag to generate Kotlin resource methods as {@code suspend} functions with typed return values (requires {@code useKotlinSyntax}).
+ * @param useKotlinSerialization the flag to generate Kotlin pojos and enums annotated for kotlinx.serialization instead of Jackson (requires {@code useKotlinSyntax}).
  * @param useResteasyResponse the flag to use the more typesafe {@code RestResponse} from RESTEasy instead of the normal untyped {@code Response} from Jakarta WS core.
+ * @param useTypedReturnValues the flag to use the inferred success response type as the return type of resource methods, instead of the untyped {@code Response} (ignored when {@code useResteasyResponse} is set).
  * @param useOidcClientAnnotation the flag to generate Quarkus OIDC client annotation (on resource interfaces).
  * @param indentWithTab the flag to output indents with the tab character.
  * @param indentSize the number of spaces for each indent level, when not using the tab character.
@@ -50,6 +70,9 @@ import static io.github.torand.javacommons.lang.StringHelper.isBlank;
  */
 public record Options (
     String outputDir,
+    String outputFormat,
+    String compiledClassesDir,
+    boolean writeCompiledSources,
     String rootPackage,
     String rootUrlPath,
     String resourceNameSuffix,
@@ -63,14 +86,31 @@ public record Options (
     String dateClassName,
     String dateTimeClassName,
     List<String> includeTags,
+    boolean readIncludedTagsOnly,
+    boolean loadExternalRefsInParallel,
+    boolean lowMemoryMode,
     boolean generateResourceInterfaces,
+    boolean generateApiClients,
+    boolean generateResponseExceptionMappers,
+    boolean generateCoalescingDecorators,
+    boolean generateBulkHelpers,
     boolean generateOpenApiDefClass,
+    boolean generateNativeImageConfig,
+    String nativeImageConfigDir,
+    boolean generateStaticOpenApiFile,
+    String staticOpenApiFileDir,
+    boolean generateRestClientConfig,
+    String restClientConfigDir,
     boolean addJsonPropertyAnnotations,
     boolean addJakartaBeanValidationAnnotations,
     boolean addMpOpenApiAnnotations,
     boolean addMpRestClientAnnotations,
+    boolean addRegisterForReflectionAnnotations,
     boolean useKotlinSyntax,
+    boolean useKotlinCoroutines,
+    boolean useKotlinSerialization,
     boolean useResteasyResponse,
+    boolean useTypedReturnValues,
     boolean useOidcClientAnnotation,
     boolean indentWithTab,
     int indentSize,
@@ -83,6 +123,9 @@ public record Options (
     public static Options defaults() {
         return new Options(
             null,
+            "files",
+            null,
+            false,
             null,
             "api",
             "Api",
@@ -96,8 +139,21 @@ public record Options (
             "java.time.LocalDate",
             "java.time.LocalDateTime",
             null,
+            false,
+            false,
+            false,
             true,
+            false,
+            false,
+            false,
+            false,
             true,
+            false,
+            null,
+            false,
+            null,
+            false,
+            null,
             true,
             true,
             true,
@@ -106,14 +162,21 @@ public record Options (
             false,
             false,
             false,
+            false,
+            false,
+            false,
+            false,
             4,
             false
         );
     }
 
-    private Options with(String outputDir, String rootPackage, String resourceNameSuffix, String resourceNameOverride, String resourceConfigKeyOverride, String resourceClientHeadersFactoryOverride, List<String> resourceProvidersOverride, boolean pojosAsRecords, String durationClassName, String dateTimeClassName, List<String> includeTags, boolean useKotlinSyntax, boolean useResteasyResponse, boolean useOidcClientAnnotation, boolean verbose) {
+    private Options with(String outputDir, String rootPackage, String resourceNameSuffix, String resourceNameOverride, String resourceConfigKeyOverride, String resourceClientHeadersFactoryOverride, List<String> resourceProvidersOverride, boolean pojosAsRecords, String durationClassName, String dateTimeClassName, List<String> includeTags, boolean useKotlinSyntax, boolean useResteasyResponse, boolean useOidcClientAnnotation, boolean useKotlinCoroutines, boolean useKotlinSerialization, boolean addRegisterForReflectionAnnotations, boolean readIncludedTagsOnly, boolean loadExternalRefsInParallel, boolean lowMemoryMode, String outputFormat, boolean generateApiClients, boolean useTypedReturnValues, boolean generateResponseExceptionMappers, boolean generateCoalescingDecorators, boolean generateBulkHelpers, boolean generateRestClientConfig, boolean verbose) {
         return new Options(
             outputDir,
+            outputFormat,
+            this.compiledClassesDir,
+            this.writeCompiledSources,
             rootPackage,
             this.rootUrlPath,
             resourceNameSuffix,
@@ -127,14 +190,31 @@ public record Options (
             this.dateClassName,
             dateTimeClassName,
             includeTags,
+            readIncludedTagsOnly,
+            loadExternalRefsInParallel,
+            lowMemoryMode,
             this.generateResourceInterfaces,
+            generateApiClients,
+            generateResponseExceptionMappers,
+            generateCoalescingDecorators,
+            generateBulkHelpers,
             this.generateOpenApiDefClass,
+            this.generateNativeImageConfig,
+            this.nativeImageConfigDir,
+            this.generateStaticOpenApiFile,
+            this.staticOpenApiFileDir,
+            generateRestClientConfig,
+            this.restClientConfigDir,
             this.addJsonPropertyAnnotations,
             this.addJakartaBeanValidationAnnotations,
             this.addMpOpenApiAnnotations,
             this.addMpRestClientAnnotations,
+            addRegisterForReflectionAnnotations,
             useKotlinSyntax,
+            useKotlinCoroutines,
+            useKotlinSerialization,
             useResteasyResponse,
+            useTypedReturnValues,
             useOidcClientAnnotation,
             this.indentWithTab,
             this.indentSize,
@@ -148,7 +228,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withOutputDir(String outputDir) {
-        return with(outputDir, this.rootPackage, this.resourceNameSuffix,  this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(outputDir, this.rootPackage, this.resourceNameSuffix,  this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -157,7 +237,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withRootPackage(String rootPackage) {
-        return with(this.outputDir, rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -166,7 +246,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withResourceNameSuffix(String resourceNameSuffix) {
-        return with(this.outputDir, this.rootPackage, resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -175,7 +255,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withResourceNameOverride(String resourceNameOverride) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -184,7 +264,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withResourceConfigKeyOverride(String resourceConfigKeyOverride) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -193,7 +273,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withResourceClientHeadersFactoryOverride(String resourceClientHeadersFactoryOverride) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -202,7 +282,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withResourceProvidersOverride(List<String> resourceProvidersOverride) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -211,7 +291,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withPojosAsRecords(boolean pojosAsRecords) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, resourceProvidersOverride, pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, resourceProvidersOverride, pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -220,7 +300,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withDurationClassName(String durationClassName) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -229,7 +309,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withDateTimeClassName(String dateTimeClassName) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -238,7 +318,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withIncludeTags(List<String> includeTags) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation,  this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -247,7 +327,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withUseKotlinSyntax(boolean useKotlinSyntax) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -256,7 +336,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withUseResteasyResponse(boolean useResteasyResponse) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, useResteasyResponse, this.useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -265,7 +345,124 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withUseOidcClientAnnotation(boolean useOidcClientAnnotation) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, useOidcClientAnnotation, this.verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified use Kotlin coroutines flag.
+     * @param useKotlinCoroutines the use Kotlin coroutines flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withUseKotlinCoroutines(boolean useKotlinCoroutines) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified use Kotlin serialization flag.
+     * @param useKotlinSerialization the use Kotlin serialization flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withUseKotlinSerialization(boolean useKotlinSerialization) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified add RegisterForReflection annotations flag.
+     * @param addRegisterForReflectionAnnotations the add RegisterForReflection annotations flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withAddRegisterForReflectionAnnotations(boolean addRegisterForReflectionAnnotations) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified read included tags only flag.
+     * @param readIncludedTagsOnly the read included tags only flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withReadIncludedTagsOnly(boolean readIncludedTagsOnly) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified load external refs in parallel flag.
+     * @param loadExternalRefsInParallel the load external refs in parallel flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withLoadExternalRefsInParallel(boolean loadExternalRefsInParallel) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified low memory mode flag.
+     * @param lowMemoryMode the low memory mode flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withLowMemoryMode(boolean lowMemoryMode) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified output format.
+     * @param outputFormat the output format.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withOutputFormat(String outputFormat) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified generate API clients flag.
+     * @param generateApiClients the generate API clients flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateApiClients(boolean generateApiClients) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified use typed return values flag.
+     * @param useTypedReturnValues the use typed return values flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withUseTypedReturnValues(boolean useTypedReturnValues) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified generate response exception mappers flag.
+     * @param generateResponseExceptionMappers the generate response exception mappers flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateResponseExceptionMappers(boolean generateResponseExceptionMappers) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified generate coalescing decorators flag.
+     * @param generateCoalescingDecorators the generate coalescing decorators flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateCoalescingDecorators(boolean generateCoalescingDecorators) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified generate bulk helpers flag.
+     * @param generateBulkHelpers the generate bulk helpers flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateBulkHelpers(boolean generateBulkHelpers) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, generateBulkHelpers, this.generateRestClientConfig, this.verbose);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified generate Rest Client config flag.
+     * @param generateRestClientConfig the generate Rest Client config flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateRestClientConfig(boolean generateRestClientConfig) {
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, generateRestClientConfig, this.verbose);
     }
 
     /**
@@ -274,7 +471,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withVerbose(boolean verbose) {
-        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, verbose);
+        return with(this.outputDir, this.rootPackage, this.resourceNameSuffix, this.resourceNameOverride, this.resourceConfigKeyOverride, this.resourceClientHeadersFactoryOverride, this.resourceProvidersOverride, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.includeTags, this.useKotlinSyntax, this.useResteasyResponse, this.useOidcClientAnnotation, this.useKotlinCoroutines, this.useKotlinSerialization, this.addRegisterForReflectionAnnotations, this.readIncludedTagsOnly, this.loadExternalRefsInParallel, this.lowMemoryMode, this.outputFormat, this.generateApiClients, this.useTypedReturnValues, this.generateResponseExceptionMappers, this.generateCoalescingDecorators, this.generateBulkHelpers, this.generateRestClientConfig, verbose);
     }
 
     /**
@@ -295,6 +492,54 @@ public record Options (
         return rootPackage + ".model" + (isBlank(customSubpackage) ? "" : "."+customSubpackage);
     }
 
+    /**
+     * Gets the directory to write GraalVM native-image configuration files to.
+     * @return the native-image configuration directory.
+     */
+    public String getNativeImageConfigDir() {
+        return isBlank(nativeImageConfigDir) ? outputDir + "/META-INF/native-image" : nativeImageConfigDir;
+    }
+
+    /**
+     * Gets the directory to write the pre-serialized OpenAPI document to.
+     * @return the static OpenAPI file directory.
+     */
+    public String getStaticOpenApiFileDir() {
+        return isBlank(staticOpenApiFileDir) ? outputDir + "/META-INF" : staticOpenApiFileDir;
+    }
+
+    /**
+     * Gets the directory to write the generated Microprofile Rest Client configuration file to.
+     * @return the Rest Client configuration directory.
+     */
+    public String getRestClientConfigDir() {
+        return isBlank(restClientConfigDir) ? outputDir + "/META-INF" : restClientConfigDir;
+    }
+
+    /**
+     * Gets whether generated files are collected in a single source archive instead of written as individual files.
+     * @return true if generated files are collected in a source archive; else false.
+     */
+    public boolean isSrcJarOutputFormat() {
+        return "srcjar".equalsIgnoreCase(outputFormat);
+    }
+
+    /**
+     * Gets whether generated files are compiled in-process instead of written as source files.
+     * @return true if generated files are compiled in-process; else false.
+     */
+    public boolean isClassesOutputFormat() {
+        return "classes".equalsIgnoreCase(outputFormat);
+    }
+
+    /**
+     * Gets the directory to write compiled classes to, when using the {@code classes} output format.
+     * @return the compiled classes directory.
+     */
+    public String getCompiledClassesDir() {
+        return isBlank(compiledClassesDir) ? outputDir + "/classes" : compiledClassesDir;
+    }
+
     /**
      * Gets the language specific code file extension.
      * @return the language specific code file extension.
@@ -19,20 +19,48 @@ import io.github.torand.javacommons.lang.StringHelper;
 import io.github.torand.openapi2java.collectors.ComponentResolver;
 import io.github.torand.openapi2java.collectors.ResourceInfoCollector;
 import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.RestClientConfigInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.ApiClientWriter;
+import io.github.torand.openapi2java.writers.BulkHelperWriter;
+import io.github.torand.openapi2java.writers.RateLimitFilterWriter;
+import io.github.torand.openapi2java.writers.ResourceDecoratorWriter;
 import io.github.torand.openapi2java.writers.ResourceWriter;
+import io.github.torand.openapi2java.writers.RestClientConfigWriter;
+import io.github.torand.openapi2java.writers.ResponseExceptionMapperWriter;
+import io.github.torand.openapi2java.writers.java.JavaApiClientWriter;
+import io.github.torand.openapi2java.writers.java.JavaBulkHelperWriter;
+import io.github.torand.openapi2java.writers.java.JavaRateLimitFilterWriter;
+import io.github.torand.openapi2java.writers.java.JavaResourceDecoratorWriter;
+import io.github.torand.openapi2java.writers.java.JavaResponseExceptionMapperWriter;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static io.github.torand.openapi2java.collectors.Extensions.EXT_RESTCLIENT_CONFIG;
 import static io.github.torand.openapi2java.utils.StringUtils.pluralSuffix;
+import static io.github.torand.openapi2java.writers.WriterFactory.createApiClientWriter;
+import static io.github.torand.openapi2java.writers.WriterFactory.createBulkHelperWriter;
+import static io.github.torand.openapi2java.writers.WriterFactory.createRateLimitFilterWriter;
+import static io.github.torand.openapi2java.writers.WriterFactory.createResourceDecoratorWriter;
 import static io.github.torand.openapi2java.writers.WriterFactory.createResourceWriter;
+import static io.github.torand.openapi2java.writers.WriterFactory.createResponseExceptionMapperWriter;
+import static io.github.torand.openapi2java.writers.WriterFactory.createRestClientConfigWriter;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -40,33 +68,119 @@ import static java.util.stream.Collectors.joining;
  */
 public class ResourceGenerator {
     private static final Logger logger = LoggerFactory.getLogger(ResourceGenerator.class);
+    private static final String REST_CLIENT_CONFIG_FILENAME = "microprofile-config.properties";
     private final Options opts;
+    private final List<String> generatedClassNames = new ArrayList<>();
+    private int apiClientCount = 0;
+    private int cachingDecoratorCount = 0;
+    private int coalescingDecoratorCount = 0;
+    private int batchingDecoratorCount = 0;
+    private int bulkHelperCount = 0;
+    private int hedgingDecoratorCount = 0;
+    private int rateLimitFilterCount = 0;
+    private final Map<String, TypeInfo> errorTypesByExceptionName = new TreeMap<>();
+    private final Map<String, RestClientConfigInfo> restClientConfigsByKey = new TreeMap<>();
 
     public ResourceGenerator(Options opts) {
         this.opts = opts;
     }
 
+    /**
+     * Gets the fully qualified names of the resource interfaces generated so far.
+     * @return the generated interface names.
+     */
+    public List<String> getGeneratedClassNames() {
+        return List.copyOf(generatedClassNames);
+    }
+
     public void generate(OpenAPI openApiDoc) {
+        generate(openApiDoc, new ComponentResolver(openApiDoc));
+    }
+
+    /**
+     * Generates the resources, resolving component references with specified resolver.
+     * @param openApiDoc the OpenAPI specification.
+     * @param componentResolver the component resolver of the OpenAPI specification.
+     */
+    public void generate(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         int clientCount = 0;
+        apiClientCount = 0;
+        cachingDecoratorCount = 0;
+        coalescingDecoratorCount = 0;
+        batchingDecoratorCount = 0;
+        bulkHelperCount = 0;
+        hedgingDecoratorCount = 0;
+        rateLimitFilterCount = 0;
+        restClientConfigsByKey.clear();
+        errorTypesByExceptionName.clear();
+
+        if (opts.generateApiClients() && opts.useKotlinSyntax()) {
+            logger.warn("API clients are only generated for Java syntax");
+        }
+        if (opts.generateResponseExceptionMappers() && opts.useKotlinSyntax()) {
+            logger.warn("Response exception mappers are only generated for Java syntax");
+        }
+        if (opts.generateCoalescingDecorators() && opts.useKotlinSyntax()) {
+            logger.warn("Coalescing decorators are only generated for Java syntax");
+        }
+        if (opts.generateBulkHelpers() && opts.useKotlinSyntax()) {
+            logger.warn("Bulk helpers are only generated for Java syntax");
+        }
 
         if (nonBlank(opts.resourceNameOverride())) {
-            clientCount = generateWithNameOverride(openApiDoc);
+            clientCount = generateWithNameOverride(openApiDoc, componentResolver);
         } else {
             if (isEmpty(openApiDoc.getTags())) {
                 logger.error("The OpenAPI specification does not contain tags. Please configure a resource name override to generate a resource interface.");
                 return;
             }
 
-            clientCount = generateFromTags(openApiDoc);
+            clientCount = generateFromTags(openApiDoc, componentResolver);
         }
 
         if (logger.isInfoEnabled()) {
             logger.info("Generated {} REST client{} in directory {}", clientCount, pluralSuffix(clientCount), opts.outputDir());
         }
+
+        errorTypesByExceptionName.forEach(this::generateResponseException);
+
+        if (cachingDecoratorCount > 0) {
+            generateResponseCache();
+        }
+
+        if (coalescingDecoratorCount > 0) {
+            generateSingleFlight();
+        }
+
+        if (batchingDecoratorCount > 0) {
+            generateBatcher();
+        }
+
+        if (hedgingDecoratorCount > 0) {
+            generateHedger();
+        }
+
+        if (rateLimitFilterCount > 0) {
+            generateRateLimiter();
+        }
+
+        if (bulkHelperCount > 0) {
+            generateBulkResultClass();
+        }
+
+        if (!restClientConfigsByKey.isEmpty()) {
+            generateRestClientConfig();
+        }
+
+        if (apiClientCount > 0) {
+            generateApiClientBaseClass();
+            if (logger.isInfoEnabled()) {
+                logger.info("Generated {} API client{} in directory {}", apiClientCount, pluralSuffix(apiClientCount), opts.outputDir());
+            }
+        }
     }
 
-    private int generateWithNameOverride(OpenAPI openApiDoc) {
-        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+    private int generateWithNameOverride(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         ResourceInfoCollector resourceInfoCollector = new ResourceInfoCollector(componentResolver, opts);
 
         String resourceName = opts.resourceNameOverride();
@@ -84,6 +198,16 @@ public class ResourceGenerator {
                 return 0;
             } else {
                 resourceWriter.write(resourceInfo);
+                generatedClassNames.add(opts.rootPackage() + "." + resourceInfo.name());
+                generateApiClient(resourceInfo);
+                generateResponseExceptionMapper(resourceInfo);
+                generateRateLimitFilter(resourceInfo);
+                generateCachingDecorator(resourceInfo);
+                generateCoalescingDecorator(resourceInfo);
+                generateBatchingDecorator(resourceInfo);
+                generateHedgingDecorator(resourceInfo);
+                generateBulkHelper(resourceInfo);
+                collectRestClientConfig(resourceInfo);
                 return 1;
             }
         } catch (IOException e) {
@@ -92,8 +216,7 @@ public class ResourceGenerator {
         }
     }
 
-    private int generateFromTags(OpenAPI openApiDoc) {
-        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+    private int generateFromTags(OpenAPI openApiDoc, ComponentResolver componentResolver) {
         ResourceInfoCollector resourceInfoCollector = new ResourceInfoCollector(componentResolver, opts);
 
         AtomicInteger clientCount = new AtomicInteger(0);
@@ -114,7 +237,17 @@ public class ResourceGenerator {
                         logger.warn("No paths found for tag \"{}\"", tag.getName());
                     } else {
                         resourceWriter.write(resourceInfo);
+                        generatedClassNames.add(opts.rootPackage() + "." + resourceInfo.name());
                         clientCount.incrementAndGet();
+                        generateApiClient(resourceInfo);
+                        generateResponseExceptionMapper(resourceInfo);
+                        generateRateLimitFilter(resourceInfo);
+                        generateCachingDecorator(resourceInfo);
+                        generateCoalescingDecorator(resourceInfo);
+                        generateBatchingDecorator(resourceInfo);
+                        generateHedgingDecorator(resourceInfo);
+                        generateBulkHelper(resourceInfo);
+                        collectRestClientConfig(resourceInfo);
                     }
                 } catch (IOException e) {
                     logger.error("Failed to write file {}", resourceFilename, e);
@@ -125,6 +258,277 @@ public class ResourceGenerator {
         return clientCount.get();
     }
 
+    private void generateApiClient(ResourceInfo resourceInfo) {
+        if (!opts.generateApiClients() || opts.useKotlinSyntax()) {
+            return;
+        }
+
+        resourceInfo.methods().stream()
+            .filter(m -> !JavaApiClientWriter.isSupported(m))
+            .map(MethodInfo::name)
+            .forEach(name -> logger.warn("Skipping multipart operation {} in API client for {}", name, resourceInfo.name()));
+
+        String clientClassName = JavaApiClientWriter.getClientClassName(resourceInfo);
+        String clientFilename = clientClassName + opts.getFileExtension();
+        try (ApiClientWriter clientWriter = createApiClientWriter(clientFilename, opts)) {
+            clientWriter.write(resourceInfo);
+            apiClientCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", clientFilename, e);
+        }
+    }
+
+    private void generateResponseExceptionMapper(ResourceInfo resourceInfo) {
+        if (!opts.generateResponseExceptionMappers() || opts.useKotlinSyntax() || resourceInfo.methods().stream().noneMatch(MethodInfo::hasErrorResponseTypes)) {
+            return;
+        }
+
+        String mapperFilename = ResourceInfo.getExceptionMapperName(resourceInfo.name()) + opts.getFileExtension();
+        if (!opts.addMpRestClientAnnotations()) {
+            logger.warn("Response exception mapper {} is not registered with {}, as option addMpRestClientAnnotations is false. Please register it manually.", ResourceInfo.getExceptionMapperName(resourceInfo.name()), resourceInfo.name());
+        }
+        try (ResponseExceptionMapperWriter mapperWriter = createResponseExceptionMapperWriter(mapperFilename, opts)) {
+            mapperWriter.write(resourceInfo);
+            resourceInfo.methods().forEach(m -> m.errorResponseTypes().values().forEach(errorType ->
+                errorTypesByExceptionName.putIfAbsent(JavaResponseExceptionMapperWriter.getExceptionClassName(errorType, opts), errorType)
+            ));
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", mapperFilename, e);
+        }
+    }
+
+    private void generateRateLimitFilter(ResourceInfo resourceInfo) {
+        if (!resourceInfo.hasRateLimits()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Rate limiting request filters are only generated for Java syntax, requests of {} will not be rate limited", resourceInfo.name());
+            return;
+        }
+
+        String filterFilename = ResourceInfo.getRateLimitFilterName(resourceInfo.name()) + opts.getFileExtension();
+        if (!opts.addMpRestClientAnnotations()) {
+            logger.warn("Rate limiting request filter {} is not registered with {}, as option addMpRestClientAnnotations is false. Please register it manually.", ResourceInfo.getRateLimitFilterName(resourceInfo.name()), resourceInfo.name());
+        }
+        try (RateLimitFilterWriter filterWriter = createRateLimitFilterWriter(filterFilename, opts)) {
+            filterWriter.write(resourceInfo);
+            rateLimitFilterCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", filterFilename, e);
+        }
+    }
+
+    private void generateRateLimiter() {
+        String rateLimiterFilename = JavaRateLimitFilterWriter.RATE_LIMITER_CLASS_NAME + opts.getFileExtension();
+        try (RateLimitFilterWriter filterWriter = createRateLimitFilterWriter(rateLimiterFilename, opts)) {
+            filterWriter.writeRateLimiter();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", rateLimiterFilename, e);
+        }
+    }
+
+    private void collectRestClientConfig(ResourceInfo resourceInfo) {
+        RestClientConfigInfo restClientConfig = resourceInfo.restClientConfig();
+        if (!opts.generateRestClientConfig() || isNull(restClientConfig)) {
+            return;
+        }
+
+        // Resources sharing a config key share the same rest client configuration
+        RestClientConfigInfo existing = restClientConfigsByKey.putIfAbsent(restClientConfig.configKey(), restClientConfig);
+        if (nonNull(existing) && !existing.settings().equals(restClientConfig.settings())) {
+            throw new OpenApi2JavaException("Conflicting settings in extension %s for config key %s".formatted(EXT_RESTCLIENT_CONFIG, restClientConfig.configKey()));
+        }
+    }
+
+    private void generateRestClientConfig() {
+        try (RestClientConfigWriter configWriter = createRestClientConfigWriter(REST_CLIENT_CONFIG_FILENAME, opts)) {
+            configWriter.write(List.copyOf(restClientConfigsByKey.values()));
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write file %s".formatted(REST_CLIENT_CONFIG_FILENAME), e);
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Generated Rest Client configuration for {} config key{} in directory {}", restClientConfigsByKey.size(), pluralSuffix(restClientConfigsByKey.size()), opts.getRestClientConfigDir());
+        }
+    }
+
+    private void generateResponseException(String exceptionName, TypeInfo errorType) {
+        String exceptionFilename = exceptionName + opts.getFileExtension();
+        try (ResponseExceptionMapperWriter mapperWriter = createResponseExceptionMapperWriter(exceptionFilename, opts)) {
+            mapperWriter.writeException(errorType);
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", exceptionFilename, e);
+        }
+    }
+
+    private void generateCachingDecorator(ResourceInfo resourceInfo) {
+        List<MethodInfo> cachedMethods = resourceInfo.methods().stream().filter(m -> nonNull(m.cache())).toList();
+        if (cachedMethods.isEmpty()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Caching decorators are only generated for Java syntax, responses of {} will not be cached", resourceInfo.name());
+            return;
+        }
+
+        cachedMethods.stream()
+            .filter(m -> !JavaResourceDecoratorWriter.isCacheable(m, opts))
+            .forEach(m -> logger.warn("Responses of {}.{} will not be cached, as it does not return a typed value (see option useTypedReturnValues)", resourceInfo.name(), m.name()));
+        if (cachedMethods.stream().noneMatch(m -> JavaResourceDecoratorWriter.isCacheable(m, opts))) {
+            return;
+        }
+
+        String decoratorFilename = JavaResourceDecoratorWriter.getCachingDecoratorName(resourceInfo) + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(decoratorFilename, opts)) {
+            decoratorWriter.writeCachingDecorator(resourceInfo);
+            cachingDecoratorCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", decoratorFilename, e);
+        }
+    }
+
+    private void generateResponseCache() {
+        String cacheFilename = JavaResourceDecoratorWriter.RESPONSE_CACHE_CLASS_NAME + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(cacheFilename, opts)) {
+            decoratorWriter.writeResponseCache();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", cacheFilename, e);
+        }
+    }
+
+    private void generateCoalescingDecorator(ResourceInfo resourceInfo) {
+        if (!opts.generateCoalescingDecorators() || opts.useKotlinSyntax()) {
+            return;
+        }
+
+        List<MethodInfo> coalescedMethods = resourceInfo.methods().stream().filter(MethodInfo::coalesce).toList();
+        if (coalescedMethods.stream().noneMatch(m -> JavaResourceDecoratorWriter.isCoalescable(m, opts))) {
+            if (!coalescedMethods.isEmpty()) {
+                logger.warn("Calls of {} will not be coalesced, as no idempotent operation returns a typed value (see option useTypedReturnValues)", resourceInfo.name());
+            }
+            return;
+        }
+
+        String decoratorFilename = JavaResourceDecoratorWriter.getCoalescingDecoratorName(resourceInfo) + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(decoratorFilename, opts)) {
+            decoratorWriter.writeCoalescingDecorator(resourceInfo);
+            coalescingDecoratorCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", decoratorFilename, e);
+        }
+    }
+
+    private void generateSingleFlight() {
+        String singleFlightFilename = JavaResourceDecoratorWriter.SINGLE_FLIGHT_CLASS_NAME + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(singleFlightFilename, opts)) {
+            decoratorWriter.writeSingleFlight();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", singleFlightFilename, e);
+        }
+    }
+
+    private void generateBatchingDecorator(ResourceInfo resourceInfo) {
+        List<MethodInfo> batchedMethods = resourceInfo.methods().stream().filter(m -> nonNull(m.batch())).toList();
+        if (batchedMethods.isEmpty()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Batching decorators are only generated for Java syntax, calls of {} will not be batched", resourceInfo.name());
+            return;
+        }
+
+        batchedMethods.stream()
+            .filter(m -> !JavaResourceDecoratorWriter.isBatchable(m, resourceInfo, opts))
+            .forEach(m -> logger.warn("Calls of {}.{} will not be batched, as it or its batch operation does not return a typed value (see option useTypedReturnValues)", resourceInfo.name(), m.name()));
+        if (batchedMethods.stream().noneMatch(m -> JavaResourceDecoratorWriter.isBatchable(m, resourceInfo, opts))) {
+            return;
+        }
+
+        String decoratorFilename = JavaResourceDecoratorWriter.getBatchingDecoratorName(resourceInfo) + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(decoratorFilename, opts)) {
+            decoratorWriter.writeBatchingDecorator(resourceInfo);
+            batchingDecoratorCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", decoratorFilename, e);
+        }
+    }
+
+    private void generateBatcher() {
+        String batcherFilename = JavaResourceDecoratorWriter.BATCHER_CLASS_NAME + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(batcherFilename, opts)) {
+            decoratorWriter.writeBatcher();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", batcherFilename, e);
+        }
+    }
+
+    private void generateHedgingDecorator(ResourceInfo resourceInfo) {
+        List<MethodInfo> hedgedMethods = resourceInfo.methods().stream().filter(m -> nonNull(m.hedgeAfter()) && !m.hedgeAfter().isZero()).toList();
+        if (hedgedMethods.isEmpty()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Hedging decorators are only generated for Java syntax, calls of {} will not be hedged", resourceInfo.name());
+            return;
+        }
+
+        hedgedMethods.stream()
+            .filter(m -> !JavaResourceDecoratorWriter.isHedged(m, opts))
+            .forEach(m -> logger.warn("Calls of {}.{} will not be hedged, as it does not return a typed value (see option useTypedReturnValues)", resourceInfo.name(), m.name()));
+        if (hedgedMethods.stream().noneMatch(m -> JavaResourceDecoratorWriter.isHedged(m, opts))) {
+            return;
+        }
+
+        String decoratorFilename = JavaResourceDecoratorWriter.getHedgingDecoratorName(resourceInfo) + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(decoratorFilename, opts)) {
+            decoratorWriter.writeHedgingDecorator(resourceInfo);
+            hedgingDecoratorCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", decoratorFilename, e);
+        }
+    }
+
+    private void generateHedger() {
+        String hedgerFilename = JavaResourceDecoratorWriter.HEDGER_CLASS_NAME + opts.getFileExtension();
+        try (ResourceDecoratorWriter decoratorWriter = createResourceDecoratorWriter(hedgerFilename, opts)) {
+            decoratorWriter.writeHedger();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", hedgerFilename, e);
+        }
+    }
+
+    private void generateBulkHelper(ResourceInfo resourceInfo) {
+        if (!opts.generateBulkHelpers() || opts.useKotlinSyntax() || resourceInfo.methods().stream().noneMatch(JavaBulkHelperWriter::isSingleItemMethod)) {
+            return;
+        }
+
+        String helperFilename = JavaBulkHelperWriter.getBulkHelperClassName(resourceInfo) + opts.getFileExtension();
+        try (BulkHelperWriter helperWriter = createBulkHelperWriter(helperFilename, opts)) {
+            helperWriter.write(resourceInfo);
+            bulkHelperCount++;
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", helperFilename, e);
+        }
+    }
+
+    private void generateBulkResultClass() {
+        String resultFilename = JavaBulkHelperWriter.RESULT_CLASS_NAME + opts.getFileExtension();
+        try (BulkHelperWriter helperWriter = createBulkHelperWriter(resultFilename, opts)) {
+            helperWriter.writeResultClass();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", resultFilename, e);
+        }
+    }
+
+    private void generateApiClientBaseClass() {
+        String baseClassFilename = JavaApiClientWriter.BASE_CLASS_NAME + opts.getFileExtension();
+        try (ApiClientWriter clientWriter = createApiClientWriter(baseClassFilename, opts)) {
+            clientWriter.writeBaseClass();
+        } catch (IOException e) {
+            logger.error("Failed to write file {}", baseClassFilename, e);
+        }
+    }
+
     private String getResourceName(Tag tag) {
         String tagName = tag.getName().trim();
         String[] tagSubNames = tagName.split(" ");
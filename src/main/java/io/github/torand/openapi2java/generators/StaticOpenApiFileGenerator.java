@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.generators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.StaticOpenApiFileWriter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static io.github.torand.openapi2java.writers.WriterFactory.createStaticOpenApiFileWriter;
+
+/**
+ * Generates a pre-serialized OpenAPI document, to be served by the Microprofile OpenAPI runtime as a static file.
+ */
+public class StaticOpenApiFileGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(StaticOpenApiFileGenerator.class);
+
+    private static final String STATIC_OPENAPI_FILENAME = "openapi.json";
+
+    private final Options opts;
+
+    public StaticOpenApiFileGenerator(Options opts) {
+        this.opts = opts;
+    }
+
+    public void generate(OpenAPI openApiDoc) {
+        if (opts.verbose()) {
+            logger.info("Generating static OpenAPI file: {}", STATIC_OPENAPI_FILENAME);
+        }
+
+        ObjectMapper mapper = openApiDoc.getSpecVersion() == SpecVersion.V31 ? Json31.mapper() : Json.mapper();
+
+        try (StaticOpenApiFileWriter writer = createStaticOpenApiFileWriter(STATIC_OPENAPI_FILENAME, opts)) {
+            writer.write(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(openApiDoc));
+        } catch (JsonProcessingException e) {
+            throw new OpenApi2JavaException("Failed to serialize OpenAPI document", e);
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write file %s".formatted(STATIC_OPENAPI_FILENAME), e);
+        }
+
+        logger.info("Generated static OpenAPI file in directory {}", opts.getStaticOpenApiFileDir());
+    }
+}
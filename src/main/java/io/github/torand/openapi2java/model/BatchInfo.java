@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.model;
+
+/**
+ * Describes how calls of a single-item operation are aggregated into calls of a batch operation.
+ * @param batchMethodName the name of the batch method, taking an array of item keys.
+ * @param keyParam the name of the method parameter holding the item key.
+ * @param keyProperty the name of the property identifying an item in the batch response, if any. If not specified, items are matched by position.
+ * @param maxSize the maximum number of item keys per batch call.
+ */
+public record BatchInfo (
+    String batchMethodName,
+    String keyParam,
+    String keyProperty,
+    int maxSize
+) {
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Describes how the responses of an operation are cached on the client side.
+ * @param ttl the time-to-live of cached responses.
+ * @param keyParams the names of the method parameters identifying a cached response.
+ */
+public record CacheInfo (
+    Duration ttl,
+    List<String> keyParams
+) {
+}
@@ -15,9 +15,11 @@
  */
 package io.github.torand.openapi2java.model;
 
+import java.time.Duration;
 import java.util.*;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
 
 /**
@@ -27,13 +29,35 @@ import static java.util.Objects.nonNull;
  * @param returnType the method return type.
  * @param deprecationMessage the deprecation message, if any.
  * @param annotations the annotations decorating this method.
+ * @param httpMethod the HTTP method of the operation.
+ * @param path the URL path of the operation, relative to the resource root path.
+ * @param requestMediaType the media type of the request body, if any.
+ * @param responseMediaType the media type of the successful response body, if any.
+ * @param responseType the type of the successful response body, if any.
+ * @param errorResponseTypes the model types of error response bodies, by status code.
+ * @param cache the client side caching of responses, if any.
+ * @param coalesce the flag indicating whether concurrent identical calls may share one in-flight request.
+ * @param batch the aggregation of calls into calls of a batch operation, if any.
+ * @param hedgeAfter the time to wait for a response before sending a second, identical request, if any. Zero if hedging is disabled explicitly.
+ * @param rateLimit the rate limit of requests of the operation, if any.
  */
 public record MethodInfo (
     String name,
     List<MethodParamInfo> parameters,
     String returnType,
     String deprecationMessage,
-    List<AnnotationInfo> annotations
+    List<AnnotationInfo> annotations,
+    String httpMethod,
+    String path,
+    String requestMediaType,
+    String responseMediaType,
+    TypeInfo responseType,
+    Map<String, TypeInfo> errorResponseTypes,
+    CacheInfo cache,
+    boolean coalesce,
+    BatchInfo batch,
+    Duration hedgeAfter,
+    RateLimitInfo rateLimit
 ) implements EntityInfo {
 
     /**
@@ -41,7 +65,7 @@ public record MethodInfo (
      * @param name the method name.
      */
     public MethodInfo(String name) {
-        this(name, emptyList(), null, null, emptyList());
+        this(name, emptyList(), null, null, emptyList(), null, null, null, null, null, emptyMap(), null, false, null, null, null);
     }
 
     /**
@@ -52,7 +76,7 @@ public record MethodInfo (
     public MethodInfo withAddedParameters(Collection<MethodParamInfo> params) {
         List<MethodParamInfo> newParameters = new LinkedList<>(parameters);
         newParameters.addAll(params);
-        return new MethodInfo(name, newParameters, returnType, deprecationMessage, annotations);
+        return new MethodInfo(name, newParameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
     }
 
     /**
@@ -61,7 +85,7 @@ public record MethodInfo (
      * @return the new and updated {@link MethodInfo} object.
      */
     public MethodInfo withReturnType(String returnType) {
-        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations);
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
     }
 
     /**
@@ -70,7 +94,7 @@ public record MethodInfo (
      * @return the new and updated {@link MethodInfo} object.
      */
     public MethodInfo withDeprecationMessage(String deprecationMessage) {
-        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations);
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
     }
 
     /**
@@ -81,7 +105,7 @@ public record MethodInfo (
     public MethodInfo withAddedAnnotation(AnnotationInfo annotation) {
         List<AnnotationInfo> newAnnotations = new LinkedList<>(this.annotations);
         newAnnotations.add(annotation);
-        return new MethodInfo(name, parameters, returnType, deprecationMessage, newAnnotations);
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, newAnnotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
     }
 
     /**
@@ -97,6 +121,92 @@ public record MethodInfo (
         return merged;
     }
 
+    /**
+     * Returns a new {@link MethodInfo} object with specified HTTP method and path.
+     * @param httpMethod the HTTP method.
+     * @param path the URL path, relative to the resource root path.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withHttpOperation(String httpMethod, String path) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified request media type.
+     * @param requestMediaType the request media type.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withRequestMediaType(String requestMediaType) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified successful response media type and body type.
+     * @param responseMediaType the response media type.
+     * @param responseType the response body type.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withResponse(String responseMediaType, TypeInfo responseType) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified error response body type added.
+     * @param statusCode the status code, status code range or 'default'.
+     * @param errorResponseType the error response body type.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withAddedErrorResponseType(String statusCode, TypeInfo errorResponseType) {
+        Map<String, TypeInfo> newErrorResponseTypes = new LinkedHashMap<>(errorResponseTypes);
+        newErrorResponseTypes.put(statusCode, errorResponseType);
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, newErrorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified client side caching of responses.
+     * @param cache the caching information.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withCache(CacheInfo cache) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified coalescing flag.
+     * @param coalesce the flag indicating whether concurrent identical calls may share one in-flight request.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withCoalesce(boolean coalesce) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified batching.
+     * @param batch the aggregation of calls into calls of a batch operation.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withBatch(BatchInfo batch) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified hedging threshold.
+     * @param hedgeAfter the time to wait for a response before sending a second, identical request.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withHedgeAfter(Duration hedgeAfter) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
+    /**
+     * Returns a new {@link MethodInfo} object with specified rate limit.
+     * @param rateLimit the rate limit of requests of the operation.
+     * @return the new and updated {@link MethodInfo} object.
+     */
+    public MethodInfo withRateLimit(RateLimitInfo rateLimit) {
+        return new MethodInfo(name, parameters, returnType, deprecationMessage, annotations, httpMethod, path, requestMediaType, responseMediaType, responseType, errorResponseTypes, cache, coalesce, batch, hedgeAfter, rateLimit);
+    }
+
     /**
      * Indicates whether the method is deprecated.
      * @return true if method is deprecated; else false.
@@ -105,11 +215,30 @@ public record MethodInfo (
         return nonNull(deprecationMessage);
     }
 
+    /**
+     * Indicates whether any error response has a model type body.
+     * @return true if any error response has a model type body; else false.
+     */
+    public boolean hasErrorResponseTypes() {
+        return !errorResponseTypes.isEmpty();
+    }
+
+    /**
+     * Indicates whether a single return type could not be inferred, because the successful response has media types of different types.
+     * @return true if the return type is ambiguous; else false.
+     */
+    public boolean hasAmbiguousReturnType() {
+        return "?".equals(returnType) || "*".equals(returnType);
+    }
+
     @Override
     public Set<String> aggregatedNormalImports() {
         Set<String> aggregated = new TreeSet<>();
         parameters.stream().map(p -> p.aggregatedNormalImports()).forEach(aggregated::addAll);
         annotations.stream().map(a -> a.imports().normalImports()).forEach(aggregated::addAll);
+        if (nonNull(returnType) && !hasAmbiguousReturnType() && nonNull(responseType)) {
+            aggregated.addAll(responseType.typeNameNormalImports());
+        }
         return aggregated;
     }
 
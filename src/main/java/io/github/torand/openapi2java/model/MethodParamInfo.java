@@ -29,6 +29,8 @@ import static java.util.Objects.nonNull;
  * @param comment the parameter comment text, if any.
  * @param nullable the nullable flag.
  * @param deprecationMessage the deprecation message, if any.
+ * @param in the location of the parameter in the HTTP request: path, query, header, cookie, body or form.
+ * @param httpName the name of the parameter in the HTTP request.
  */
 public record MethodParamInfo (
     String name,
@@ -37,14 +39,16 @@ public record MethodParamInfo (
     TypeInfo type,
     String comment,
     boolean nullable,
-    String deprecationMessage
+    String deprecationMessage,
+    String in,
+    String httpName
 ) implements EntityInfo, ImportsSupplier {
 
     /**
      * Constructs a {@link MethodParamInfo} object.
      */
     public MethodParamInfo() {
-        this(null, ImportInfo.empty(), emptyList(), null, null, false, null);
+        this(null, ImportInfo.empty(), emptyList(), null, null, false, null, null, null);
     }
 
     /**
@@ -52,7 +56,7 @@ public record MethodParamInfo (
      * @param name the parameter name.
      */
     public MethodParamInfo(String name) {
-        this(name, ImportInfo.empty(), emptyList(), null, null, false, null);
+        this(name, ImportInfo.empty(), emptyList(), null, null, false, null, null, null);
     }
 
     /**
@@ -61,7 +65,7 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withName(String name) {
-        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -70,7 +74,7 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withType(TypeInfo type) {
-        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -79,7 +83,7 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withComment(String comment) {
-        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -88,7 +92,7 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withNullable(boolean nullable) {
-        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -97,7 +101,17 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withDeprecationMessage(String deprecationMessage) {
-        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
+    }
+
+    /**
+     * Returns a new {@link MethodParamInfo} object with specified HTTP request location and name.
+     * @param in the location of the parameter in the HTTP request.
+     * @param httpName the name of the parameter in the HTTP request.
+     * @return the new and updated {@link MethodParamInfo} object.
+     */
+    public MethodParamInfo withHttpLocation(String in, String httpName) {
+        return new MethodParamInfo(name, imports, annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -106,7 +120,7 @@ public record MethodParamInfo (
      * @return the new and updated {@link MethodParamInfo} object.
      */
     public MethodParamInfo withAddedImports(ImportsSupplier importsSupplier) {
-        return new MethodParamInfo(name, imports.withAddedImports(importsSupplier), annotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports.withAddedImports(importsSupplier), annotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -117,7 +131,7 @@ public record MethodParamInfo (
     public MethodParamInfo withAddedAnnotation(AnnotationInfo annotation) {
         List<AnnotationInfo> newAnnotations = new LinkedList<>(this.annotations);
         newAnnotations.add(annotation);
-        return new MethodParamInfo(name, imports, newAnnotations, type, comment, nullable, deprecationMessage);
+        return new MethodParamInfo(name, imports, newAnnotations, type, comment, nullable, deprecationMessage, in, httpName);
     }
 
     /**
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.model;
+
+import io.github.torand.openapi2java.utils.PackageUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static io.github.torand.openapi2java.utils.PackageUtils.getClassNameFromFqn;
+import static io.github.torand.openapi2java.utils.PackageUtils.isFqnInPackage;
+
+/**
+ * Describes the aggregated imports of an entity, partitioned the way they are written in a source file.
+ * @param javaImports the normal imports of classes in Java packages, excluding fundamental Java classes.
+ * @param nonJavaImports the normal imports of classes in non-Java packages, excluding classes in the entity's own package.
+ * @param staticImports the static imports.
+ */
+public record PartitionedImports(
+    Set<String> javaImports,
+    Set<String> nonJavaImports,
+    Set<String> staticImports
+) {
+
+    /**
+     * Aggregates and partitions the imports of specified entity.
+     * The entity hierarchy is traversed once, so the result should be reused for all import sections of a source file.
+     * @param entity the entity to get imports from.
+     * @param packageName the package the entity is written to.
+     * @return the partitioned imports.
+     */
+    public static PartitionedImports of(EntityInfo entity, String packageName) {
+        return of(entity.aggregatedNormalImports(), entity.aggregatedStaticImports(), packageName);
+    }
+
+    /**
+     * Partitions specified imports.
+     * @param normalImports the normal imports.
+     * @param staticImports the static imports.
+     * @param packageName the package the imports are written to.
+     * @return the partitioned imports.
+     */
+    public static PartitionedImports of(Set<String> normalImports, Set<String> staticImports, String packageName) {
+        Set<String> javaImports = new TreeSet<>();
+        Set<String> nonJavaImports = new TreeSet<>();
+
+        for (String normalImport : normalImports) {
+            if (PackageUtils.isJavaPackage(normalImport)) {
+                if (!PackageUtils.isFundamentalJavaClass(normalImport)) {
+                    javaImports.add(normalImport);
+                }
+            } else if (!isFqnInPackage(normalImport, packageName)) {
+                nonJavaImports.add(normalImport);
+            }
+        }
+
+        return new PartitionedImports(javaImports, nonJavaImports, new TreeSet<>(staticImports));
+    }
+
+    /**
+     * Gets the normal imports whose simple class names clash, i.e. same-named classes imported from different packages.
+     * @return the conflicting imports, grouped by simple class name.
+     */
+    public Map<String, Set<String>> conflicts() {
+        Map<String, Set<String>> importsByClassName = new TreeMap<>();
+        javaImports.forEach(i -> importsByClassName.computeIfAbsent(getClassNameFromFqn(i), k -> new TreeSet<>()).add(i));
+        nonJavaImports.forEach(i -> importsByClassName.computeIfAbsent(getClassNameFromFqn(i), k -> new TreeSet<>()).add(i));
+
+        importsByClassName.values().removeIf(fqns -> fqns.size() < 2);
+        return importsByClassName;
+    }
+}
@@ -30,6 +30,7 @@ import static java.util.Objects.nonNull;
  * @param annotations the annotations decorating this pojo.
  * @param properties the properties of this pojo.
  * @param deprecationMessage the deprecation message, if any.
+ * @param valueClass the flag indicating a Kotlin value class wrapping a single property.
  */
 public record PojoInfo (
     String name,
@@ -37,7 +38,8 @@ public record PojoInfo (
     String modelSubpackage,
     List<AnnotationInfo> annotations,
     List<PropertyInfo> properties,
-    String deprecationMessage
+    String deprecationMessage,
+    boolean valueClass
 ) implements EntityInfo {
 
     /**
@@ -45,7 +47,7 @@ public record PojoInfo (
      * @param name the class name.
      */
     public PojoInfo(String name) {
-        this(name, null, null, emptyList(), emptyList(), null);
+        this(name, null, null, emptyList(), emptyList(), null, false);
     }
 
     /**
@@ -54,7 +56,7 @@ public record PojoInfo (
      * @return the new and updated {@link PojoInfo} object.
      */
     public PojoInfo withModelSubdir(String modelSubdir) {
-        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage, valueClass);
     }
 
     /**
@@ -63,7 +65,7 @@ public record PojoInfo (
      * @return the new and updated {@link PojoInfo} object.
      */
     public PojoInfo withModelSubpackage(String modelSubpackage) {
-        return new PojoInfo(name, modelSubpackage, modelSubpackage, annotations, properties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage, valueClass);
     }
 
     /**
@@ -74,7 +76,7 @@ public record PojoInfo (
     public PojoInfo withAddedAnnotation(AnnotationInfo annotation) {
         List<AnnotationInfo> newAnnotations = new LinkedList<>(annotations);
         newAnnotations.add(annotation);
-        return new PojoInfo(name, modelSubpackage, modelSubpackage, newAnnotations, properties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, newAnnotations, properties, deprecationMessage, valueClass);
     }
 
     /**
@@ -85,7 +87,7 @@ public record PojoInfo (
     public PojoInfo withAddedProperties(Collection<PropertyInfo> properties) {
         List<PropertyInfo> newProperties = new LinkedList<>(this.properties);
         newProperties.addAll(properties);
-        return new PojoInfo(name, modelSubpackage, modelSubpackage, annotations, newProperties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, newProperties, deprecationMessage, valueClass);
     }
 
     /**
@@ -94,7 +96,16 @@ public record PojoInfo (
      * @return the new and updated {@link PojoInfo} object.
      */
     public PojoInfo withDeprecationMessage(String deprecationMessage) {
-        return new PojoInfo(name, modelSubpackage, modelSubpackage, annotations, properties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage, valueClass);
+    }
+
+    /**
+     * Returns a new {@link PojoInfo} object with specified value class flag.
+     * @param valueClass the value class flag.
+     * @return the new and updated {@link PojoInfo} object.
+     */
+    public PojoInfo withValueClass(boolean valueClass) {
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage, valueClass);
     }
 
     /**
@@ -20,6 +20,7 @@ import io.github.torand.javacommons.collection.CollectionHelper;
 import java.util.*;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
 
 /**
  * Describes a resource.
@@ -27,12 +28,16 @@ import static java.util.Collections.emptyList;
  * @param imports the imports required by the resource.
  * @param annotations the annotations decorating this resource.
  * @param methods the methods of this resource.
+ * @param rateLimit the rate limit of all requests of this resource combined, if any.
+ * @param restClientConfig the Microprofile Rest Client settings of the config key of this resource, if any.
  */
 public record ResourceInfo (
     String name,
     ImportInfo imports,
     List<AnnotationInfo> annotations,
-    List<MethodInfo> methods
+    List<MethodInfo> methods,
+    RateLimitInfo rateLimit,
+    RestClientConfigInfo restClientConfig
 ) implements EntityInfo, ImportsSupplier {
 
     /**
@@ -40,7 +45,7 @@ public record ResourceInfo (
      * @param name the resource name.
      */
     public ResourceInfo(String name) {
-        this(name, ImportInfo.empty(), emptyList(), emptyList());
+        this(name, ImportInfo.empty(), emptyList(), emptyList(), null, null);
     }
 
     /**
@@ -49,7 +54,7 @@ public record ResourceInfo (
      * @return the new and updated {@link ResourceInfo} object.
      */
     public ResourceInfo withAddedNormalImport(String normalImport) {
-        return new ResourceInfo(name, imports.withAddedNormalImport(normalImport), annotations, methods);
+        return new ResourceInfo(name, imports.withAddedNormalImport(normalImport), annotations, methods, rateLimit, restClientConfig);
     }
 
     /**
@@ -60,7 +65,7 @@ public record ResourceInfo (
     public ResourceInfo withAddedAnnotation(AnnotationInfo annotation) {
         List<AnnotationInfo> newAnnotations = new LinkedList<>(annotations);
         newAnnotations.add(annotation);
-        return new ResourceInfo(name, imports, newAnnotations, methods);
+        return new ResourceInfo(name, imports, newAnnotations, methods, rateLimit, restClientConfig);
     }
 
     /**
@@ -71,7 +76,7 @@ public record ResourceInfo (
     public ResourceInfo withAddedAnnotations(Collection<AnnotationInfo> annotations) {
         List<AnnotationInfo> newAnnotations = new LinkedList<>(this.annotations);
         newAnnotations.addAll(annotations);
-        return new ResourceInfo(name, imports, newAnnotations, methods);
+        return new ResourceInfo(name, imports, newAnnotations, methods, rateLimit, restClientConfig);
     }
 
     /**
@@ -82,7 +87,25 @@ public record ResourceInfo (
     public ResourceInfo withAddedMethod(MethodInfo method) {
         List<MethodInfo> newMethods = new LinkedList<>(methods);
         newMethods.add(method);
-        return new ResourceInfo(name, imports, annotations, newMethods);
+        return new ResourceInfo(name, imports, annotations, newMethods, rateLimit, restClientConfig);
+    }
+
+    /**
+     * Returns a new {@link ResourceInfo} object with specified rate limit.
+     * @param rateLimit the rate limit of all requests of this resource combined.
+     * @return the new and updated {@link ResourceInfo} object.
+     */
+    public ResourceInfo withRateLimit(RateLimitInfo rateLimit) {
+        return new ResourceInfo(name, imports, annotations, methods, rateLimit, restClientConfig);
+    }
+
+    /**
+     * Returns a new {@link ResourceInfo} object with specified Microprofile Rest Client settings.
+     * @param restClientConfig the Microprofile Rest Client settings of the config key of this resource.
+     * @return the new and updated {@link ResourceInfo} object.
+     */
+    public ResourceInfo withRestClientConfig(RestClientConfigInfo restClientConfig) {
+        return new ResourceInfo(name, imports, annotations, methods, rateLimit, restClientConfig);
     }
 
     /**
@@ -93,6 +116,32 @@ public record ResourceInfo (
         return CollectionHelper.isEmpty(methods);
     }
 
+    /**
+     * Gets the name of the response exception mapper of specified resource.
+     * @param resourceName the resource name.
+     * @return the response exception mapper name.
+     */
+    public static String getExceptionMapperName(String resourceName) {
+        return resourceName + "ExceptionMapper";
+    }
+
+    /**
+     * Gets whether requests of this resource, or of any of its methods, are rate limited.
+     * @return true if requests are rate limited; else false.
+     */
+    public boolean hasRateLimits() {
+        return nonNull(rateLimit) || methods.stream().anyMatch(m -> nonNull(m.rateLimit()));
+    }
+
+    /**
+     * Gets the name of the rate limiting request filter of specified resource.
+     * @param resourceName the resource name.
+     * @return the rate limiting request filter name.
+     */
+    public static String getRateLimitFilterName(String resourceName) {
+        return resourceName + "RateLimitFilter";
+    }
+
     @Override
     public Set<String> aggregatedNormalImports() {
         Set<String> aggregated = new TreeSet<>();
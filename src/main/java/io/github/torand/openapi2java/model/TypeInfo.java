@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Collections.emptyList;
@@ -235,6 +236,22 @@ public record TypeInfo (
         return new AnnotatedTypeName(annotatedFullName);
     }
 
+    /**
+     * Gets the normal imports required by the type name, including generic composites but excluding annotations.
+     * @return the normal imports.
+     */
+    public Set<String> typeNameNormalImports() {
+        Set<String> typeNameImports = new TreeSet<>(imports.normalImports());
+        if (nonNull(keyType)) {
+            typeNameImports.addAll(keyType.typeNameNormalImports());
+        }
+        if (nonNull(itemType)) {
+            typeNameImports.addAll(itemType.typeNameNormalImports());
+        }
+
+        return typeNameImports;
+    }
+
     @Override
     public Set<String> aggregatedNormalImports() {
         ImportInfo imports = this.imports.withAddedImports(annotations);
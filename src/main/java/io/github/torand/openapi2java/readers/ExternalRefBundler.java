@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.readers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.torand.openapi2java.readers.SpecFileLoader.isLocalRef;
+import static io.github.torand.openapi2java.readers.SpecFileLoader.resolveFileRef;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Bundles components referenced from other files into the components section of the root OpenAPI specification file,
+ * replacing external references with local references.
+ */
+public class ExternalRefBundler {
+
+    /**
+     * The kind of OpenAPI object a reference occurs in place of.
+     */
+    private enum RefContext {
+        OTHER(null),
+        PATHS(null),
+        PATH_ITEM(null),
+        PARAMETERS(null),
+        PARAMETER("parameters"),
+        RESPONSES(null),
+        RESPONSE("responses"),
+        HEADERS(null),
+        HEADER("headers"),
+        REQUEST_BODIES(null),
+        REQUEST_BODY("requestBodies"),
+        EXAMPLES(null),
+        EXAMPLE("examples"),
+        SCHEMA("schemas");
+
+        private final String componentType;
+
+        RefContext(String componentType) {
+            this.componentType = componentType;
+        }
+
+        RefContext child(String fieldName) {
+            switch (this) {
+                case SCHEMA: return SCHEMA;
+                case PATHS: return PATH_ITEM;
+                case PARAMETERS: return PARAMETER;
+                case RESPONSES: return RESPONSE;
+                case HEADERS: return HEADER;
+                case REQUEST_BODIES: return REQUEST_BODY;
+                case EXAMPLES: return EXAMPLE;
+                default: break;
+            }
+
+            if (isNull(fieldName)) {
+                return OTHER;
+            }
+
+            return switch (fieldName) {
+                case "paths", "webhooks" -> PATHS;
+                case "parameters" -> PARAMETERS;
+                case "responses" -> RESPONSES;
+                case "headers" -> HEADERS;
+                case "requestBodies" -> REQUEST_BODIES;
+                case "requestBody" -> REQUEST_BODY;
+                case "examples" -> EXAMPLES;
+                case "schema", "schemas" -> SCHEMA;
+                default -> OTHER;
+            };
+        }
+    }
+
+    /**
+     * A root component defined by a reference to another file.
+     */
+    private record ComponentAlias(RefContext context, String name, String ref, URI fileUri, String pointer) {
+    }
+
+    private final URI rootUri;
+    private final Map<URI, JsonNode> files;
+    private final Map<String, String> localRefsByExternalRef = new HashMap<>();
+    private ObjectNode components;
+
+    /**
+     * Constructs an {@link ExternalRefBundler} object.
+     * @param rootUri the URI of the root file.
+     * @param files the root file and all files referenced by it, by URI.
+     */
+    public ExternalRefBundler(URI rootUri, Map<URI, JsonNode> files) {
+        this.rootUri = rootUri;
+        this.files = files;
+    }
+
+    /**
+     * Bundles all components referenced from other files into the root file, which is modified in place.
+     * @return the bundled root file.
+     */
+    public ObjectNode bundle() {
+        if (!(files.get(rootUri) instanceof ObjectNode rootFile)) {
+            throw new OpenApi2JavaException("Invalid OpenAPI specification %s".formatted(rootUri));
+        }
+
+        this.components = rootFile.get("components") instanceof ObjectNode rootComponents
+            ? rootComponents
+            : rootFile.putObject("components");
+
+        bundleComponentAliases();
+        bundleRefs(rootFile, rootUri, RefContext.OTHER);
+        return rootFile;
+    }
+
+    /**
+     * Replaces root components defined by an external reference, e.g. components.schemas.Pet: {$ref: 'schemas/Pet.yaml'},
+     * with the referenced content, so the component retains its name rather than being bundled under a new one.
+     */
+    private void bundleComponentAliases() {
+        List<ComponentAlias> aliases = new ArrayList<>();
+
+        // Register all aliases before bundling any, so aliases referencing each other resolve to the alias names
+        for (RefContext context : RefContext.values()) {
+            if (isNull(context.componentType) || !(components.get(context.componentType) instanceof ObjectNode componentsOfType)) {
+                continue;
+            }
+
+            componentsOfType.fields().forEachRemaining(entry -> {
+                if (!(entry.getValue() instanceof ObjectNode component) || !(component.get("$ref") instanceof TextNode refNode)) {
+                    return;
+                }
+
+                String ref = refNode.asText();
+                if (ref.startsWith("#") || !isLocalRef(ref)) {
+                    return;
+                }
+
+                URI fileUri = resolveFileRef(ref, rootUri);
+                if (fileUri.equals(rootUri)) {
+                    return;
+                }
+
+                String pointer = getPointer(ref);
+                String externalRef = context.componentType + ":" + fileUri + "#" + pointer;
+                String localRef = "#/components/%s/%s".formatted(context.componentType, escapeJsonPointer(entry.getKey()));
+                if (isNull(localRefsByExternalRef.putIfAbsent(externalRef, localRef))) {
+                    aliases.add(new ComponentAlias(context, entry.getKey(), ref, fileUri, pointer));
+                }
+            });
+        }
+
+        aliases.forEach(alias -> {
+            JsonNode target = getTarget(alias.fileUri(), alias.pointer(), alias.ref()).deepCopy();
+            componentsOfType(alias.context().componentType).set(alias.name(), target);
+            bundleRefs(target, alias.fileUri(), alias.context());
+        });
+    }
+
+    private void bundleRefs(JsonNode node, URI baseUri, RefContext context) {
+        if (node instanceof ObjectNode objectNode) {
+            JsonNode refNode = objectNode.get("$ref");
+            if (nonNull(refNode) && refNode.isTextual()) {
+                bundleRef(objectNode, refNode.asText(), baseUri, context);
+                return;
+            }
+
+            List<String> fieldNames = new ArrayList<>();
+            objectNode.fieldNames().forEachRemaining(fieldNames::add);
+            fieldNames.forEach(fieldName -> bundleRefs(objectNode.get(fieldName), baseUri, context.child(fieldName)));
+        } else if (node instanceof ArrayNode arrayNode) {
+            arrayNode.forEach(element -> bundleRefs(element, baseUri, context.child(null)));
+        }
+    }
+
+    private void bundleRef(ObjectNode refObject, String ref, URI baseUri, RefContext context) {
+        boolean isRootLocalRef = ref.startsWith("#") && baseUri.equals(rootUri);
+        if (isRootLocalRef || !isLocalRef(ref)) {
+            return;
+        }
+
+        URI fileUri = resolveFileRef(ref, baseUri);
+        String pointer = getPointer(ref);
+
+        if (fileUri.equals(rootUri) && !pointer.isEmpty()) {
+            // Reference back into the root file
+            refObject.put("$ref", "#" + pointer);
+            return;
+        }
+
+        if (isNull(context.componentType)) {
+            // Objects without a component type (e.g. path items) are inlined
+            JsonNode target = getTarget(fileUri, pointer, ref).deepCopy();
+            bundleRefs(target, fileUri, context);
+            refObject.removeAll();
+            if (target instanceof ObjectNode targetObject) {
+                refObject.setAll(targetObject);
+            }
+            return;
+        }
+
+        String externalRef = context.componentType + ":" + fileUri + "#" + pointer;
+        String localRef = localRefsByExternalRef.get(externalRef);
+        if (isNull(localRef)) {
+            JsonNode target = getTarget(fileUri, pointer, ref).deepCopy();
+            String name = getUniqueName(context.componentType, getComponentName(fileUri, pointer));
+            localRef = "#/components/%s/%s".formatted(context.componentType, escapeJsonPointer(name));
+
+            // Register before recursing to support circular references
+            localRefsByExternalRef.put(externalRef, localRef);
+            componentsOfType(context.componentType).set(name, target);
+            bundleRefs(target, fileUri, context);
+        }
+
+        refObject.put("$ref", localRef);
+    }
+
+    private JsonNode getTarget(URI fileUri, String pointer, String ref) {
+        JsonNode file = files.get(fileUri);
+        if (isNull(file)) {
+            throw new OpenApi2JavaException("Referenced file not loaded: %s".formatted(ref));
+        }
+
+        JsonNode target = pointer.isEmpty() ? file : file.at(pointer);
+        if (target.isMissingNode()) {
+            throw new OpenApi2JavaException("Reference %s not found in file %s".formatted(ref, fileUri));
+        }
+
+        return target;
+    }
+
+    private static String getPointer(String ref) {
+        return ref.contains("#") ? ref.substring(ref.indexOf('#') + 1) : "";
+    }
+
+    private String getComponentName(URI fileUri, String pointer) {
+        if (!pointer.isEmpty()) {
+            String lastSegment = pointer.substring(pointer.lastIndexOf('/') + 1);
+            return lastSegment.replace("~1", "/").replace("~0", "~");
+        }
+
+        String path = fileUri.getPath();
+        String filename = path.substring(path.lastIndexOf('/') + 1);
+        int dotPos = filename.lastIndexOf('.');
+        return dotPos > 0 ? filename.substring(0, dotPos) : filename;
+    }
+
+    private String getUniqueName(String componentType, String name) {
+        ObjectNode componentsOfType = componentsOfType(componentType);
+        String uniqueName = name;
+        int suffix = 2;
+        while (componentsOfType.has(uniqueName)) {
+            uniqueName = name + suffix++;
+        }
+        return uniqueName;
+    }
+
+    private ObjectNode componentsOfType(String componentType) {
+        if (components.get(componentType) instanceof ObjectNode componentsOfType) {
+            return componentsOfType;
+        }
+        return components.putObject(componentType);
+    }
+
+    private static String escapeJsonPointer(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.readers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reads an OpenAPI specification into an OpenAPI model.
+ */
+public class OpenApiReader {
+    private static final Logger logger = LoggerFactory.getLogger(OpenApiReader.class);
+
+    private static final List<String> HTTP_METHODS = List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final List<String> EXAMPLE_FIELDS = List.of("example", "examples");
+
+    /**
+     * Fields of OpenAPI objects and schemas whose value is a map keyed by user-defined names, e.g. property names.
+     */
+    private static final Set<String> NAMED_MAP_FIELDS = Set.of(
+        "paths", "webhooks", "schemas", "responses", "parameters", "requestBodies", "headers", "securitySchemes",
+        "links", "callbacks", "pathItems", "content", "encoding", "variables", "mapping", "scopes",
+        "properties", "patternProperties", "dependentSchemas", "$defs", "definitions"
+    );
+
+    /**
+     * Fields of OpenAPI objects and schemas whose value is arbitrary data, not OpenAPI objects.
+     */
+    private static final Set<String> DATA_FIELDS = Set.of("default", "enum", "const", "value");
+
+    private final Options opts;
+
+    public OpenApiReader(Options opts) {
+        this.opts = opts;
+    }
+
+    /**
+     * Reads the OpenAPI specification at specified location.
+     * @param location the file path or URI of the OpenAPI specification.
+     * @return the OpenAPI model.
+     */
+    public OpenAPI read(String location) {
+        boolean filterTags = opts.readIncludedTagsOnly() && !isEmpty(opts.includeTags());
+        boolean removeUnusedContent = opts.lowMemoryMode() && !opts.generateStaticOpenApiFile();
+
+        SwaggerParseResult result = filterTags || removeUnusedContent || opts.loadExternalRefsInParallel() || SpecFileLoader.isPrecompiled(location)
+            ? readTree(location, filterTags, removeUnusedContent)
+            : new OpenAPIV3Parser().readLocation(location, null, null);
+
+        if (isNull(result.getOpenAPI())) {
+            throw new OpenApi2JavaException("Failed to read OpenAPI specification %s: %s".formatted(location, result.getMessages()));
+        }
+
+        return result.getOpenAPI();
+    }
+
+    private SwaggerParseResult readTree(String location, boolean filterTags, boolean removeUnusedContent) {
+        URI rootUri = SpecFileLoader.toUri(location);
+        SpecFileLoader specFileLoader = new SpecFileLoader(opts);
+
+        ObjectNode rootObject;
+        if (opts.loadExternalRefsInParallel()) {
+            rootObject = new ExternalRefBundler(rootUri, specFileLoader.loadAll(rootUri)).bundle();
+        } else if (specFileLoader.load(rootUri) instanceof ObjectNode rootFile) {
+            rootObject = rootFile;
+        } else {
+            throw new OpenApi2JavaException("Invalid OpenAPI specification %s".formatted(location));
+        }
+
+        if (filterTags) {
+            Set<String> refs = new HashSet<>();
+            boolean hasExternalPathRefs = filterPaths(rootObject, refs);
+            if (hasExternalPathRefs) {
+                // The components used by externally referenced path items are unknown until the references are resolved
+                if (opts.verbose()) {
+                    logger.info("Materializing all components, as some path items are external references");
+                }
+            } else {
+                filterComponents(rootObject, refs);
+            }
+        }
+
+        if (removeUnusedContent) {
+            removeExamples(rootObject);
+        }
+
+        return new OpenAPIV3Parser().parseJsonNode(location, rootObject);
+    }
+
+    /**
+     * Removes operations not tagged with any of the included tags, and collects the component references
+     * of the remaining path items. Path items defined by a reference are retained, as their operations
+     * are not known until the reference is resolved.
+     * @return true if any retained path item is a reference to an external file.
+     */
+    private boolean filterPaths(ObjectNode rootObject, Set<String> refs) {
+        JsonNode pathsNode = rootObject.get("paths");
+        if (!(pathsNode instanceof ObjectNode paths)) {
+            return false;
+        }
+
+        boolean hasExternalPathRefs = false;
+
+        int operationCount = 0;
+        int includedOperationCount = 0;
+
+        Iterator<Map.Entry<String, JsonNode>> pathIterator = paths.fields();
+        while (pathIterator.hasNext()) {
+            Map.Entry<String, JsonNode> pathEntry = pathIterator.next();
+            if (!(pathEntry.getValue() instanceof ObjectNode pathItem)) {
+                continue;
+            }
+
+            JsonNode pathItemRef = pathItem.get("$ref");
+            if (nonNull(pathItemRef)) {
+                hasExternalPathRefs |= !pathItemRef.asText().startsWith("#");
+                collectComponentRefs(pathItem, refs);
+                continue;
+            }
+
+            for (String method : HTTP_METHODS) {
+                JsonNode operation = pathItem.get(method);
+                if (nonNull(operation)) {
+                    operationCount++;
+                    if (isIncludedOperation(operation)) {
+                        includedOperationCount++;
+                    } else {
+                        pathItem.remove(method);
+                    }
+                }
+            }
+
+            if (HTTP_METHODS.stream().noneMatch(pathItem::has)) {
+                pathIterator.remove();
+            } else {
+                collectComponentRefs(pathItem, refs);
+            }
+        }
+
+        if (opts.verbose()) {
+            logger.info("Materializing {} of {} operations for tags {}", includedOperationCount, operationCount, opts.includeTags());
+        }
+
+        return hasExternalPathRefs;
+    }
+
+    private boolean isIncludedOperation(JsonNode operation) {
+        JsonNode tags = operation.get("tags");
+        if (isNull(tags) || tags.isEmpty()) {
+            return true;
+        }
+
+        for (JsonNode tag : tags) {
+            if (opts.includeTags().contains(tag.asText())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes components not referenced, directly or transitively, by the remaining path items.
+     * Security schemes are always retained, as they are referenced by name rather than by reference.
+     */
+    private void filterComponents(ObjectNode rootObject, Set<String> refs) {
+        JsonNode componentsNode = rootObject.get("components");
+        if (!(componentsNode instanceof ObjectNode components)) {
+            return;
+        }
+
+        Deque<String> pendingRefs = new ArrayDeque<>(refs);
+        while (!pendingRefs.isEmpty()) {
+            String ref = pendingRefs.pop();
+            JsonNode component = getComponent(components, ref);
+            if (nonNull(component)) {
+                Set<String> nestedRefs = new HashSet<>();
+                collectComponentRefs(component, nestedRefs);
+                nestedRefs.stream()
+                    .filter(refs::add)
+                    .forEach(pendingRefs::push);
+            }
+        }
+
+        int componentCount = 0;
+        int includedComponentCount = 0;
+
+        Iterator<Map.Entry<String, JsonNode>> typeIterator = components.fields();
+        while (typeIterator.hasNext()) {
+            Map.Entry<String, JsonNode> typeEntry = typeIterator.next();
+            if (typeEntry.getKey().equals("securitySchemes") || !(typeEntry.getValue() instanceof ObjectNode componentsOfType)) {
+                continue;
+            }
+
+            Iterator<String> nameIterator = componentsOfType.fieldNames();
+            while (nameIterator.hasNext()) {
+                String name = nameIterator.next();
+                componentCount++;
+                if (refs.contains(COMPONENTS_REF_PREFIX + typeEntry.getKey() + "/" + escapeJsonPointer(name))) {
+                    includedComponentCount++;
+                } else {
+                    nameIterator.remove();
+                }
+            }
+        }
+
+        if (opts.verbose()) {
+            logger.info("Materializing {} of {} components", includedComponentCount, componentCount);
+        }
+    }
+
+    private JsonNode getComponent(ObjectNode components, String ref) {
+        String[] refParts = ref.substring(COMPONENTS_REF_PREFIX.length()).split("/");
+        JsonNode componentsOfType = components.get(refParts[0]);
+        return nonNull(componentsOfType) ? componentsOfType.get(unescapeJsonPointer(refParts[1])) : null;
+    }
+
+    /**
+     * Collects all local component references in specified node, including discriminator mappings.
+     */
+    private void collectComponentRefs(JsonNode node, Set<String> refs) {
+        if (node.isTextual()) {
+            String text = node.asText();
+            if (text.startsWith(COMPONENTS_REF_PREFIX)) {
+                // Strip any pointer into the component itself, e.g. "#/components/schemas/Order/properties/id"
+                String[] refParts = text.substring(COMPONENTS_REF_PREFIX.length()).split("/");
+                if (refParts.length >= 2) {
+                    refs.add(COMPONENTS_REF_PREFIX + refParts[0] + "/" + refParts[1]);
+                }
+            }
+        } else if (node.isContainerNode()) {
+            node.forEach(childNode -> collectComponentRefs(childNode, refs));
+        }
+    }
+
+    /**
+     * Removes examples, which are not used for code generation, from specified OpenAPI object or schema and its descendants.
+     * Only the example fields of OpenAPI objects and schemas are removed, so user-defined names (e.g. a property named
+     * "example") and arbitrary data (e.g. default values and extensions) are retained.
+     */
+    private void removeExamples(JsonNode node) {
+        if (node instanceof ObjectNode objectNode) {
+            objectNode.remove(EXAMPLE_FIELDS);
+            objectNode.fields().forEachRemaining(field -> {
+                String name = field.getKey();
+                if (name.startsWith("x-") || DATA_FIELDS.contains(name)) {
+                    return;
+                }
+                if (name.equals("security")) {
+                    // Security requirements are maps of security scheme names to scopes
+                    return;
+                }
+                if (NAMED_MAP_FIELDS.contains(name) && field.getValue() instanceof ObjectNode namedMap) {
+                    namedMap.forEach(this::removeExamples);
+                } else {
+                    removeExamples(field.getValue());
+                }
+            });
+        } else if (node.isArray()) {
+            node.forEach(this::removeExamples);
+        }
+    }
+
+    private static String escapeJsonPointer(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescapeJsonPointer(String refPart) {
+        return refPart.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.readers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Loads OpenAPI specification files, and the local files they reference, into raw JSON trees.
+ */
+public class SpecFileLoader {
+    private static final Logger logger = LoggerFactory.getLogger(SpecFileLoader.class);
+
+    /**
+     * A parsed file and the files it references.
+     */
+    private record LoadedFile(URI uri, JsonNode content, Set<URI> referencedUris) {
+    }
+
+    private final Options opts;
+
+    public SpecFileLoader(Options opts) {
+        this.opts = opts;
+    }
+
+    /**
+     * Converts a file path or URI into a normalized URI.
+     * @param location the file path or URI.
+     * @return the URI.
+     */
+    public static URI toUri(String location) {
+        if (location.matches("^[a-zA-Z][a-zA-Z0-9+.-]+:.*")) {
+            return URI.create(location).normalize();
+        }
+        return Path.of(location).toAbsolutePath().toUri().normalize();
+    }
+
+    /**
+     * Loads a single file. The returned tree is owned by the caller and may be modified.
+     * @param uri the file URI.
+     * @return the parsed file.
+     */
+    public JsonNode load(URI uri) {
+        byte[] content = readBytes(uri);
+        verifyChecksum(uri, content);
+
+        if (isGzipped(content)) {
+            content = gunzip(content, uri);
+        }
+
+        JsonNode parsedFile = DeserializationUtils.deserializeIntoTree(new String(content, StandardCharsets.UTF_8), uri.toString());
+        if (parsedFile == null) {
+            throw new OpenApi2JavaException("Failed to parse OpenAPI specification file %s".formatted(uri));
+        }
+
+        return parsedFile;
+    }
+
+    /**
+     * Loads the root file and all local files referenced by it, directly or transitively.
+     * Files are loaded concurrently, each file as soon as the first file referencing it has been parsed.
+     * The returned trees are owned by the caller and may be modified.
+     * @param rootUri the root file URI.
+     * @return the parsed files by URI.
+     */
+    public Map<URI, JsonNode> loadAll(URI rootUri) {
+        long startTime = System.currentTimeMillis();
+
+        Map<URI, JsonNode> files = new HashMap<>();
+        Set<URI> submittedUris = new HashSet<>();
+
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CompletionService<LoadedFile> completionService = new ExecutorCompletionService<>(executor);
+            submitLoad(completionService, rootUri, submittedUris);
+            int pendingCount = 1;
+
+            while (pendingCount > 0) {
+                LoadedFile file = getResult(completionService);
+                pendingCount--;
+                files.put(file.uri(), file.content());
+
+                for (URI referencedUri : file.referencedUris()) {
+                    if (submitLoad(completionService, referencedUri, submittedUris)) {
+                        pendingCount++;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (opts.verbose()) {
+            logger.info("Loaded {} OpenAPI specification files in {} ms", files.size(), System.currentTimeMillis() - startTime);
+        }
+
+        return files;
+    }
+
+    /**
+     * Indicates if specified location is a precompiled OpenAPI specification. A local file is precompiled if it is
+     * accompanied by a checksum file or its content is gzip-compressed, regardless of its name. Other locations
+     * are only recognized by the '.gz' filename extension.
+     * @param location the file path or URI.
+     * @return true if location is a precompiled specification; else false.
+     */
+    public static boolean isPrecompiled(String location) {
+        URI uri = toUri(location);
+        if (!"file".equals(uri.getScheme())) {
+            return location.toLowerCase().endsWith(".gz");
+        }
+
+        Path path = Path.of(uri);
+        if (Files.exists(SpecPrecompiler.getChecksumFile(path))) {
+            return true;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return isGzipped(inputStream.readNBytes(2));
+        } catch (IOException e) {
+            // Unreadable files are reported when parsed
+            return false;
+        }
+    }
+
+    /**
+     * Indicates if specified reference points to a local file or to a component within the same file.
+     * @param ref the reference.
+     * @return true if reference is local; else false.
+     */
+    static boolean isLocalRef(String ref) {
+        return !ref.startsWith("http:") && !ref.startsWith("https:");
+    }
+
+    /**
+     * Resolves the file part of a reference against the URI of the referencing file.
+     * @param ref the reference.
+     * @param baseUri the URI of the referencing file.
+     * @return the URI of the referenced file.
+     */
+    static URI resolveFileRef(String ref, URI baseUri) {
+        int hashPos = ref.indexOf('#');
+        String filePart = hashPos < 0 ? ref : ref.substring(0, hashPos);
+        return filePart.isEmpty() ? baseUri : baseUri.resolve(filePart).normalize();
+    }
+
+    private void collectFileRefs(JsonNode node, URI baseUri, Set<URI> refs) {
+        if (node.isObject()) {
+            JsonNode refNode = node.get("$ref");
+            if (nonNull(refNode) && refNode.isTextual()) {
+                String ref = refNode.asText();
+                if (!ref.startsWith("#") && isLocalRef(ref)) {
+                    refs.add(resolveFileRef(ref, baseUri));
+                }
+            }
+        }
+        if (node.isContainerNode()) {
+            node.forEach(childNode -> collectFileRefs(childNode, baseUri, refs));
+        }
+    }
+
+    private boolean submitLoad(CompletionService<LoadedFile> completionService, URI uri, Set<URI> submittedUris) {
+        if (!submittedUris.add(uri)) {
+            return false;
+        }
+
+        completionService.submit(() -> {
+            JsonNode content = load(uri);
+            Set<URI> referencedUris = new HashSet<>();
+            collectFileRefs(content, uri, referencedUris);
+            return new LoadedFile(uri, content, referencedUris);
+        });
+        return true;
+    }
+
+    private LoadedFile getResult(CompletionService<LoadedFile> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenApi2JavaException("Interrupted while loading OpenAPI specification files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OpenApi2JavaException cause) {
+                throw cause;
+            }
+            throw new OpenApi2JavaException("Failed to load OpenAPI specification file", e.getCause());
+        }
+    }
+
+    private byte[] readBytes(URI uri) {
+        try {
+            if ("file".equals(uri.getScheme())) {
+                return Files.readAllBytes(Path.of(uri));
+            }
+            try (InputStream inputStream = uri.toURL().openStream()) {
+                return inputStream.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to read OpenAPI specification file %s".formatted(uri), e);
+        }
+    }
+
+    /**
+     * Verifies the content against the accompanying checksum file of a precompiled specification, if any.
+     */
+    private void verifyChecksum(URI uri, byte[] content) {
+        if (!"file".equals(uri.getScheme())) {
+            return;
+        }
+
+        Path checksumFile = SpecPrecompiler.getChecksumFile(Path.of(uri));
+        if (Files.exists(checksumFile)) {
+            try {
+                String expectedHash = Files.readString(checksumFile).trim().split("\\s+")[0];
+                String contentHash = hash(content);
+                if (!expectedHash.equalsIgnoreCase(contentHash)) {
+                    throw new OpenApi2JavaException("Checksum mismatch for OpenAPI specification file %s: expected %s, was %s".formatted(uri, expectedHash, contentHash));
+                }
+            } catch (IOException e) {
+                throw new OpenApi2JavaException("Failed to read checksum file %s".formatted(checksumFile), e);
+            }
+        }
+    }
+
+    private static boolean isGzipped(byte[] content) {
+        return content.length >= 2 && (content[0] & 0xff) == 0x1f && (content[1] & 0xff) == 0x8b;
+    }
+
+    private static byte[] gunzip(byte[] content, URI uri) {
+        try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return gzipStream.readAllBytes();
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to decompress OpenAPI specification file %s".formatted(uri), e);
+        }
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
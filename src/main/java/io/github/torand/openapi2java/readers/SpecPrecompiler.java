@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.readers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Converts an OpenAPI specification, including any local files it references, into a single precompiled file.
+ * The precompiled file is minified JSON, optionally gzip-compressed, and is accompanied by a checksum file
+ * with the SHA-256 hash of its content.
+ */
+public class SpecPrecompiler {
+    private static final Logger logger = LoggerFactory.getLogger(SpecPrecompiler.class);
+
+    /**
+     * Filename extension of checksum files.
+     */
+    public static final String CHECKSUM_FILE_EXTENSION = ".sha256";
+
+    private final Options opts;
+
+    public SpecPrecompiler(Options opts) {
+        this.opts = opts;
+    }
+
+    /**
+     * Precompiles the OpenAPI specification at specified location.
+     * @param location the file path or URI of the OpenAPI specification.
+     * @param outputFile the precompiled file to write.
+     * @param compress the flag to gzip-compress the precompiled file.
+     * @return the SHA-256 hash of the precompiled file content.
+     */
+    public String precompile(String location, Path outputFile, boolean compress) {
+        URI rootUri = SpecFileLoader.toUri(location);
+        SpecFileLoader specFileLoader = new SpecFileLoader(opts);
+        ObjectNode bundledRoot = new ExternalRefBundler(rootUri, specFileLoader.loadAll(rootUri)).bundle();
+
+        try {
+            byte[] json = new ObjectMapper().writeValueAsBytes(bundledRoot);
+            byte[] content = compress ? gzip(json) : json;
+            String contentHash = SpecFileLoader.hash(content);
+
+            if (nonNull(outputFile.getParent())) {
+                Files.createDirectories(outputFile.getParent());
+            }
+            Files.write(outputFile, content);
+            Files.writeString(getChecksumFile(outputFile), "%s  %s%n".formatted(contentHash, outputFile.getFileName()), StandardCharsets.UTF_8);
+
+            if (logger.isInfoEnabled()) {
+                logger.info("Precompiled OpenAPI specification {} into {} ({} bytes, SHA-256 {})", location, outputFile, content.length, contentHash);
+            }
+
+            return contentHash;
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write file %s".formatted(outputFile), e);
+        }
+    }
+
+    /**
+     * Gets the checksum file accompanying specified precompiled file.
+     * @param precompiledFile the precompiled file.
+     * @return the checksum file.
+     */
+    public static Path getChecksumFile(Path precompiledFile) {
+        return precompiledFile.resolveSibling(precompiledFile.getFileName() + CHECKSUM_FILE_EXTENSION);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzipStream = new GZIPOutputStream(bytes)) {
+            gzipStream.write(content);
+        }
+        return bytes.toByteArray();
+    }
+}
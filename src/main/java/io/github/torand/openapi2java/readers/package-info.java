@@ -0,0 +1,4 @@
+/**
+ * Provides classes for reading OpenAPI specifications.
+ */
+package io.github.torand.openapi2java.readers;
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Maintains canonical instances of immutable objects, keyed by structural equality.
+ * Canonical instances are retained for the lifetime of the interner, which should be scoped to a single generation run.
+ * This class is not thread-safe.
+ * @param <T> the type of objects to intern.
+ */
+public final class Interner<T> {
+    private final Map<T, T> canonicalInstances = new HashMap<>();
+    private int hitCount = 0;
+
+    /**
+     * Gets the canonical instance equal to specified object, registering the object as canonical if none exists.
+     * @param instance the object to intern.
+     * @return the canonical instance.
+     */
+    public T intern(T instance) {
+        return intern(instance, UnaryOperator.identity());
+    }
+
+    /**
+     * Gets the canonical instance equal to specified object. If none exists, the object is first canonicalized,
+     * e.g. by interning its components, and the result registered as canonical.
+     * @param instance the object to intern.
+     * @param canonicalizer the function producing an object equal to its argument, with canonical components.
+     * @return the canonical instance.
+     */
+    public T intern(T instance, UnaryOperator<T> canonicalizer) {
+        if (isNull(instance)) {
+            return null;
+        }
+
+        T canonical = canonicalInstances.get(instance);
+        if (isNull(canonical)) {
+            canonical = canonicalizer.apply(instance);
+            canonicalInstances.put(canonical, canonical);
+        } else {
+            hitCount++;
+        }
+
+        return canonical;
+    }
+
+    /**
+     * Gets the number of canonical instances registered.
+     * @return the number of canonical instances.
+     */
+    public int size() {
+        return canonicalInstances.size();
+    }
+
+    /**
+     * Gets the number of interned objects replaced by an existing canonical instance.
+     * @return the number of interned objects replaced.
+     */
+    public int hitCount() {
+        return hitCount;
+    }
+}
@@ -15,13 +15,36 @@
  */
 package io.github.torand.openapi2java.utils;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Provides functions to map between Java and Kotlin native types-
  */
 public final class KotlinTypeMapper {
+    // Matches quoted strings (left untouched) or type names, possibly as type arguments of generic types
+    private static final Pattern TYPE_NAME_TOKEN = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"|[A-Za-z_][\\w.]*(?:\\[])?");
+
     private KotlinTypeMapper() {}
 
     public static String toKotlinNative(String typeName) {
+        if (typeName.indexOf('<') < 0) {
+            return toKotlinNativeName(typeName);
+        }
+
+        Matcher matcher = TYPE_NAME_TOKEN.matcher(typeName);
+        StringBuilder kotlinTypeName = new StringBuilder();
+        while (matcher.find()) {
+            String token = matcher.group();
+            String kotlinToken = token.startsWith("\"") ? token : toKotlinNativeName(token);
+            matcher.appendReplacement(kotlinTypeName, Matcher.quoteReplacement(kotlinToken));
+        }
+        matcher.appendTail(kotlinTypeName);
+
+        return kotlinTypeName.toString();
+    }
+
+    private static String toKotlinNativeName(String typeName) {
         return switch (typeName) {
             case "Integer" -> "Int";
             case "byte" -> "Byte";
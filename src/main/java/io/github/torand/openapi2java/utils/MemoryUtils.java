@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * A collection of memory utilities.
+ */
+public class MemoryUtils {
+    private MemoryUtils() {}
+
+    /**
+     * Runs garbage collection and gets the used heap memory, i.e. approximately the heap retained at this point.
+     * If explicit garbage collection is disabled (-XX:+DisableExplicitGC), the result includes unreachable objects.
+     * @return the used heap memory after garbage collection in bytes.
+     */
+    public static long getUsedHeapAfterGc() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        memoryBean.gc();
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Formats a number of bytes as megabytes.
+     * @param bytes the number of bytes.
+     * @return the formatted number of megabytes.
+     */
+    public static String formatMegabytes(long bytes) {
+        return "%.1f MB".formatted(bytes / (1024.0 * 1024.0));
+    }
+}
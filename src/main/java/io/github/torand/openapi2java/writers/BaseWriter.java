@@ -16,10 +16,15 @@
 package io.github.torand.openapi2java.writers;
 
 import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.PartitionedImports;
 import io.github.torand.openapi2java.utils.OpenApi2JavaException;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.joining;
 
 /**
  * Base class for all code writers.
@@ -99,6 +104,32 @@ public abstract class BaseWriter implements AutoCloseable {
         }
     }
 
+    /**
+     * Writes a line of code, indented by specified number of levels.
+     * The code is written verbatim, i.e. not used as a format string.
+     * @param indentLevels the number of indent levels.
+     * @param code the code to write.
+     */
+    protected void writeCode(int indentLevels, String code) {
+        writeIndent(indentLevels);
+        writeLine("%s", code);
+    }
+
+    /**
+     * Verifies that no two imports refer to same-named classes in different packages, which would not compile.
+     * @param className the name of the class being written.
+     * @param imports the imports of the class being written.
+     */
+    protected void verifyNoImportConflicts(String className, PartitionedImports imports) {
+        Map<String, Set<String>> conflicts = imports.conflicts();
+        if (!conflicts.isEmpty()) {
+            String details = conflicts.values().stream()
+                .map(fqns -> String.join(", ", fqns))
+                .collect(joining("; "));
+            throw new OpenApi2JavaException("Conflicting imports in %s: %s".formatted(className, details));
+        }
+    }
+
     @Override
     public void close() throws IOException {
         writer.close();
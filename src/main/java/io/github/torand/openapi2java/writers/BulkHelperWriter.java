@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.model.ResourceInfo;
+
+import java.io.IOException;
+
+/**
+ * Defines a code writer for bulk helpers of resources.
+ */
+public interface BulkHelperWriter extends AutoCloseable {
+
+    /**
+     * Writes code for the bulk helper class of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void write(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the result class shared by all bulk helper classes.
+     */
+    void writeResultClass();
+
+    @Override
+    void close() throws IOException;
+}
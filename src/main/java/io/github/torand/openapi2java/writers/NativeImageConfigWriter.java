@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.generators.Options;
+
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes GraalVM native-image configuration files in JSON format.
+ */
+public class NativeImageConfigWriter extends BaseWriter {
+
+    public NativeImageConfigWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Writes a reflection configuration registering all constructors, methods and fields of the specified classes.
+     * @param classNames the fully qualified class names.
+     */
+    public void writeReflectConfig(List<String> classNames) {
+        writeLine("[");
+        for (int i = 0; i < classNames.size(); i++) {
+            writeIndent(1);
+            writeLine("{");
+            writeIndent(2);
+            writeLine("\"name\": \"%s\",", classNames.get(i));
+            writeIndent(2);
+            writeLine("\"allDeclaredConstructors\": true,");
+            writeIndent(2);
+            writeLine("\"allDeclaredMethods\": true,");
+            writeIndent(2);
+            writeLine("\"allDeclaredFields\": true");
+            writeIndent(1);
+            writeLine(i < classNames.size()-1 ? "}," : "}");
+        }
+        writeLine("]");
+    }
+
+    /**
+     * Writes a dynamic proxy configuration with one proxy per specified interface.
+     * @param interfaceNames the fully qualified interface names.
+     */
+    public void writeProxyConfig(List<String> interfaceNames) {
+        writeLine("[");
+        for (int i = 0; i < interfaceNames.size(); i++) {
+            writeIndent(1);
+            writeLine("{");
+            writeIndent(2);
+            writeLine("\"interfaces\": [ \"%s\" ]", interfaceNames.get(i));
+            writeIndent(1);
+            writeLine(i < interfaceNames.size()-1 ? "}," : "}");
+        }
+        writeLine("]");
+    }
+}
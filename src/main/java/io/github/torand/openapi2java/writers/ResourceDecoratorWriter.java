@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.model.ResourceInfo;
+
+import java.io.IOException;
+
+/**
+ * Defines a code writer for decorators of resource interfaces.
+ */
+public interface ResourceDecoratorWriter extends AutoCloseable {
+
+    /**
+     * Writes code for the caching decorator of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void writeCachingDecorator(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the response cache shared by all caching decorators.
+     */
+    void writeResponseCache();
+
+    /**
+     * Writes code for the coalescing decorator of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void writeCoalescingDecorator(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the in-flight call registry shared by all coalescing decorators.
+     */
+    void writeSingleFlight();
+
+    /**
+     * Writes code for the batching decorator of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void writeBatchingDecorator(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the call aggregator used by all batching decorators.
+     */
+    void writeBatcher();
+
+    /**
+     * Writes code for the hedging decorator of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void writeHedgingDecorator(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the hedged call executor shared by all hedging decorators.
+     */
+    void writeHedger();
+
+    @Override
+    void close() throws IOException;
+}
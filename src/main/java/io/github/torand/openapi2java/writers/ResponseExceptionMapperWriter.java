@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
+
+import java.io.IOException;
+
+/**
+ * Defines a code writer for response exception mappers.
+ */
+public interface ResponseExceptionMapperWriter extends AutoCloseable {
+
+    /**
+     * Writes code for the response exception mapper of specified resource.
+     * @param resourceInfo the resource information.
+     */
+    void write(ResourceInfo resourceInfo);
+
+    /**
+     * Writes code for the exception thrown for error responses with a body of specified type.
+     * @param errorType the error response body type.
+     */
+    void writeException(TypeInfo errorType);
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.RestClientConfigInfo;
+
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes Microprofile Rest Client configuration in properties file format.
+ */
+public class RestClientConfigWriter extends BaseWriter {
+
+    public RestClientConfigWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Writes the Quarkus REST Client properties of the specified config keys.
+     * @param restClientConfigs the Rest Client settings by config key.
+     */
+    public void write(List<RestClientConfigInfo> restClientConfigs) {
+        writeLine("# Generated by openapi2java. Properties in application.properties take precedence.");
+        restClientConfigs.forEach(restClientConfig -> {
+            writeNewLine();
+            String prefix = "quarkus.rest-client.\"%s\".".formatted(escapeKey(restClientConfig.configKey()));
+            restClientConfig.settings().forEach((name, value) -> writeLine("%s%s=%s", prefix, name, value));
+        });
+    }
+
+    private static String escapeKey(String key) {
+        return key.replace("\\", "\\\\").replace(" ", "\\ ").replace("=", "\\=").replace(":", "\\:");
+    }
+}
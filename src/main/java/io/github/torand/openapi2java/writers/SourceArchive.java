@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Collects generated source files into a single, reproducible source archive (srcjar), and/or retains them in memory.
+ * Source files are stored under the path of their package, so the archive can be used as a source root. Other generated
+ * files, e.g. configuration files in META-INF, are not archived but written to their configured directory, where the
+ * build picks them up as resources. Entries are streamed to the archive as soon as they are complete, with a fixed
+ * timestamp, so identical input gives byte-identical output.
+ */
+public class SourceArchive {
+
+    /**
+     * The file name of the source archive, written to the root output directory.
+     */
+    public static final String FILENAME = "openapi2java-sources.srcjar";
+
+    // The earliest timestamp representable in the zip format, used for all entries
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^package\\s+([\\w.]+)\\s*;?\\s*$", Pattern.MULTILINE);
+
+    private final Path rootDir;
+    private final boolean writeArchive;
+    private final Map<String, byte[]> entries;
+    private final BiConsumer<String, String> entryConsumer;
+    private ZipOutputStream zipStream;
+
+    /**
+     * Constructs a {@link SourceArchive} object streaming entries to the archive file.
+     * @param rootDir the root output directory.
+     */
+    public SourceArchive(String rootDir) {
+        this(rootDir, true, false);
+    }
+
+    /**
+     * Constructs a {@link SourceArchive} object.
+     * @param rootDir the root output directory.
+     * @param writeArchive the flag to stream entries to the archive file.
+     * @param retainEntries the flag to retain entries in memory, e.g. for compilation.
+     */
+    public SourceArchive(String rootDir, boolean writeArchive, boolean retainEntries) {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.writeArchive = writeArchive;
+        this.entries = retainEntries ? new TreeMap<>() : null;
+        this.entryConsumer = null;
+    }
+
+    /**
+     * Constructs a {@link SourceArchive} object passing each entry to specified consumer as soon as it is complete, instead of archiving it.
+     * All generated files are captured, including those configured to go outside the root output directory.
+     * Entry paths passed to the consumer are relative to the root output directory.
+     * @param rootDir the root output directory.
+     * @param entryConsumer the consumer of entry path and content.
+     */
+    public SourceArchive(String rootDir, BiConsumer<String, String> entryConsumer) {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.writeArchive = false;
+        this.entries = null;
+        this.entryConsumer = entryConsumer;
+    }
+
+    /**
+     * Gets whether specified file belongs in the archive, i.e. whether it is a source file inside the root output directory.
+     * @param directory the directory of the file.
+     * @param filename the file name.
+     * @return true if the file belongs in the archive; else false.
+     */
+    public boolean covers(String directory, String filename) {
+        return nonNull(entryConsumer) || (isSourceFile(filename) && Path.of(directory).toAbsolutePath().normalize().startsWith(rootDir));
+    }
+
+    /**
+     * Creates a writer for an archive entry. The entry is added to the archive when the writer is closed.
+     * @param directory the directory of the entry, inside the root output directory unless entries are passed to a consumer.
+     * @param filename the file name of the entry.
+     * @return the entry writer.
+     */
+    public Writer createEntryWriter(String directory, String filename) {
+        String relativePath = rootDir.relativize(Path.of(directory).toAbsolutePath().normalize().resolve(filename)).toString().replace('\\', '/');
+
+        return new StringWriter() {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                if (getBuffer().isEmpty()) {
+                    return;
+                }
+
+                if (nonNull(entryConsumer)) {
+                    entryConsumer.accept(relativePath, toString());
+                } else {
+                    addEntry(getEntryName(relativePath, filename, toString()), toString().getBytes(UTF_8));
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets the retained entries, ordered by entry path.
+     * @return the entry contents, keyed by entry path.
+     */
+    public synchronized Map<String, byte[]> getEntries() {
+        return isNull(entries) ? Collections.emptyMap() : Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Gets the path of the archive file.
+     * @return the path of the archive file.
+     */
+    public Path getArchiveFile() {
+        return rootDir.resolve(FILENAME);
+    }
+
+    /**
+     * Completes the archive file, if entries are streamed to it.
+     * @throws IOException if the archive file could not be written.
+     */
+    public synchronized void finish() throws IOException {
+        if (writeArchive) {
+            getZipStream().close();
+            zipStream = null;
+        }
+    }
+
+    /**
+     * Closes and deletes an incomplete archive file, if any. Used when generation fails.
+     */
+    public synchronized void discard() {
+        if (nonNull(zipStream)) {
+            try {
+                zipStream.close();
+                Files.deleteIfExists(getArchiveFile());
+            } catch (IOException e) {
+                // The archive is incomplete anyway
+            }
+            zipStream = null;
+        }
+    }
+
+    private synchronized void addEntry(String entryName, byte[] content) throws IOException {
+        if (nonNull(entries)) {
+            entries.put(entryName, content);
+        }
+
+        if (writeArchive) {
+            ZipEntry zipEntry = new ZipEntry(entryName);
+            zipEntry.setTimeLocal(ENTRY_TIME);
+            ZipOutputStream stream = getZipStream();
+            stream.putNextEntry(zipEntry);
+            stream.write(content);
+            stream.closeEntry();
+        }
+    }
+
+    private ZipOutputStream getZipStream() throws IOException {
+        if (isNull(zipStream)) {
+            Files.createDirectories(rootDir);
+            zipStream = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(getArchiveFile())));
+        }
+        return zipStream;
+    }
+
+    private static boolean isSourceFile(String filename) {
+        return filename.endsWith(".java") || filename.endsWith(".kt");
+    }
+
+    private static String getEntryName(String relativePath, String filename, String content) {
+        if (isSourceFile(filename)) {
+            Matcher matcher = PACKAGE_PATTERN.matcher(content);
+            if (matcher.find()) {
+                return matcher.group(1).replace('.', '/') + "/" + filename;
+            }
+        }
+        return relativePath;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Compiles the Java sources of a {@link SourceArchive} in-process, without writing the sources to disk.
+ * Generated resource files, e.g. files in META-INF, are not part of the archive, as they are written directly to their configured directory.
+ */
+public class SourceCompiler {
+
+    private static final String JAVA_EXTENSION = ".java";
+
+    private final List<String> classpath;
+    private final String release;
+
+    /**
+     * Constructs a {@link SourceCompiler} object compiling for the release of the running JDK.
+     * @param classpath the classpath elements to compile against.
+     */
+    public SourceCompiler(List<String> classpath) {
+        this(classpath, null);
+    }
+
+    /**
+     * Constructs a {@link SourceCompiler} object.
+     * @param classpath the classpath elements to compile against.
+     * @param release the Java release to compile for, or null to use the release of the running JDK.
+     */
+    public SourceCompiler(List<String> classpath, String release) {
+        this.classpath = classpath;
+        this.release = release;
+    }
+
+    /**
+     * Compiles the Java entries of specified source archive.
+     * @param archive the source archive.
+     * @param classesDir the directory to write class files to.
+     */
+    public void compile(SourceArchive archive, String classesDir) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (isNull(compiler)) {
+            throw new OpenApi2JavaException("No Java compiler available, a JDK is required to compile generated sources");
+        }
+
+        Path classesPath = Path.of(classesDir);
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+
+        try {
+            Files.createDirectories(classesPath);
+
+            for (Map.Entry<String, byte[]> entry : archive.getEntries().entrySet()) {
+                if (entry.getKey().endsWith(JAVA_EXTENSION)) {
+                    compilationUnits.add(new InMemorySource(entry.getKey(), new String(entry.getValue(), UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to write to %s".formatted(classesDir), e);
+        }
+
+        if (compilationUnits.isEmpty()) {
+            return;
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(classesPath.toFile()));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classpath.stream().map(File::new).toList());
+
+            List<String> compilerOptions = new ArrayList<>(List.of("-proc:none"));
+            if (nonBlank(release)) {
+                compilerOptions.addAll(List.of("--release", release.trim()));
+            }
+
+            boolean success = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, compilationUnits).call();
+            if (!success) {
+                String errors = diagnostics.getDiagnostics().stream()
+                    .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                    .map(d -> "%s:%d: %s".formatted(isNull(d.getSource()) ? "" : d.getSource().getName(), d.getLineNumber(), d.getMessage(null)))
+                    .collect(joining("\n"));
+                throw new OpenApi2JavaException("Failed to compile generated sources:\n%s".formatted(errors));
+            }
+        } catch (IOException e) {
+            throw new OpenApi2JavaException("Failed to compile generated sources", e);
+        }
+    }
+
+    private static class InMemorySource extends SimpleJavaFileObject {
+        private final String content;
+
+        InMemorySource(String path, String content) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.generators.Options;
+
+import java.io.Writer;
+
+/**
+ * Writes a pre-serialized OpenAPI document.
+ */
+public class StaticOpenApiFileWriter extends BaseWriter {
+
+    public StaticOpenApiFileWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Writes the serialized OpenAPI document.
+     * @param openApiJson the OpenAPI document in JSON format.
+     */
+    public void write(String openApiJson) {
+        writeLine("%s", openApiJson);
+    }
+}
@@ -16,10 +16,16 @@
 package io.github.torand.openapi2java.writers;
 
 import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.java.JavaApiClientWriter;
+import io.github.torand.openapi2java.writers.java.JavaBulkHelperWriter;
 import io.github.torand.openapi2java.writers.java.JavaEnumWriter;
 import io.github.torand.openapi2java.writers.java.JavaOpenApiDefWriter;
 import io.github.torand.openapi2java.writers.java.JavaPojoWriter;
+import io.github.torand.openapi2java.writers.java.JavaRateLimitFilterWriter;
+import io.github.torand.openapi2java.writers.java.JavaResourceDecoratorWriter;
 import io.github.torand.openapi2java.writers.java.JavaResourceWriter;
+import io.github.torand.openapi2java.writers.java.JavaResponseExceptionMapperWriter;
 import io.github.torand.openapi2java.writers.kotlin.KotlinEnumWriter;
 import io.github.torand.openapi2java.writers.kotlin.KotlinOpenApiDefWriter;
 import io.github.torand.openapi2java.writers.kotlin.KotlinPojoWriter;
@@ -30,6 +36,10 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * Provides factory methods to create code writers.
@@ -37,27 +47,147 @@ import java.nio.file.Path;
 public final class WriterFactory {
     private WriterFactory() {}
 
+    // Source archive collecting the output of the generation run on the current thread, if any
+    private static final ThreadLocal<SourceArchive> SOURCE_ARCHIVE = new ThreadLocal<>();
+
     public static EnumWriter createEnumWriter(String filename, Options opts, String modelSubdir) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir));
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts);
         return opts.useKotlinSyntax() ? new KotlinEnumWriter(fileWriter, opts) : new JavaEnumWriter(fileWriter, opts);
     }
 
     public static PojoWriter createPojoWriter(String filename, Options opts, String modelSubdir) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir));
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts);
         return opts.useKotlinSyntax() ? new KotlinPojoWriter(fileWriter, opts) : new JavaPojoWriter(fileWriter, opts);
     }
 
     public static ResourceWriter createResourceWriter(String filename, Options opts) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.outputDir());
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
         return opts.useKotlinSyntax() ? new KotlinResourceWriter(fileWriter, opts) : new JavaResourceWriter(fileWriter, opts);
     }
 
+    public static ApiClientWriter createApiClientWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
+        return new JavaApiClientWriter(fileWriter, opts);
+    }
+
+    public static BulkHelperWriter createBulkHelperWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
+        return new JavaBulkHelperWriter(fileWriter, opts);
+    }
+
+    public static ResponseExceptionMapperWriter createResponseExceptionMapperWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
+        return new JavaResponseExceptionMapperWriter(fileWriter, opts);
+    }
+
+    public static RateLimitFilterWriter createRateLimitFilterWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
+        return new JavaRateLimitFilterWriter(fileWriter, opts);
+    }
+
+    public static ResourceDecoratorWriter createResourceDecoratorWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
+        return new JavaResourceDecoratorWriter(fileWriter, opts);
+    }
+
     public static OpenApiDefWriter createOpenApiDefWriter(String filename, Options opts) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.outputDir());
+        Writer fileWriter = createFileWriter(filename, opts.outputDir(), opts);
         return opts.useKotlinSyntax() ? new KotlinOpenApiDefWriter(fileWriter, opts) : new JavaOpenApiDefWriter(fileWriter, opts);
     }
 
-    private static Writer createFileWriter(String filename, String directory) throws IOException {
+    public static NativeImageConfigWriter createNativeImageConfigWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getNativeImageConfigDir(), opts);
+        return new NativeImageConfigWriter(fileWriter, opts);
+    }
+
+    public static RestClientConfigWriter createRestClientConfigWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getRestClientConfigDir(), opts);
+        return new RestClientConfigWriter(fileWriter, opts);
+    }
+
+    public static StaticOpenApiFileWriter createStaticOpenApiFileWriter(String filename, Options opts) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getStaticOpenApiFileDir(), opts);
+        return new StaticOpenApiFileWriter(fileWriter, opts);
+    }
+
+    /**
+     * Directs all writers subsequently created on the current thread to specified source archive, instead of to files.
+     * @param archive the source archive.
+     */
+    public static void openSourceArchive(SourceArchive archive) {
+        SOURCE_ARCHIVE.set(archive);
+    }
+
+    /**
+     * Stops directing writers created on the current thread to a source archive.
+     * @return the source archive writers were directed to, or null if none.
+     */
+    public static SourceArchive closeSourceArchive() {
+        SourceArchive archive = SOURCE_ARCHIVE.get();
+        SOURCE_ARCHIVE.remove();
+        return archive;
+    }
+
+    /**
+     * Stops directing writers created on the current thread to a source archive, discarding any incomplete archive file.
+     * Used to clean up when generation fails.
+     */
+    public static void discardSourceArchive() {
+        SourceArchive archive = closeSourceArchive();
+        if (nonNull(archive)) {
+            archive.discard();
+        }
+    }
+
+    /**
+     * Completes the source archive collected on the current thread, when using the {@code srcjar} output format.
+     * Must be called after all generators have run.
+     */
+    public static void finishSourceArchive() {
+        SourceArchive archive = closeSourceArchive();
+        if (nonNull(archive)) {
+            try {
+                archive.finish();
+            } catch (IOException e) {
+                throw new OpenApi2JavaException("Failed to write source archive %s".formatted(archive.getArchiveFile()), e);
+            }
+        }
+    }
+
+    /**
+     * Compiles the sources collected on the current thread in-process, when using the {@code classes} output format.
+     * Must be called after all generators have run.
+     * @param opts the plugin options.
+     * @param classpath the classpath elements to compile against.
+     * @param release the Java release to compile for, or null to use the release of the running JDK.
+     */
+    public static void compileSourceArchive(Options opts, List<String> classpath, String release) {
+        SourceArchive archive = closeSourceArchive();
+        if (nonNull(archive)) {
+            new SourceCompiler(classpath, release).compile(archive, opts.getCompiledClassesDir());
+
+            try {
+                archive.finish();
+            } catch (IOException e) {
+                throw new OpenApi2JavaException("Failed to write source archive %s".formatted(archive.getArchiveFile()), e);
+            }
+        }
+    }
+
+    private static Writer createFileWriter(String filename, String directory, Options opts) throws IOException {
+        SourceArchive archive = SOURCE_ARCHIVE.get();
+        if (isNull(archive) && opts.isSrcJarOutputFormat()) {
+            archive = new SourceArchive(opts.outputDir());
+            openSourceArchive(archive);
+        } else if (isNull(archive) && opts.isClassesOutputFormat()) {
+            archive = new SourceArchive(opts.outputDir(), opts.writeCompiledSources(), true);
+            openSourceArchive(archive);
+        }
+
+        if (nonNull(archive) && archive.covers(directory, filename)) {
+            return archive.createEntryWriter(directory, filename);
+        }
+
         Path outputPath = Path.of(directory);
         File outputPathFile = outputPath.toFile();
         if (!outputPathFile.exists()) {
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers.java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.PartitionedImports;
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.writers.ApiClientWriter;
+import io.github.torand.openapi2java.writers.BaseWriter;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+import static io.github.torand.openapi2java.utils.StringUtils.escape;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Writes Java code for an HTTP client based on the JDK {@code java.net.http.HttpClient}.
+ */
+public class JavaApiClientWriter extends BaseWriter implements ApiClientWriter {
+
+    /**
+     * The name of the base class shared by all client classes.
+     */
+    public static final String BASE_CLASS_NAME = "AbstractApiClient";
+
+    private static final Pattern PATH_PARAM_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    private static final String PARAM_IN_PATH = "path";
+    private static final String PARAM_IN_QUERY = "query";
+    private static final String PARAM_IN_HEADER = "header";
+    private static final String PARAM_IN_COOKIE = "cookie";
+    private static final String PARAM_IN_BODY = "body";
+    private static final String PARAM_IN_FORM = "form";
+
+    public JavaApiClientWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Gets whether a client method can be generated for specified method, i.e. whether it has no multipart form parameters.
+     * @param methodInfo the method information.
+     * @return true if a client method can be generated; else false.
+     */
+    public static boolean isSupported(MethodInfo methodInfo) {
+        return methodInfo.parameters().stream().noneMatch(p -> PARAM_IN_FORM.equals(p.in()));
+    }
+
+    /**
+     * Gets the client class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the client class name.
+     */
+    public static String getClientClassName(ResourceInfo resourceInfo) {
+        return resourceInfo.name() + "Client";
+    }
+
+    @Override
+    public void write(ResourceInfo resourceInfo) {
+        String className = getClientClassName(resourceInfo);
+        List<MethodInfo> methods = resourceInfo.methods().stream().filter(JavaApiClientWriter::isSupported).toList();
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+
+        Set<String> normalImports = new TreeSet<>(Set.of(
+            "com.fasterxml.jackson.core.type.TypeReference",
+            "com.fasterxml.jackson.databind.ObjectMapper",
+            "java.net.URI",
+            "java.net.http.HttpClient",
+            "java.net.http.HttpRequest",
+            "java.util.concurrent.CompletableFuture"
+        ));
+        methods.forEach(m -> {
+            m.parameters().forEach(p -> normalImports.addAll(p.type().typeNameNormalImports()));
+            if (nonNull(m.responseType())) {
+                normalImports.addAll(m.responseType().typeNameNormalImports());
+            }
+        });
+
+        PartitionedImports imports = PartitionedImports.of(normalImports, emptySet(), opts.rootPackage());
+        verifyNoImportConflicts(className, imports);
+        imports.nonJavaImports().forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+        imports.javaImports().forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+
+        writeLine("/// HTTP client for %s, based on the JDK HttpClient.", resourceInfo.name());
+        writeLine("public class %s extends %s {", className, BASE_CLASS_NAME);
+
+        if (nonEmpty(methods)) {
+            writeNewLine();
+        }
+        methods.stream()
+            .filter(m -> nonNull(m.responseType()))
+            .forEach(m -> writeCode(1, "private static final TypeReference<%s> %s = new TypeReference<>() {};".formatted(m.responseType().getFullName(), getResponseTypeConstant(m))));
+
+        writeNewLine();
+        writeCode(1, "public %s(URI baseUri) {".formatted(className));
+        writeCode(2, "this(HttpClient.newHttpClient(), baseUri, new ObjectMapper().findAndRegisterModules());");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "public %s(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper) {".formatted(className));
+        writeCode(2, "super(httpClient, baseUri, objectMapper);");
+        writeCode(1, "}");
+
+        methods.forEach(this::writeMethods);
+
+        writeLine("}");
+    }
+
+    private void writeMethods(MethodInfo methodInfo) {
+        String params = methodInfo.parameters().stream().map(p -> p.type().getFullName() + " " + p.name()).collect(joining(", "));
+        String args = methodInfo.parameters().stream().map(MethodParamInfo::name).collect(joining(", "));
+        String returnType = nonNull(methodInfo.responseType()) ? methodInfo.responseType().getFullName() : "Void";
+        String responseTypeConstant = getResponseTypeConstant(methodInfo);
+
+        writeNewLine();
+        writeDeprecation(methodInfo);
+        writeCode(1, "public %s %s(%s) {".formatted(nonNull(methodInfo.responseType()) ? returnType : "void", methodInfo.name(), params));
+        writeCode(2, "%ssend(%sRequest(%s), %s);".formatted(nonNull(methodInfo.responseType()) ? "return " : "", methodInfo.name(), args, responseTypeConstant));
+        writeCode(1, "}");
+
+        writeNewLine();
+        writeDeprecation(methodInfo);
+        writeCode(1, "public CompletableFuture<%s> %sAsync(%s) {".formatted(returnType, methodInfo.name(), params));
+        writeCode(2, "return sendAsync(%sRequest(%s), %s);".formatted(methodInfo.name(), args, responseTypeConstant));
+        writeCode(1, "}");
+
+        writeNewLine();
+        writeCode(1, "private HttpRequest %sRequest(%s) {".formatted(methodInfo.name(), params));
+
+        List<MethodParamInfo> queryParams = getParams(methodInfo, PARAM_IN_QUERY);
+        String pathExpression = getPathExpression(methodInfo);
+        if (queryParams.isEmpty()) {
+            writeCode(2, "HttpRequest.Builder request = newRequest(%s);".formatted(pathExpression));
+        } else {
+            writeCode(2, "StringBuilder uri = new StringBuilder(%s);".formatted(pathExpression));
+            queryParams.forEach(p -> writeCode(2, "addQueryParam(uri, \"%s\", %s);".formatted(escape(p.httpName()), p.name())));
+            writeCode(2, "HttpRequest.Builder request = newRequest(uri.toString());");
+        }
+
+        getParams(methodInfo, PARAM_IN_HEADER).forEach(p -> writeCode(2, "addHeader(request, \"%s\", %s);".formatted(escape(p.httpName()), p.name())));
+        List<MethodParamInfo> cookieParams = getParams(methodInfo, PARAM_IN_COOKIE);
+        if (!cookieParams.isEmpty()) {
+            // All cookies are sent in a single header, as HTTP/2 servers may only read the first Cookie header
+            String cookieArgs = cookieParams.stream().map(p -> "\"%s\", %s".formatted(escape(p.httpName()), p.name())).collect(joining(", "));
+            writeCode(2, "addCookies(request, %s);".formatted(cookieArgs));
+        }
+
+        if (nonNull(methodInfo.responseMediaType())) {
+            writeCode(2, "request.header(\"Accept\", \"%s\");".formatted(escape(methodInfo.responseMediaType())));
+        }
+
+        List<MethodParamInfo> bodyParams = getParams(methodInfo, PARAM_IN_BODY);
+        if (bodyParams.isEmpty()) {
+            writeCode(2, "return request.method(\"%s\", HttpRequest.BodyPublishers.noBody()).build();".formatted(methodInfo.httpMethod()));
+        } else {
+            if (nonNull(methodInfo.requestMediaType())) {
+                writeCode(2, "request.header(\"Content-Type\", \"%s\");".formatted(escape(methodInfo.requestMediaType())));
+            }
+            writeCode(2, "return request.method(\"%s\", body(%s)).build();".formatted(methodInfo.httpMethod(), bodyParams.get(0).name()));
+        }
+
+        writeCode(1, "}");
+    }
+
+    private void writeDeprecation(MethodInfo methodInfo) {
+        if (methodInfo.isDeprecated()) {
+            writeCode(1, "/// @deprecated %s".formatted(methodInfo.deprecationMessage()));
+            writeCode(1, "@Deprecated");
+        }
+    }
+
+    private List<MethodParamInfo> getParams(MethodInfo methodInfo, String in) {
+        return methodInfo.parameters().stream().filter(p -> in.equals(p.in())).toList();
+    }
+
+    private String getPathExpression(MethodInfo methodInfo) {
+        Map<String, String> pathParamNames = getParams(methodInfo, PARAM_IN_PATH).stream()
+            .collect(toMap(MethodParamInfo::httpName, MethodParamInfo::name));
+        Function<String, String> toParamName = httpName -> pathParamNames.getOrDefault(httpName, httpName);
+
+        String rootPath = isBlank(opts.rootUrlPath()) ? "" : opts.rootUrlPath() + (isBlank(methodInfo.path()) ? "" : "/");
+        String path = rootPath + methodInfo.path();
+
+        // The path template is resolved at generation time into a concatenation of literals and encoded parameters
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = PATH_PARAM_PATTERN.matcher(path);
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                parts.add("\"%s\"".formatted(escape(path.substring(literalStart, matcher.start()))));
+            }
+            parts.add("encodePath(%s)".formatted(toParamName.apply(matcher.group(1))));
+            literalStart = matcher.end();
+        }
+        if (literalStart < path.length() || parts.isEmpty()) {
+            parts.add("\"%s\"".formatted(escape(path.substring(literalStart))));
+        }
+
+        // Ensure string concatenation when the path starts with a parameter
+        if (!parts.get(0).startsWith("\"")) {
+            parts.add(0, "\"\"");
+        }
+
+        return String.join(" + ", parts);
+    }
+
+    private String getResponseTypeConstant(MethodInfo methodInfo) {
+        if (isNull(methodInfo.responseType())) {
+            return "NO_CONTENT";
+        }
+
+        return methodInfo.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_RESPONSE";
+    }
+
+    @Override
+    public void writeBaseClass() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import com.fasterxml.jackson.core.type.TypeReference;");
+        writeLine("import com.fasterxml.jackson.databind.ObjectMapper;");
+        writeNewLine();
+        writeLine("import java.io.File;");
+        writeLine("import java.io.IOException;");
+        writeLine("import java.io.UncheckedIOException;");
+        writeLine("import java.net.URI;");
+        writeLine("import java.net.URLEncoder;");
+        writeLine("import java.net.http.HttpClient;");
+        writeLine("import java.net.http.HttpRequest;");
+        writeLine("import java.net.http.HttpResponse;");
+        writeLine("import java.util.Collection;");
+        writeLine("import java.util.StringJoiner;");
+        writeLine("import java.util.concurrent.CompletableFuture;");
+        writeLine("import java.util.stream.Collectors;");
+        writeNewLine();
+        writeLine("import static java.nio.charset.StandardCharsets.UTF_8;");
+        writeNewLine();
+        writeLine("/// Base class of generated HTTP clients, based on the JDK HttpClient.");
+        writeLine("/// Synchronous calls block the calling thread only, and are well suited for virtual threads.");
+        writeLine("public abstract class %s {", BASE_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "/// Response type of operations without a response body.");
+        writeCode(1, "protected static final TypeReference<Void> NO_CONTENT = new TypeReference<>() {};");
+        writeNewLine();
+        writeCode(1, "private final HttpClient httpClient;");
+        writeCode(1, "private final String baseUri;");
+        writeCode(1, "private final ObjectMapper objectMapper;");
+        writeNewLine();
+        writeCode(1, "protected %s(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper) {".formatted(BASE_CLASS_NAME));
+        writeCode(2, "String uri = baseUri.toString();");
+        writeCode(2, "this.httpClient = httpClient;");
+        writeCode(2, "this.baseUri = uri.endsWith(\"/\") ? uri : uri + \"/\";");
+        writeCode(2, "this.objectMapper = objectMapper;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected HttpRequest.Builder newRequest(String path) {");
+        writeCode(2, "return HttpRequest.newBuilder(URI.create(baseUri + path));");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected <T> T send(HttpRequest request, TypeReference<T> responseType) {");
+        writeCode(2, "try {");
+        writeCode(3, "return readResponse(httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()), responseType);");
+        writeCode(2, "} catch (IOException e) {");
+        writeCode(3, "throw new UncheckedIOException(e);");
+        writeCode(2, "} catch (InterruptedException e) {");
+        writeCode(3, "Thread.currentThread().interrupt();");
+        writeCode(3, "throw new ApiClientException(\"Interrupted while waiting for response\", e);");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected <T> CompletableFuture<T> sendAsync(HttpRequest request, TypeReference<T> responseType) {");
+        writeCode(2, "return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())");
+        writeCode(3, ".thenApply(response -> readResponse(response, responseType));");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected HttpRequest.BodyPublisher body(Object body) {");
+        writeCode(2, "try {");
+        writeCode(3, "if (body instanceof String string) {");
+        writeCode(4, "return HttpRequest.BodyPublishers.ofString(string);");
+        writeCode(3, "} else if (body instanceof byte[] bytes) {");
+        writeCode(4, "return HttpRequest.BodyPublishers.ofByteArray(bytes);");
+        writeCode(3, "} else if (body instanceof File file) {");
+        writeCode(4, "return HttpRequest.BodyPublishers.ofFile(file.toPath());");
+        writeCode(3, "}");
+        writeCode(3, "return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));");
+        writeCode(2, "} catch (IOException e) {");
+        writeCode(3, "throw new UncheckedIOException(e);");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Converts a parameter value to a string. Enums are converted to their JSON value, e.g. as specified by @JsonProperty.");
+        writeCode(1, "protected String toParamString(Object value) {");
+        writeCode(2, "if (value instanceof Enum<?>) {");
+        writeCode(3, "return objectMapper.convertValue(value, String.class);");
+        writeCode(2, "}");
+        writeCode(2, "return String.valueOf(value);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected String encodePath(Object value) {");
+        writeCode(2, "return URLEncoder.encode(toParamString(value), UTF_8).replace(\"+\", \"%20\");");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected void addQueryParam(StringBuilder uri, String name, Object value) {");
+        writeCode(2, "if (value instanceof Collection<?> values) {");
+        writeCode(3, "values.forEach(item -> addQueryParam(uri, name, item));");
+        writeCode(2, "} else if (value != null) {");
+        writeCode(3, "uri.append(uri.indexOf(\"?\") < 0 ? '?' : '&').append(name).append('=').append(URLEncoder.encode(toParamString(value), UTF_8));");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "protected void addHeader(HttpRequest.Builder request, String name, Object value) {");
+        writeCode(2, "if (value instanceof Collection<?> values) {");
+        writeCode(3, "request.header(name, values.stream().map(this::toParamString).collect(Collectors.joining(\",\")));");
+        writeCode(2, "} else if (value != null) {");
+        writeCode(3, "request.header(name, toParamString(value));");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Adds all cookies in a single Cookie header, with URL-encoded values.");
+        writeCode(1, "protected void addCookies(HttpRequest.Builder request, Object... namesAndValues) {");
+        writeCode(2, "StringJoiner cookies = new StringJoiner(\"; \");");
+        writeCode(2, "for (int i = 0; i < namesAndValues.length; i += 2) {");
+        writeCode(3, "if (namesAndValues[i + 1] != null) {");
+        writeCode(4, "cookies.add(namesAndValues[i] + \"=\" + URLEncoder.encode(toParamString(namesAndValues[i + 1]), UTF_8));");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeCode(2, "if (cookies.length() > 0) {");
+        writeCode(3, "request.header(\"Cookie\", cookies.toString());");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "@SuppressWarnings(\"unchecked\")");
+        writeCode(1, "private <T> T readResponse(HttpResponse<byte[]> response, TypeReference<T> responseType) {");
+        writeCode(2, "if (response.statusCode() < 200 || response.statusCode() > 299) {");
+        writeCode(3, "throw new ApiClientException(response.statusCode(), response.body());");
+        writeCode(2, "}");
+        writeCode(2, "if (responseType == NO_CONTENT || response.body().length == 0) {");
+        writeCode(3, "return null;");
+        writeCode(2, "}");
+        writeCode(2, "if (responseType.getType() == String.class) {");
+        writeCode(3, "return (T) new String(response.body(), UTF_8);");
+        writeCode(2, "}");
+        writeCode(2, "if (responseType.getType() == byte[].class) {");
+        writeCode(3, "return (T) response.body();");
+        writeCode(2, "}");
+        writeCode(2, "try {");
+        writeCode(3, "return objectMapper.readValue(response.body(), responseType);");
+        writeCode(2, "} catch (IOException e) {");
+        writeCode(3, "throw new UncheckedIOException(e);");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Thrown when an operation fails, e.g. with a non-successful HTTP status.");
+        writeCode(1, "public static class ApiClientException extends RuntimeException {");
+        writeCode(2, "private final int status;");
+        writeCode(2, "private final byte[] body;");
+        writeNewLine();
+        writeCode(2, "public ApiClientException(int status, byte[] body) {");
+        writeCode(3, "super(\"HTTP status \" + status);");
+        writeCode(3, "this.status = status;");
+        writeCode(3, "this.body = body;");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "public ApiClientException(String message, Throwable cause) {");
+        writeCode(3, "super(message, cause);");
+        writeCode(3, "this.status = 0;");
+        writeCode(3, "this.body = new byte[0];");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "/// Gets the HTTP status, or 0 if no response was received.");
+        writeCode(2, "public int getStatus() {");
+        writeCode(3, "return status;");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "/// Gets the response body.");
+        writeCode(2, "public byte[] getBody() {");
+        writeCode(3, "return body;");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+}
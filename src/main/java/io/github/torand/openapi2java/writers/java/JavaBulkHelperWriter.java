@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers.java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.PartitionedImports;
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.writers.BaseWriter;
+import io.github.torand.openapi2java.writers.BulkHelperWriter;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.openapi2java.writers.java.JavaResourceWriter.getReturnType;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Writes Java code for bulk helpers of resources, calling single-item operations concurrently on virtual threads.
+ */
+public class JavaBulkHelperWriter extends BaseWriter implements BulkHelperWriter {
+
+    /**
+     * The name of the result class shared by all bulk helper classes.
+     */
+    public static final String RESULT_CLASS_NAME = "BulkResult";
+
+    private static final String PARAM_IN_PATH = "path";
+    private static final String PARAM_IN_BODY = "body";
+    private static final String PARAM_IN_FORM = "form";
+
+    public JavaBulkHelperWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Gets whether a bulk variant can be generated for specified method, i.e. whether it has a single path parameter and no request body.
+     * @param methodInfo the method information.
+     * @return true if a bulk variant can be generated; else false.
+     */
+    public static boolean isSingleItemMethod(MethodInfo methodInfo) {
+        return methodInfo.parameters().stream().filter(p -> PARAM_IN_PATH.equals(p.in())).count() == 1
+            && methodInfo.parameters().stream().noneMatch(p -> PARAM_IN_BODY.equals(p.in()) || PARAM_IN_FORM.equals(p.in()));
+    }
+
+    /**
+     * Gets the bulk helper class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the bulk helper class name.
+     */
+    public static String getBulkHelperClassName(ResourceInfo resourceInfo) {
+        return resourceInfo.name() + "Bulk";
+    }
+
+    @Override
+    public void write(ResourceInfo resourceInfo) {
+        String className = getBulkHelperClassName(resourceInfo);
+        List<MethodInfo> methods = resourceInfo.methods().stream().filter(JavaBulkHelperWriter::isSingleItemMethod).toList();
+
+        Set<String> normalImports = new TreeSet<>(Set.of("java.util.Collection", "java.util.List"));
+        methods.forEach(m -> {
+            m.parameters().forEach(p -> normalImports.addAll(p.type().typeNameNormalImports()));
+            if (opts.useResteasyResponse()) {
+                normalImports.add("org.jboss.resteasy.reactive.RestResponse");
+            } else if (!opts.useTypedReturnValues() || m.hasAmbiguousReturnType()) {
+                normalImports.add("jakarta.ws.rs.core.Response");
+            }
+            if (nonNull(m.returnType()) && !m.hasAmbiguousReturnType() && nonNull(m.responseType())) {
+                normalImports.addAll(m.responseType().typeNameNormalImports());
+            }
+        });
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+
+        PartitionedImports imports = PartitionedImports.of(normalImports, emptySet(), opts.rootPackage());
+        verifyNoImportConflicts(className, imports);
+        if (!imports.nonJavaImports().isEmpty()) {
+            imports.nonJavaImports().forEach(i -> writeLine("import %s;", i));
+            writeNewLine();
+        }
+        imports.javaImports().forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+
+        writeLine("/// Bulk variants of the single-item operations of %s, calling an operation concurrently for each path parameter value.", resourceInfo.name());
+        writeLine("/// Calls run on virtual threads, with at most a configurable number of calls in flight at a time.");
+        writeLine("public class %s {", className);
+        writeNewLine();
+        writeCode(1, "/// Default maximum number of concurrent calls.");
+        writeCode(1, "public static final int DEFAULT_MAX_CONCURRENCY = 16;");
+        writeNewLine();
+        writeCode(1, "private final %s api;".formatted(resourceInfo.name()));
+        writeCode(1, "private final int maxConcurrency;");
+        writeNewLine();
+        writeCode(1, "public %s(%s api) {".formatted(className, resourceInfo.name()));
+        writeCode(2, "this(api, DEFAULT_MAX_CONCURRENCY);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "public %s(%s api, int maxConcurrency) {".formatted(className, resourceInfo.name()));
+        writeCode(2, "if (maxConcurrency < 1) {");
+        writeCode(3, "throw new IllegalArgumentException(\"maxConcurrency must be positive\");");
+        writeCode(2, "}");
+        writeCode(2, "this.api = api;");
+        writeCode(2, "this.maxConcurrency = maxConcurrency;");
+        writeCode(1, "}");
+
+        methods.forEach(m -> {
+            MethodParamInfo keyParam = m.parameters().stream().filter(p -> PARAM_IN_PATH.equals(p.in())).findFirst().orElseThrow();
+            String keysName = getPluralName(keyParam.name());
+            String returnType = getReturnType(m, opts);
+            String resultType = "void".equals(returnType) ? "Void" : returnType;
+            String params = m.parameters().stream()
+                .map(p -> p == keyParam ? "Collection<%s> %s".formatted(keyParam.type().getFullName(), keysName) : p.type().getFullName() + " " + p.name())
+                .collect(joining(", "));
+            String call = "api.%s(%s)".formatted(m.name(), m.parameters().stream().map(MethodParamInfo::name).collect(joining(", ")));
+
+            writeNewLine();
+            writeCode(1, "/// Calls %s for each of specified %s values, returning the results in the same order.".formatted(m.name(), keyParam.name()));
+            if (m.isDeprecated()) {
+                writeCode(1, "@Deprecated");
+            }
+            writeCode(1, "public List<%s<%s, %s>> %s(%s) {".formatted(RESULT_CLASS_NAME, keyParam.type().getFullName(), resultType, m.name(), params));
+            if ("void".equals(returnType)) {
+                writeCode(2, "return %s.callAll(%s, maxConcurrency, %s -> {".formatted(RESULT_CLASS_NAME, keysName, keyParam.name()));
+                writeCode(3, call + ";");
+                writeCode(3, "return null;");
+                writeCode(2, "});");
+            } else {
+                writeCode(2, "return %s.callAll(%s, maxConcurrency, %s -> %s);".formatted(RESULT_CLASS_NAME, keysName, keyParam.name(), call));
+            }
+            writeCode(1, "}");
+        });
+
+        writeLine("}");
+    }
+
+    @Override
+    public void writeResultClass() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.util.ArrayList;");
+        writeLine("import java.util.Collection;");
+        writeLine("import java.util.List;");
+        writeLine("import java.util.concurrent.ExecutorService;");
+        writeLine("import java.util.concurrent.Executors;");
+        writeLine("import java.util.concurrent.Future;");
+        writeLine("import java.util.concurrent.Semaphore;");
+        writeLine("import java.util.function.Function;");
+        writeNewLine();
+        writeLine("/// Result of a single call in a bulk operation: either the returned value, or the exception thrown.");
+        writeLine("public record %s<K, V> (", RESULT_CLASS_NAME);
+        writeCode(1, "K key,");
+        writeCode(1, "V value,");
+        writeCode(1, "RuntimeException error");
+        writeLine(") {");
+        writeNewLine();
+        writeCode(1, "/// Indicates whether the call succeeded.");
+        writeCode(1, "public boolean isSuccess() {");
+        writeCode(2, "return error == null;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Gets the returned value, or rethrows the exception of a failed call.");
+        writeCode(1, "public V getOrThrow() {");
+        writeCode(2, "if (error != null) {");
+        writeCode(3, "throw error;");
+        writeCode(2, "}");
+        writeCode(2, "return value;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Calls specified operation for each key on virtual threads, with at most maxConcurrency calls in flight.");
+        writeCode(1, "/// Returns when all calls have completed, with the results in the same order as the keys.");
+        writeCode(1, "public static <K, V> List<%s<K, V>> callAll(Collection<K> keys, int maxConcurrency, Function<K, V> operation) {".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "Semaphore permits = new Semaphore(maxConcurrency);");
+        writeCode(2, "List<Future<%s<K, V>>> futures = new ArrayList<>(keys.size());".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {");
+        writeCode(3, "for (K key : keys) {");
+        writeCode(4, "futures.add(executor.submit(() -> call(key, operation, permits)));");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "// Closing the executor has waited for all calls to complete");
+        writeCode(2, "List<%s<K, V>> results = new ArrayList<>(futures.size());".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "futures.forEach(future -> results.add(future.resultNow()));");
+        writeCode(2, "return results;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static <K, V> %s<K, V> call(K key, Function<K, V> operation, Semaphore permits) {".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "try {");
+        writeCode(3, "permits.acquire();");
+        writeCode(2, "} catch (InterruptedException e) {");
+        writeCode(3, "Thread.currentThread().interrupt();");
+        writeCode(3, "return new %s<>(key, null, new IllegalStateException(\"Interrupted before calling operation\", e));".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "try {");
+        writeCode(3, "return new %s<>(key, operation.apply(key), null);".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "} catch (RuntimeException e) {");
+        writeCode(3, "return new %s<>(key, null, e);".formatted(RESULT_CLASS_NAME));
+        writeCode(2, "} finally {");
+        writeCode(3, "permits.release();");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    private String getPluralName(String name) {
+        return name.endsWith("s") ? name + "es" : name + "s";
+    }
+}
@@ -17,20 +17,17 @@ package io.github.torand.openapi2java.writers.java;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotatedTypeName;
+import io.github.torand.openapi2java.model.PartitionedImports;
 import io.github.torand.openapi2java.model.PojoInfo;
 import io.github.torand.openapi2java.model.PropertyInfo;
-import io.github.torand.openapi2java.utils.PackageUtils;
 import io.github.torand.openapi2java.writers.BaseWriter;
 import io.github.torand.openapi2java.writers.PojoWriter;
 
 import java.io.Writer;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
-import static io.github.torand.openapi2java.utils.PackageUtils.isFqnInPackage;
-import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -47,8 +44,11 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         writeLine("package %s;", opts.getModelPackage(pojoInfo.modelSubpackage()));
         writeNewLine();
 
-        writeNonJavaImports(pojoInfo);
-        writeJavaImports(pojoInfo);
+        PartitionedImports imports = PartitionedImports.of(pojoInfo, opts.getModelPackage(pojoInfo.modelSubpackage()));
+        verifyNoImportConflicts(pojoInfo.name(), imports);
+
+        writeNonJavaImports(imports);
+        writeJavaImports(imports);
 
         if (pojoInfo.isDeprecated()) {
             writeLine("/// @deprecated %s".formatted(pojoInfo.deprecationMessage()));
@@ -95,10 +95,8 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         }
     }
 
-    private void writeJavaImports(PojoInfo pojoInfo) {
-        List<String> imports = pojoInfo.aggregatedNormalImports().stream()
-            .filter(PackageUtils::isJavaPackage)
-            .filter(not(PackageUtils::isFundamentalJavaClass))
+    private void writeJavaImports(PartitionedImports partitionedImports) {
+        List<String> imports = partitionedImports.javaImports().stream()
             .map("import %s;"::formatted)
             .toList();
 
@@ -108,12 +106,8 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         }
     }
 
-    private void writeNonJavaImports(PojoInfo pojoInfo) {
-        Predicate<String> isInSamePackage = fqn -> isFqnInPackage(fqn, opts.getModelPackage(pojoInfo.modelSubpackage()));
-
-        List<String> imports = pojoInfo.aggregatedNormalImports().stream()
-            .filter(not(PackageUtils::isJavaPackage))
-            .filter(not(isInSamePackage))
+    private void writeNonJavaImports(PartitionedImports partitionedImports) {
+        List<String> imports = partitionedImports.nonJavaImports().stream()
             .map("import %s;"::formatted)
             .toList();
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers.java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.RateLimitInfo;
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.writers.BaseWriter;
+import io.github.torand.openapi2java.writers.RateLimitFilterWriter;
+
+import java.io.Writer;
+import java.util.List;
+
+import static io.github.torand.openapi2java.utils.StringUtils.escape;
+import static java.util.Objects.nonNull;
+
+/**
+ * Writes Java code for Microprofile Rest Client request filters, delaying outgoing requests to stay within declared rate limits.
+ */
+public class JavaRateLimitFilterWriter extends BaseWriter implements RateLimitFilterWriter {
+
+    /**
+     * The name of the rate limiter class shared by all rate limiting request filters.
+     */
+    public static final String RATE_LIMITER_CLASS_NAME = "RateLimiter";
+
+    public JavaRateLimitFilterWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write(ResourceInfo resourceInfo) {
+        String className = ResourceInfo.getRateLimitFilterName(resourceInfo.name());
+        List<MethodInfo> limitedMethods = resourceInfo.methods().stream().filter(m -> nonNull(m.rateLimit())).toList();
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        if (!limitedMethods.isEmpty()) {
+            writeLine("import jakarta.ws.rs.Path;");
+        }
+        writeLine("import jakarta.ws.rs.client.ClientRequestContext;");
+        writeLine("import jakarta.ws.rs.client.ClientRequestFilter;");
+        writeNewLine();
+        if (!limitedMethods.isEmpty()) {
+            writeLine("import java.lang.reflect.Method;");
+        }
+        if (nonNull(resourceInfo.rateLimit()) || !limitedMethods.isEmpty()) {
+            writeLine("import java.time.Duration;");
+        }
+        if (!limitedMethods.isEmpty()) {
+            writeLine("import java.util.Map;");
+        }
+        writeNewLine();
+        writeLine("/// Request filter of %s, delaying outgoing requests to stay within the declared rate limits.", resourceInfo.name());
+        writeLine("/// The limits are shared by all clients of %s in the application.", resourceInfo.name());
+        writeLine("public class %s implements ClientRequestFilter {", className);
+        if (!limitedMethods.isEmpty()) {
+            writeNewLine();
+            writeCode(1, "private static final String INVOKED_METHOD_PROPERTY = \"org.eclipse.microprofile.rest.client.invokedMethod\";");
+        }
+        if (nonNull(resourceInfo.rateLimit())) {
+            writeNewLine();
+            writeCode(1, "private static final %s RESOURCE_LIMITER = %s;".formatted(RATE_LIMITER_CLASS_NAME, formatRateLimiter(resourceInfo.rateLimit())));
+        }
+        if (!limitedMethods.isEmpty()) {
+            writeNewLine();
+            writeCode(1, "/// Operation limiters by HTTP method and path, as Java method names may be overloaded.");
+            writeCode(1, "private static final Map<String, %s> METHOD_LIMITERS = Map.ofEntries(".formatted(RATE_LIMITER_CLASS_NAME));
+            for (int i = 0; i < limitedMethods.size(); i++) {
+                MethodInfo m = limitedMethods.get(i);
+                writeCode(2, "Map.entry(\"%s\", %s)%s".formatted(escape(getOperationKey(m)), formatRateLimiter(m.rateLimit()), i < limitedMethods.size() - 1 ? "," : ""));
+            }
+            writeCode(1, ");");
+        }
+        writeNewLine();
+        writeCode(1, "@Override");
+        writeCode(1, "public void filter(ClientRequestContext requestContext) {");
+        if (!limitedMethods.isEmpty()) {
+            writeCode(2, "if (requestContext.getProperty(INVOKED_METHOD_PROPERTY) instanceof Method method && method.getAnnotation(Path.class) instanceof Path path) {");
+            writeCode(3, "%s methodLimiter = METHOD_LIMITERS.get(requestContext.getMethod() + \" \" + path.value());".formatted(RATE_LIMITER_CLASS_NAME));
+            writeCode(3, "if (methodLimiter != null) {");
+            writeCode(4, "methodLimiter.acquire();");
+            writeCode(3, "}");
+            writeCode(2, "}");
+        }
+        if (nonNull(resourceInfo.rateLimit())) {
+            writeCode(2, "RESOURCE_LIMITER.acquire();");
+        }
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    @Override
+    public void writeRateLimiter() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.time.Duration;");
+        writeLine("import java.util.concurrent.TimeUnit;");
+        writeNewLine();
+        writeLine("/// Token bucket rate limiter, spacing out callers evenly at the allowed rate.");
+        writeLine("/// The bucket holds a single token, so no bursts exceeding the rate are let through after idle periods.");
+        writeLine("public class %s {", RATE_LIMITER_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "private final long nanosPerPermit;");
+        writeCode(1, "private long nextPermitAt = System.nanoTime();");
+        writeNewLine();
+        writeCode(1, "public %s(int permits, Duration period) {".formatted(RATE_LIMITER_CLASS_NAME));
+        writeCode(2, "this.nanosPerPermit = period.toNanos() / permits;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Takes a permit, waiting until the next permit is available.");
+        writeCode(1, "public void acquire() {");
+        writeCode(2, "long waitNanos;");
+        writeCode(2, "synchronized (this) {");
+        writeCode(3, "long now = System.nanoTime();");
+        writeCode(3, "// Permits not taken while idle are not accumulated");
+        writeCode(3, "long permitAt = Math.max(nextPermitAt, now);");
+        writeCode(3, "nextPermitAt = permitAt + nanosPerPermit;");
+        writeCode(3, "waitNanos = permitAt - now;");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "if (waitNanos > 0) {");
+        writeCode(3, "try {");
+        writeCode(4, "TimeUnit.NANOSECONDS.sleep(waitNanos);");
+        writeCode(3, "} catch (InterruptedException e) {");
+        writeCode(4, "Thread.currentThread().interrupt();");
+        writeCode(4, "throw new IllegalStateException(\"Interrupted while waiting for rate limit permit\", e);");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    private String getOperationKey(MethodInfo methodInfo) {
+        return "%s %s".formatted(methodInfo.httpMethod(), methodInfo.path());
+    }
+
+    private String formatRateLimiter(RateLimitInfo rateLimit) {
+        return "new %s(%d, Duration.parse(\"%s\"))".formatted(RATE_LIMITER_CLASS_NAME, rateLimit.permits(), rateLimit.period());
+    }
+}
@@ -0,0 +1,744 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers.java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.PartitionedImports;
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.writers.BaseWriter;
+import io.github.torand.openapi2java.writers.ResourceDecoratorWriter;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static io.github.torand.openapi2java.writers.java.JavaResourceWriter.getReturnType;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Writes Java code for decorators of resource interfaces, delegating to another implementation of the interface.
+ */
+public class JavaResourceDecoratorWriter extends BaseWriter implements ResourceDecoratorWriter {
+
+    /**
+     * The name of the response cache class shared by all caching decorators.
+     */
+    public static final String RESPONSE_CACHE_CLASS_NAME = "ResponseCache";
+
+    /**
+     * The name of the in-flight call registry class shared by all coalescing decorators.
+     */
+    public static final String SINGLE_FLIGHT_CLASS_NAME = "SingleFlight";
+
+    /**
+     * The name of the call aggregator class used by all batching decorators.
+     */
+    public static final String BATCHER_CLASS_NAME = "Batcher";
+
+    /**
+     * The name of the hedged call executor class shared by all hedging decorators.
+     */
+    public static final String HEDGER_CLASS_NAME = "Hedger";
+
+    private static final String PARAM_IN_BODY = "body";
+
+    public JavaResourceDecoratorWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Gets the caching decorator class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the caching decorator class name.
+     */
+    public static String getCachingDecoratorName(ResourceInfo resourceInfo) {
+        return "Caching" + resourceInfo.name();
+    }
+
+    /**
+     * Gets whether the responses of specified method can be cached, i.e. whether it is configured for caching and returns a typed value.
+     * @param methodInfo the method information.
+     * @param opts the plugin options.
+     * @return true if the responses can be cached; else false.
+     */
+    public static boolean isCacheable(MethodInfo methodInfo, Options opts) {
+        return nonNull(methodInfo.cache()) && hasTypedReturnValue(methodInfo, opts);
+    }
+
+    /**
+     * Gets the coalescing decorator class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the coalescing decorator class name.
+     */
+    public static String getCoalescingDecoratorName(ResourceInfo resourceInfo) {
+        return "Coalescing" + resourceInfo.name();
+    }
+
+    /**
+     * Gets whether concurrent identical calls of specified method can share one in-flight call, i.e. whether it is configured for coalescing and returns a typed value.
+     * @param methodInfo the method information.
+     * @param opts the plugin options.
+     * @return true if the calls can be coalesced; else false.
+     */
+    public static boolean isCoalescable(MethodInfo methodInfo, Options opts) {
+        return methodInfo.coalesce() && hasTypedReturnValue(methodInfo, opts);
+    }
+
+    /**
+     * Gets the batching decorator class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the batching decorator class name.
+     */
+    public static String getBatchingDecoratorName(ResourceInfo resourceInfo) {
+        return "Batching" + resourceInfo.name();
+    }
+
+    /**
+     * Gets whether calls of specified method can be aggregated into calls of its batch method, i.e. whether both return typed values.
+     * @param methodInfo the method information.
+     * @param resourceInfo the resource information.
+     * @param opts the plugin options.
+     * @return true if the calls can be aggregated; else false.
+     */
+    public static boolean isBatchable(MethodInfo methodInfo, ResourceInfo resourceInfo, Options opts) {
+        return nonNull(methodInfo.batch()) && hasTypedReturnValue(methodInfo, opts) && hasTypedReturnValue(getBatchMethod(methodInfo, resourceInfo), opts);
+    }
+
+    /**
+     * Gets the hedging decorator class name of specified resource.
+     * @param resourceInfo the resource information.
+     * @return the hedging decorator class name.
+     */
+    public static String getHedgingDecoratorName(ResourceInfo resourceInfo) {
+        return "Hedging" + resourceInfo.name();
+    }
+
+    /**
+     * Gets whether calls of specified method can be hedged, i.e. whether it has a hedging threshold and returns a typed value.
+     * @param methodInfo the method information.
+     * @param opts the plugin options.
+     * @return true if the calls can be hedged; else false.
+     */
+    public static boolean isHedged(MethodInfo methodInfo, Options opts) {
+        return nonNull(methodInfo.hedgeAfter()) && !methodInfo.hedgeAfter().isZero() && hasTypedReturnValue(methodInfo, opts);
+    }
+
+    private static MethodInfo getBatchMethod(MethodInfo methodInfo, ResourceInfo resourceInfo) {
+        return resourceInfo.methods().stream()
+            .filter(m -> m.name().equals(methodInfo.batch().batchMethodName()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static boolean hasTypedReturnValue(MethodInfo methodInfo, Options opts) {
+        // Untyped and RESTEasy responses hold an entity stream, and can't be shared between callers
+        return !opts.useResteasyResponse() && opts.useTypedReturnValues() && nonNull(methodInfo.returnType()) && !methodInfo.hasAmbiguousReturnType();
+    }
+
+    @Override
+    public void writeCachingDecorator(ResourceInfo resourceInfo) {
+        String className = getCachingDecoratorName(resourceInfo);
+
+        writeDecorator(resourceInfo, className, Set.of("java.time.Duration"),
+            "/// Caching decorator of %s, serving cacheable operations from a bounded local cache.".formatted(resourceInfo.name()),
+            () -> {
+                resourceInfo.methods().stream()
+                    .filter(m -> isCacheable(m, opts))
+                    .forEach(m -> writeCode(1, "private static final Duration %s = Duration.parse(\"%s\");".formatted(getConstantName(m, "TTL"), m.cache().ttl())));
+                writeNewLine();
+                writeCode(1, "private final %s delegate;".formatted(resourceInfo.name()));
+                writeCode(1, "private final %s cache;".formatted(RESPONSE_CACHE_CLASS_NAME));
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate) {".formatted(className, resourceInfo.name()));
+                writeCode(2, "this(delegate, new %s());".formatted(RESPONSE_CACHE_CLASS_NAME));
+                writeCode(1, "}");
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate, %s cache) {".formatted(className, resourceInfo.name(), RESPONSE_CACHE_CLASS_NAME));
+                writeCode(2, "this.delegate = delegate;");
+                writeCode(2, "this.cache = cache;");
+                writeCode(1, "}");
+            },
+            m -> {
+                if (!isCacheable(m, opts)) {
+                    return null;
+                }
+                String keyValues = m.cache().keyParams().stream().map(name -> ", " + name).collect(joining());
+                return "cache.get(%s.key(\"%s.%s\"%s), %s, () -> %s)".formatted(RESPONSE_CACHE_CLASS_NAME, resourceInfo.name(), m.name(), keyValues, getConstantName(m, "TTL"), getDelegateCall(m));
+            }
+        );
+    }
+
+    @Override
+    public void writeResponseCache() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.time.Duration;");
+        writeLine("import java.util.Arrays;");
+        writeLine("import java.util.LinkedHashMap;");
+        writeLine("import java.util.List;");
+        writeLine("import java.util.Map;");
+        writeLine("import java.util.function.Supplier;");
+        writeNewLine();
+        writeLine("/// Bounded, thread-safe cache of operation results with time-to-live eviction.");
+        writeLine("/// When full, the least recently used entry is evicted.");
+        writeLine("public class %s {", RESPONSE_CACHE_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "/// Default maximum number of cached entries.");
+        writeCode(1, "public static final int DEFAULT_MAX_ENTRIES = 1000;");
+        writeNewLine();
+        writeCode(1, "private final Map<List<Object>, Entry> entries;");
+        writeNewLine();
+        writeCode(1, "public %s() {".formatted(RESPONSE_CACHE_CLASS_NAME));
+        writeCode(2, "this(DEFAULT_MAX_ENTRIES);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "public %s(int maxEntries) {".formatted(RESPONSE_CACHE_CLASS_NAME));
+        writeCode(2, "this.entries = new LinkedHashMap<>(16, 0.75f, true) {");
+        writeCode(3, "@Override");
+        writeCode(3, "protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {");
+        writeCode(4, "return size() > maxEntries;");
+        writeCode(3, "}");
+        writeCode(2, "};");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Creates a cache key of specified operation name and argument values.");
+        writeCode(1, "public static List<Object> key(Object... values) {");
+        writeCode(2, "return Arrays.asList(values);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Gets the cached value of specified key, or loads and caches it if missing or expired.");
+        writeCode(1, "@SuppressWarnings(\"unchecked\")");
+        writeCode(1, "public <T> T get(List<Object> key, Duration ttl, Supplier<T> loader) {");
+        writeCode(2, "synchronized (entries) {");
+        writeCode(3, "Entry entry = entries.get(key);");
+        writeCode(3, "if (entry != null && System.nanoTime() - entry.expiresAt() < 0) {");
+        writeCode(4, "return (T) entry.value();");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "// The loader is called without holding the lock, so a slow call does not block other keys");
+        writeCode(2, "T value = loader.get();");
+        writeCode(2, "synchronized (entries) {");
+        writeCode(3, "entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));");
+        writeCode(2, "}");
+        writeCode(2, "return value;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Removes all cached values.");
+        writeCode(1, "public void invalidateAll() {");
+        writeCode(2, "synchronized (entries) {");
+        writeCode(3, "entries.clear();");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private record Entry(Object value, long expiresAt) {");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    @Override
+    public void writeCoalescingDecorator(ResourceInfo resourceInfo) {
+        String className = getCoalescingDecoratorName(resourceInfo);
+
+        writeDecorator(resourceInfo, className, emptySet(),
+            "/// Coalescing decorator of %s, letting concurrent identical calls of idempotent operations share one in-flight call.".formatted(resourceInfo.name()),
+            () -> {
+                writeCode(1, "private final %s delegate;".formatted(resourceInfo.name()));
+                writeCode(1, "private final %s singleFlight;".formatted(SINGLE_FLIGHT_CLASS_NAME));
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate) {".formatted(className, resourceInfo.name()));
+                writeCode(2, "this(delegate, new %s());".formatted(SINGLE_FLIGHT_CLASS_NAME));
+                writeCode(1, "}");
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate, %s singleFlight) {".formatted(className, resourceInfo.name(), SINGLE_FLIGHT_CLASS_NAME));
+                writeCode(2, "this.delegate = delegate;");
+                writeCode(2, "this.singleFlight = singleFlight;");
+                writeCode(1, "}");
+            },
+            m -> {
+                if (!isCoalescable(m, opts)) {
+                    return null;
+                }
+                String keyValues = m.parameters().stream().map(p -> ", " + p.name()).collect(joining());
+                return "singleFlight.call(%s.key(\"%s.%s\"%s), () -> %s)".formatted(SINGLE_FLIGHT_CLASS_NAME, resourceInfo.name(), m.name(), keyValues, getDelegateCall(m));
+            }
+        );
+    }
+
+    @Override
+    public void writeSingleFlight() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.util.Arrays;");
+        writeLine("import java.util.List;");
+        writeLine("import java.util.concurrent.CompletableFuture;");
+        writeLine("import java.util.concurrent.CompletionException;");
+        writeLine("import java.util.concurrent.ConcurrentHashMap;");
+        writeLine("import java.util.concurrent.ConcurrentMap;");
+        writeLine("import java.util.function.Supplier;");
+        writeNewLine();
+        writeLine("/// Registry of in-flight calls, letting concurrent calls with equal keys share one call and its outcome.");
+        writeLine("/// Outcomes are not retained once a call completes.");
+        writeLine("public class %s {", SINGLE_FLIGHT_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();");
+        writeNewLine();
+        writeCode(1, "/// Creates a call key of specified operation name and argument values.");
+        writeCode(1, "public static List<Object> key(Object... values) {");
+        writeCode(2, "return Arrays.asList(values);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Calls the loader, unless a call with equal key is already in flight, in which case its outcome is awaited and shared.");
+        writeCode(1, "@SuppressWarnings(\"unchecked\")");
+        writeCode(1, "public <T> T call(List<Object> key, Supplier<T> loader) {");
+        writeCode(2, "CompletableFuture<Object> future = new CompletableFuture<>();");
+        writeCode(2, "CompletableFuture<Object> leader = inFlight.putIfAbsent(key, future);");
+        writeCode(2, "if (leader != null) {");
+        writeCode(3, "return (T) await(leader);");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "try {");
+        writeCode(3, "T value = loader.get();");
+        writeCode(3, "future.complete(value);");
+        writeCode(3, "return value;");
+        writeCode(2, "} catch (RuntimeException | Error e) {");
+        writeCode(3, "future.completeExceptionally(e);");
+        writeCode(3, "throw e;");
+        writeCode(2, "} finally {");
+        writeCode(3, "inFlight.remove(key, future);");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static Object await(CompletableFuture<Object> future) {");
+        writeCode(2, "try {");
+        writeCode(3, "return future.join();");
+        writeCode(2, "} catch (CompletionException e) {");
+        writeCode(3, "if (e.getCause() instanceof RuntimeException cause) {");
+        writeCode(4, "throw cause;");
+        writeCode(3, "}");
+        writeCode(3, "if (e.getCause() instanceof Error cause) {");
+        writeCode(4, "throw cause;");
+        writeCode(3, "}");
+        writeCode(3, "throw e;");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    @Override
+    public void writeBatchingDecorator(ResourceInfo resourceInfo) {
+        String className = getBatchingDecoratorName(resourceInfo);
+        List<MethodInfo> batchedMethods = resourceInfo.methods().stream().filter(m -> isBatchable(m, resourceInfo, opts)).toList();
+
+        writeDecorator(resourceInfo, className, Set.of("java.time.Duration", "java.util.concurrent.CompletableFuture", "java.util.concurrent.Executor", "java.util.concurrent.ScheduledExecutorService"),
+            "/// Batching decorator of %s, aggregating concurrent single-item calls into calls of batch operations.".formatted(resourceInfo.name()),
+            () -> {
+                writeCode(1, "private final %s delegate;".formatted(resourceInfo.name()));
+                batchedMethods.forEach(m -> writeCode(1, "private final %s<%s, %s> %sBatcher;".formatted(BATCHER_CLASS_NAME, getKeyParam(m).type().getFullName(), m.returnType(), m.name())));
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate) {".formatted(className, resourceInfo.name()));
+                writeCode(2, "this(delegate, %s.DEFAULT_WINDOW, %s.defaultScheduler(), %s.defaultExecutor());".formatted(BATCHER_CLASS_NAME, BATCHER_CLASS_NAME, BATCHER_CLASS_NAME));
+                writeCode(1, "}");
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate, Duration window, ScheduledExecutorService scheduler, Executor executor) {".formatted(className, resourceInfo.name()));
+                writeCode(2, "this.delegate = delegate;");
+                batchedMethods.forEach(m -> {
+                    String keyOf = nonNull(m.batch().keyProperty()) ? "item -> item.%s".formatted(opts.pojosAsRecords() ? m.batch().keyProperty() + "()" : m.batch().keyProperty()) : "null";
+                    writeCode(2, "this.%sBatcher = new %s<>(%d, window, scheduler, executor, %s);".formatted(m.name(), BATCHER_CLASS_NAME, m.batch().maxSize(), keyOf));
+                });
+                writeCode(1, "}");
+
+                batchedMethods.forEach(m -> {
+                    MethodInfo batchMethod = getBatchMethod(m, resourceInfo);
+                    String params = m.parameters().stream().map(p -> p.type().getFullName() + " " + p.name()).collect(joining(", "));
+                    String groupValues = m.parameters().stream().map(MethodParamInfo::name).filter(name -> !name.equals(m.batch().keyParam())).collect(joining(", "));
+                    String batchArgs = batchMethod.parameters().stream().map(p -> PARAM_IN_BODY.equals(p.in()) ? "itemKeys" : p.name()).collect(joining(", "));
+
+                    writeNewLine();
+                    writeCode(1, "/// Gets the result of %s as part of a call of %s.".formatted(m.name(), batchMethod.name()));
+                    writeCode(1, "public CompletableFuture<%s> %sAsync(%s) {".formatted(m.returnType(), m.name(), params));
+                    writeCode(2, "return %sBatcher.submit(%s.key(%s), %s, itemKeys -> delegate.%s(%s));".formatted(m.name(), BATCHER_CLASS_NAME, groupValues, m.batch().keyParam(), batchMethod.name(), batchArgs));
+                    writeCode(1, "}");
+                });
+            },
+            m -> {
+                if (!isBatchable(m, resourceInfo, opts)) {
+                    return null;
+                }
+                String args = m.parameters().stream().map(MethodParamInfo::name).collect(joining(", "));
+                return "%s.await(%sAsync(%s))".formatted(BATCHER_CLASS_NAME, m.name(), args);
+            }
+        );
+    }
+
+    @Override
+    public void writeBatcher() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.time.Duration;");
+        writeLine("import java.util.ArrayList;");
+        writeLine("import java.util.Arrays;");
+        writeLine("import java.util.HashMap;");
+        writeLine("import java.util.LinkedHashMap;");
+        writeLine("import java.util.List;");
+        writeLine("import java.util.Map;");
+        writeLine("import java.util.NoSuchElementException;");
+        writeLine("import java.util.concurrent.CompletableFuture;");
+        writeLine("import java.util.concurrent.CompletionException;");
+        writeLine("import java.util.concurrent.Executor;");
+        writeLine("import java.util.concurrent.ExecutorService;");
+        writeLine("import java.util.concurrent.Executors;");
+        writeLine("import java.util.concurrent.ScheduledExecutorService;");
+        writeLine("import java.util.concurrent.ScheduledFuture;");
+        writeLine("import java.util.concurrent.TimeUnit;");
+        writeLine("import java.util.function.Function;");
+        writeNewLine();
+        writeLine("/// Aggregates concurrent single-item calls into calls of a batch operation.");
+        writeLine("/// Item keys are buffered per group of other call arguments, until the batch window has elapsed or the maximum batch size is reached.");
+        writeLine("/// Items of the batch response are matched to item keys by a key property, or by position if no key property is specified.");
+        writeLine("/// The scheduler only runs the batch window timers, while the blocking batch calls are run by the executor.");
+        writeLine("public class %s<K, V> {", BATCHER_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "/// Default time to wait for more item keys before calling the batch operation.");
+        writeCode(1, "public static final Duration DEFAULT_WINDOW = Duration.ofMillis(10);");
+        writeNewLine();
+        writeCode(1, "private final int maxBatchSize;");
+        writeCode(1, "private final Duration window;");
+        writeCode(1, "private final ScheduledExecutorService scheduler;");
+        writeCode(1, "private final Executor executor;");
+        writeCode(1, "private final Function<V, ?> keyOf;");
+        writeCode(1, "private final Map<List<Object>, Batch> pending = new HashMap<>();");
+        writeNewLine();
+        writeCode(1, "public %s(int maxBatchSize, Duration window, ScheduledExecutorService scheduler, Executor executor, Function<V, ?> keyOf) {".formatted(BATCHER_CLASS_NAME));
+        writeCode(2, "this.maxBatchSize = maxBatchSize;");
+        writeCode(2, "this.window = window;");
+        writeCode(2, "this.scheduler = scheduler;");
+        writeCode(2, "this.executor = executor;");
+        writeCode(2, "this.keyOf = keyOf;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Creates a group key of specified call argument values.");
+        writeCode(1, "public static List<Object> key(Object... values) {");
+        writeCode(2, "return Arrays.asList(values);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Gets the shared scheduler of batch window timers, using a daemon thread.");
+        writeCode(1, "public static ScheduledExecutorService defaultScheduler() {");
+        writeCode(2, "return DefaultScheduler.INSTANCE;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Gets the shared executor of batch calls, using daemon threads.");
+        writeCode(1, "public static Executor defaultExecutor() {");
+        writeCode(2, "return DefaultExecutor.INSTANCE;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Waits for the result of a single-item call, rethrowing the exception of a failed batch call.");
+        writeCode(1, "public static <T> T await(CompletableFuture<T> future) {");
+        writeCode(2, "try {");
+        writeCode(3, "return future.join();");
+        writeCode(2, "} catch (CompletionException e) {");
+        writeCode(3, "if (e.getCause() instanceof RuntimeException cause) {");
+        writeCode(4, "throw cause;");
+        writeCode(3, "}");
+        writeCode(3, "if (e.getCause() instanceof Error cause) {");
+        writeCode(4, "throw cause;");
+        writeCode(3, "}");
+        writeCode(3, "throw e;");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Adds an item key to the pending batch of specified group, returning the future item.");
+        writeCode(1, "public CompletableFuture<V> submit(List<Object> group, K key, Function<List<K>, List<V>> batchCall) {");
+        writeCode(2, "CompletableFuture<V> future = new CompletableFuture<>();");
+        writeCode(2, "Batch fullBatch = null;");
+        writeCode(2, "synchronized (pending) {");
+        writeCode(3, "Batch batch = pending.get(group);");
+        writeCode(3, "if (batch == null) {");
+        writeCode(4, "Batch newBatch = new Batch(batchCall);");
+        writeCode(4, "newBatch.timer = scheduler.schedule(() -> flush(group, newBatch), window.toNanos(), TimeUnit.NANOSECONDS);");
+        writeCode(4, "pending.put(group, newBatch);");
+        writeCode(4, "batch = newBatch;");
+        writeCode(3, "}");
+        writeCode(3, "batch.futures.computeIfAbsent(key, k -> new ArrayList<>()).add(future);");
+        writeCode(3, "if (batch.futures.size() >= maxBatchSize) {");
+        writeCode(4, "pending.remove(group);");
+        writeCode(4, "batch.timer.cancel(false);");
+        writeCode(4, "fullBatch = batch;");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeNewLine();
+        writeCode(2, "if (fullBatch != null) {");
+        writeCode(3, "Batch batch = fullBatch;");
+        writeCode(3, "executor.execute(() -> call(batch));");
+        writeCode(2, "}");
+        writeCode(2, "return future;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private void flush(List<Object> group, Batch batch) {");
+        writeCode(2, "synchronized (pending) {");
+        writeCode(3, "// The batch may already have been dispatched when it became full");
+        writeCode(3, "if (!pending.remove(group, batch)) {");
+        writeCode(4, "return;");
+        writeCode(3, "}");
+        writeCode(2, "}");
+        writeCode(2, "executor.execute(() -> call(batch));");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private void call(Batch batch) {");
+        writeCode(2, "List<K> keys = new ArrayList<>(batch.futures.keySet());");
+        writeCode(2, "try {");
+        writeCode(3, "List<V> items = batch.batchCall.apply(keys);");
+        writeCode(3, "if (keyOf != null) {");
+        writeCode(4, "Map<String, V> itemsByKey = new HashMap<>();");
+        writeCode(4, "items.forEach(item -> itemsByKey.put(String.valueOf(keyOf.apply(item)), item));");
+        writeCode(4, "batch.futures.forEach((key, futures) -> {");
+        writeCode(5, "V item = itemsByKey.get(String.valueOf(key));");
+        writeCode(5, "if (item != null) {");
+        writeCode(6, "futures.forEach(f -> f.complete(item));");
+        writeCode(5, "} else {");
+        writeCode(6, "futures.forEach(f -> f.completeExceptionally(new NoSuchElementException(\"No item with key \" + key + \" in batch response\")));");
+        writeCode(5, "}");
+        writeCode(4, "});");
+        writeCode(3, "} else {");
+        writeCode(4, "if (items.size() != keys.size()) {");
+        writeCode(5, "throw new IllegalStateException(\"Batch response has \" + items.size() + \" items, expected \" + keys.size());");
+        writeCode(4, "}");
+        writeCode(4, "for (int i = 0; i < keys.size(); i++) {");
+        writeCode(5, "V item = items.get(i);");
+        writeCode(5, "batch.futures.get(keys.get(i)).forEach(f -> f.complete(item));");
+        writeCode(4, "}");
+        writeCode(3, "}");
+        writeCode(2, "} catch (RuntimeException | Error e) {");
+        writeCode(3, "batch.futures.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(e)));");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private final class Batch {");
+        writeCode(2, "private final Function<List<K>, List<V>> batchCall;");
+        writeCode(2, "private final Map<K, List<CompletableFuture<V>>> futures = new LinkedHashMap<>();");
+        writeCode(2, "private ScheduledFuture<?> timer;");
+        writeNewLine();
+        writeCode(2, "private Batch(Function<List<K>, List<V>> batchCall) {");
+        writeCode(3, "this.batchCall = batchCall;");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static final class DefaultScheduler {");
+        writeCode(2, "private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {");
+        writeCode(3, "Thread thread = new Thread(runnable, \"%s-scheduler\");".formatted(BATCHER_CLASS_NAME.toLowerCase()));
+        writeCode(3, "thread.setDaemon(true);");
+        writeCode(3, "return thread;");
+        writeCode(2, "});");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static final class DefaultExecutor {");
+        writeCode(2, "private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {");
+        writeCode(3, "Thread thread = new Thread(runnable, \"%s\");".formatted(BATCHER_CLASS_NAME.toLowerCase()));
+        writeCode(3, "thread.setDaemon(true);");
+        writeCode(3, "return thread;");
+        writeCode(2, "});");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    @Override
+    public void writeHedgingDecorator(ResourceInfo resourceInfo) {
+        String className = getHedgingDecoratorName(resourceInfo);
+
+        writeDecorator(resourceInfo, className, Set.of("java.time.Duration"),
+            "/// Hedging decorator of %s, sending a second, identical request when the first has not answered within a threshold.".formatted(resourceInfo.name()),
+            () -> {
+                resourceInfo.methods().stream()
+                    .filter(m -> isHedged(m, opts))
+                    .forEach(m -> writeCode(1, "private static final Duration %s = Duration.ofMillis(%d);".formatted(getConstantName(m, "HEDGE_AFTER"), m.hedgeAfter().toMillis())));
+                writeNewLine();
+                writeCode(1, "private final %s delegate;".formatted(resourceInfo.name()));
+                writeCode(1, "private final %s hedger;".formatted(HEDGER_CLASS_NAME));
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate) {".formatted(className, resourceInfo.name()));
+                writeCode(2, "this(delegate, new %s());".formatted(HEDGER_CLASS_NAME));
+                writeCode(1, "}");
+                writeNewLine();
+                writeCode(1, "public %s(%s delegate, %s hedger) {".formatted(className, resourceInfo.name(), HEDGER_CLASS_NAME));
+                writeCode(2, "this.delegate = delegate;");
+                writeCode(2, "this.hedger = hedger;");
+                writeCode(1, "}");
+            },
+            m -> isHedged(m, opts) ? "hedger.call(%s, () -> %s)".formatted(getConstantName(m, "HEDGE_AFTER"), getDelegateCall(m)) : null
+        );
+    }
+
+    @Override
+    public void writeHedger() {
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+        writeLine("import java.time.Duration;");
+        writeLine("import java.util.ArrayList;");
+        writeLine("import java.util.List;");
+        writeLine("import java.util.concurrent.CompletionService;");
+        writeLine("import java.util.concurrent.ExecutionException;");
+        writeLine("import java.util.concurrent.ExecutorCompletionService;");
+        writeLine("import java.util.concurrent.ExecutorService;");
+        writeLine("import java.util.concurrent.Executors;");
+        writeLine("import java.util.concurrent.Future;");
+        writeLine("import java.util.concurrent.TimeUnit;");
+        writeLine("import java.util.function.Supplier;");
+        writeNewLine();
+        writeLine("/// Executes hedged calls: when a call has not completed within a threshold, a second, identical call is started.");
+        writeLine("/// The first successful outcome is returned, and the other call is cancelled by interrupting it.");
+        writeLine("/// Calls run on threads of an executor, so state bound to the calling thread is not available to them.");
+        writeLine("public class %s {", HEDGER_CLASS_NAME);
+        writeNewLine();
+        writeCode(1, "private final ExecutorService executor;");
+        writeNewLine();
+        writeCode(1, "public %s() {".formatted(HEDGER_CLASS_NAME));
+        writeCode(2, "this(DefaultExecutor.INSTANCE);");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "public %s(ExecutorService executor) {".formatted(HEDGER_CLASS_NAME));
+        writeCode(2, "this.executor = executor;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Calls the supplier, and calls it once more if the first call has not completed after specified threshold.");
+        writeCode(1, "/// The exception of the first failed call is thrown if no call succeeds.");
+        writeCode(1, "public <T> T call(Duration hedgeAfter, Supplier<T> call) {");
+        writeCode(2, "CompletionService<T> completion = new ExecutorCompletionService<>(executor);");
+        writeCode(2, "List<Future<T>> attempts = new ArrayList<>(2);");
+        writeCode(2, "try {");
+        writeCode(3, "attempts.add(completion.submit(call::get));");
+        writeCode(3, "Future<T> first = completion.poll(hedgeAfter.toNanos(), TimeUnit.NANOSECONDS);");
+        writeCode(3, "if (first == null) {");
+        writeCode(4, "attempts.add(completion.submit(call::get));");
+        writeCode(4, "first = completion.take();");
+        writeCode(3, "}");
+        writeNewLine();
+        writeCode(3, "try {");
+        writeCode(4, "return first.get();");
+        writeCode(3, "} catch (ExecutionException e) {");
+        writeCode(4, "if (attempts.size() == 1) {");
+        writeCode(5, "throw rethrow(e);");
+        writeCode(4, "}");
+        writeCode(4, "// The first call to complete failed, so wait for the other");
+        writeCode(4, "try {");
+        writeCode(5, "return completion.take().get();");
+        writeCode(4, "} catch (ExecutionException ignored) {");
+        writeCode(5, "throw rethrow(e);");
+        writeCode(4, "}");
+        writeCode(3, "}");
+        writeCode(2, "} catch (InterruptedException e) {");
+        writeCode(3, "Thread.currentThread().interrupt();");
+        writeCode(3, "throw new IllegalStateException(\"Interrupted while waiting for hedged call\", e);");
+        writeCode(2, "} finally {");
+        writeCode(3, "attempts.forEach(attempt -> attempt.cancel(true));");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static RuntimeException rethrow(ExecutionException e) {");
+        writeCode(2, "if (e.getCause() instanceof RuntimeException cause) {");
+        writeCode(3, "return cause;");
+        writeCode(2, "}");
+        writeCode(2, "if (e.getCause() instanceof Error cause) {");
+        writeCode(3, "throw cause;");
+        writeCode(2, "}");
+        writeCode(2, "return new IllegalStateException(e.getCause());");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static final class DefaultExecutor {");
+        writeCode(2, "private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {");
+        writeCode(3, "Thread thread = new Thread(runnable, \"%s\");".formatted(HEDGER_CLASS_NAME.toLowerCase()));
+        writeCode(3, "thread.setDaemon(true);");
+        writeCode(3, "return thread;");
+        writeCode(2, "});");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    private MethodParamInfo getKeyParam(MethodInfo methodInfo) {
+        return methodInfo.parameters().stream()
+            .filter(p -> p.name().equals(methodInfo.batch().keyParam()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private void writeDecorator(ResourceInfo resourceInfo, String className, Set<String> extraImports, String classComment, Runnable memberWriter, Function<MethodInfo, String> decoratedCall) {
+        Set<String> normalImports = new TreeSet<>(extraImports);
+        resourceInfo.methods().forEach(m -> {
+            m.parameters().forEach(p -> normalImports.addAll(p.type().typeNameNormalImports()));
+            if (opts.useResteasyResponse()) {
+                normalImports.add("org.jboss.resteasy.reactive.RestResponse");
+            } else if (!opts.useTypedReturnValues() || m.hasAmbiguousReturnType()) {
+                normalImports.add("jakarta.ws.rs.core.Response");
+            }
+            if (nonNull(m.returnType()) && !m.hasAmbiguousReturnType() && nonNull(m.responseType())) {
+                normalImports.addAll(m.responseType().typeNameNormalImports());
+            }
+        });
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+
+        PartitionedImports imports = PartitionedImports.of(normalImports, emptySet(), opts.rootPackage());
+        verifyNoImportConflicts(className, imports);
+        if (!imports.nonJavaImports().isEmpty()) {
+            imports.nonJavaImports().forEach(i -> writeLine("import %s;", i));
+            writeNewLine();
+        }
+        if (!imports.javaImports().isEmpty()) {
+            imports.javaImports().forEach(i -> writeLine("import %s;", i));
+            writeNewLine();
+        }
+
+        writeLine("%s", classComment);
+        writeLine("public class %s implements %s {", className, resourceInfo.name());
+        writeNewLine();
+        memberWriter.run();
+
+        resourceInfo.methods().forEach(m -> {
+            String returnType = getReturnType(m, opts);
+            String params = m.parameters().stream().map(p -> p.type().getFullName() + " " + p.name()).collect(joining(", "));
+            String call = decoratedCall.apply(m);
+            if (isNull(call)) {
+                call = getDelegateCall(m);
+            }
+
+            writeNewLine();
+            if (m.isDeprecated()) {
+                writeCode(1, "@Deprecated");
+            }
+            writeCode(1, "@Override");
+            writeCode(1, "public %s %s(%s) {".formatted(returnType, m.name(), params));
+            writeCode(2, "void".equals(returnType) ? call + ";" : "return " + call + ";");
+            writeCode(1, "}");
+        });
+
+        writeLine("}");
+    }
+
+    private String getDelegateCall(MethodInfo methodInfo) {
+        return "delegate.%s(%s)".formatted(methodInfo.name(), methodInfo.parameters().stream().map(MethodParamInfo::name).collect(joining(", ")));
+    }
+
+    private String getConstantName(MethodInfo methodInfo, String suffix) {
+        return methodInfo.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_" + suffix;
+    }
+}
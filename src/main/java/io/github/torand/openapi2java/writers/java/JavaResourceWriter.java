@@ -17,22 +17,20 @@ package io.github.torand.openapi2java.writers.java;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotationInfo;
+import io.github.torand.openapi2java.model.MethodInfo;
 import io.github.torand.openapi2java.model.MethodParamInfo;
+import io.github.torand.openapi2java.model.PartitionedImports;
 import io.github.torand.openapi2java.model.ResourceInfo;
-import io.github.torand.openapi2java.utils.PackageUtils;
 import io.github.torand.openapi2java.writers.BaseWriter;
 import io.github.torand.openapi2java.writers.ResourceWriter;
 
 import java.io.Writer;
 import java.util.List;
-import java.util.function.Predicate;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
-import static io.github.torand.openapi2java.utils.PackageUtils.isFqnInPackage;
 import static java.util.Objects.nonNull;
-import static java.util.function.Predicate.not;
 
 /**
  * Writes Java code for a resource.
@@ -48,9 +46,12 @@ public class JavaResourceWriter extends BaseWriter implements ResourceWriter {
         writeLine("package %s;", opts.rootPackage());
         writeNewLine();
 
-        writeNonJavaImports(resourceInfo);
-        writeJavaImports(resourceInfo);
-        writeStaticImports(resourceInfo);
+        PartitionedImports imports = PartitionedImports.of(resourceInfo, opts.rootPackage());
+        verifyNoImportConflicts(resourceInfo.name(), imports);
+
+        writeNonJavaImports(imports);
+        writeJavaImports(imports);
+        writeStaticImports(imports);
 
         resourceInfo.annotations().forEach(a -> writeLine(a.annotation()));
         writeLine("public interface %s {".formatted(resourceInfo.name()));
@@ -74,11 +75,7 @@ public class JavaResourceWriter extends BaseWriter implements ResourceWriter {
             });
 
             writeIndent(1);
-            if (opts.useResteasyResponse()) {
-                writeLine("RestResponse<%s> %s(".formatted(nonNull(m.returnType()) ? m.returnType() : "Void", m.name()));
-            } else {
-                writeLine("Response %s(".formatted(m.name()));
-            }
+            writeLine("%s %s(".formatted(getReturnType(m, opts), m.name()));
 
             for (int i=0; i<m.parameters().size(); i++) {
                 MethodParamInfo paramInfo = m.parameters().get(i);
@@ -110,10 +107,24 @@ public class JavaResourceWriter extends BaseWriter implements ResourceWriter {
         writeLine("}");
     }
 
-    private void writeJavaImports(ResourceInfo resourceInfo) {
-        List<String> imports = resourceInfo.aggregatedNormalImports().stream()
-            .filter(PackageUtils::isJavaPackage)
-            .filter(not(PackageUtils::isFundamentalJavaClass))
+    /**
+     * Gets the return type of specified resource method.
+     * @param methodInfo the method information.
+     * @param opts the plugin options.
+     * @return the return type.
+     */
+    public static String getReturnType(MethodInfo methodInfo, Options opts) {
+        if (opts.useResteasyResponse()) {
+            return "RestResponse<%s>".formatted(nonNull(methodInfo.returnType()) ? methodInfo.returnType() : "Void");
+        } else if (opts.useTypedReturnValues() && !methodInfo.hasAmbiguousReturnType()) {
+            return nonNull(methodInfo.returnType()) ? methodInfo.returnType() : "void";
+        } else {
+            return "Response";
+        }
+    }
+
+    private void writeJavaImports(PartitionedImports partitionedImports) {
+        List<String> imports = partitionedImports.javaImports().stream()
             .map("import %s;"::formatted)
             .toList();
 
@@ -123,12 +134,8 @@ public class JavaResourceWriter extends BaseWriter implements ResourceWriter {
         }
     }
 
-    private void writeNonJavaImports(ResourceInfo resourceInfo) {
-        Predicate<String> isInSamePackage = fqn -> isFqnInPackage(fqn, opts.rootPackage());
-
-        List<String> imports = resourceInfo.aggregatedNormalImports().stream()
-            .filter(not(PackageUtils::isJavaPackage))
-            .filter(not(isInSamePackage))
+    private void writeNonJavaImports(PartitionedImports partitionedImports) {
+        List<String> imports = partitionedImports.nonJavaImports().stream()
             .map("import %s;"::formatted)
             .toList();
 
@@ -138,8 +145,8 @@ public class JavaResourceWriter extends BaseWriter implements ResourceWriter {
         }
     }
 
-    private void writeStaticImports(ResourceInfo resourceInfo) {
-        List<String> imports = resourceInfo.aggregatedStaticImports().stream()
+    private void writeStaticImports(PartitionedImports partitionedImports) {
+        List<String> imports = partitionedImports.staticImports().stream()
             .map("import static %s;"::formatted)
             .toList();
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers.java;
+
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.model.MethodInfo;
+import io.github.torand.openapi2java.model.PartitionedImports;
+import io.github.torand.openapi2java.model.ResourceInfo;
+import io.github.torand.openapi2java.model.TypeInfo;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.BaseWriter;
+import io.github.torand.openapi2java.writers.ResponseExceptionMapperWriter;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Writes Java code for a Microprofile Rest Client response exception mapper, and the typed exceptions it throws.
+ */
+public class JavaResponseExceptionMapperWriter extends BaseWriter implements ResponseExceptionMapperWriter {
+
+    private static final String DEFAULT_STATUS_CODE = "default";
+
+    public JavaResponseExceptionMapperWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    /**
+     * Gets the name of the exception thrown for error responses with a body of specified type.
+     * @param errorType the error response body type.
+     * @param opts the plugin options.
+     * @return the exception class name.
+     */
+    public static String getExceptionClassName(TypeInfo errorType, Options opts) {
+        String name = errorType.name();
+        if (nonBlank(opts.pojoNameSuffix()) && name.endsWith(opts.pojoNameSuffix()) && name.length() > opts.pojoNameSuffix().length()) {
+            name = name.substring(0, name.length() - opts.pojoNameSuffix().length());
+        }
+        return name + "ResponseException";
+    }
+
+    @Override
+    public void write(ResourceInfo resourceInfo) {
+        String className = ResourceInfo.getExceptionMapperName(resourceInfo.name());
+
+        Map<String, TypeInfo> errorTypes = getErrorTypes(resourceInfo);
+
+        Map<String, List<Integer>> exactStatusCodesByType = new LinkedHashMap<>();
+        Map<String, TypeInfo> rangeTypes = new LinkedHashMap<>();
+        TypeInfo defaultType = null;
+        Set<String> normalImports = new TreeSet<>(Set.of(
+            "jakarta.ws.rs.ProcessingException",
+            "jakarta.ws.rs.WebApplicationException",
+            "jakarta.ws.rs.core.MultivaluedMap",
+            "jakarta.ws.rs.core.Response",
+            "org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper"
+        ));
+        Map<String, TypeInfo> typesByName = new LinkedHashMap<>();
+
+        for (Map.Entry<String, TypeInfo> entry : errorTypes.entrySet()) {
+            String statusCode = entry.getKey().toUpperCase();
+            TypeInfo errorType = entry.getValue();
+            typesByName.putIfAbsent(errorType.name(), errorType);
+            normalImports.addAll(errorType.typeNameNormalImports());
+
+            if (DEFAULT_STATUS_CODE.equalsIgnoreCase(statusCode)) {
+                defaultType = errorType;
+            } else if (statusCode.endsWith("XX")) {
+                rangeTypes.put(statusCode, errorType);
+            } else {
+                exactStatusCodesByType.computeIfAbsent(errorType.name(), k -> new ArrayList<>()).add(Integer.parseInt(statusCode));
+            }
+        }
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+
+        PartitionedImports imports = PartitionedImports.of(normalImports, emptySet(), opts.rootPackage());
+        verifyNoImportConflicts(className, imports);
+        imports.nonJavaImports().forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+
+        writeLine("/// Maps error responses of %s to typed exceptions, decoding the declared error response body once.", resourceInfo.name());
+        writeLine("public class %s implements ResponseExceptionMapper<WebApplicationException> {", className);
+        writeNewLine();
+        writeCode(1, "@Override");
+        writeCode(1, "public boolean handles(int status, MultivaluedMap<String, Object> headers) {");
+        writeCode(2, "return status >= 400;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "@Override");
+        writeCode(1, "public WebApplicationException toThrowable(Response response) {");
+        writeCode(2, "int status = response.getStatus();");
+
+        exactStatusCodesByType.forEach((typeName, statusCodes) -> {
+            String condition = statusCodes.stream().map(sc -> "status == " + sc).collect(joining(" || "));
+            writeCode(2, "if (%s) {".formatted(condition));
+            writeCode(3, getNewExceptionExpression(typesByName.get(typeName)));
+            writeCode(2, "}");
+        });
+        rangeTypes.forEach((statusCode, errorType) -> {
+            int rangeStart = Integer.parseInt(statusCode.substring(0, 1)) * 100;
+            writeCode(2, "if (status >= %d && status <= %d) {".formatted(rangeStart, rangeStart + 99));
+            writeCode(3, getNewExceptionExpression(errorType));
+            writeCode(2, "}");
+        });
+
+        if (nonNull(defaultType)) {
+            writeCode(2, getNewExceptionExpression(defaultType));
+        } else {
+            writeCode(2, "return new WebApplicationException(response);");
+        }
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "private static <T> T readError(Response response, Class<T> errorType) {");
+        writeCode(2, "try {");
+        writeCode(3, "return response.readEntity(errorType);");
+        writeCode(2, "} catch (ProcessingException | IllegalStateException e) {");
+        writeCode(3, "// The body is missing or not of the declared type");
+        writeCode(3, "return null;");
+        writeCode(2, "}");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    @Override
+    public void writeException(TypeInfo errorType) {
+        String className = getExceptionClassName(errorType, opts);
+
+        Set<String> normalImports = new TreeSet<>(Set.of(
+            "jakarta.ws.rs.WebApplicationException",
+            "jakarta.ws.rs.core.Response"
+        ));
+        normalImports.addAll(errorType.typeNameNormalImports());
+
+        writeLine("package %s;", opts.rootPackage());
+        writeNewLine();
+
+        PartitionedImports imports = PartitionedImports.of(normalImports, emptySet(), opts.rootPackage());
+        verifyNoImportConflicts(className, imports);
+        imports.nonJavaImports().forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+
+        writeLine("/// Thrown for error responses with a body of type %s.", errorType.name());
+        writeLine("public class %s extends WebApplicationException {", className);
+        writeNewLine();
+        writeCode(1, "private final transient %s error;".formatted(errorType.name()));
+        writeNewLine();
+        writeCode(1, "public %s(Response response, %s error) {".formatted(className, errorType.name()));
+        writeCode(2, "super(\"HTTP status \" + response.getStatus(), response);");
+        writeCode(2, "this.error = error;");
+        writeCode(1, "}");
+        writeNewLine();
+        writeCode(1, "/// Gets the decoded error response body, or null if it could not be decoded.");
+        writeCode(1, "public %s getError() {".formatted(errorType.name()));
+        writeCode(2, "return error;");
+        writeCode(1, "}");
+        writeLine("}");
+    }
+
+    /**
+     * Gets the error response body type of each status code, failing if operations of the resource disagree,
+     * as the mapper does not know which operation was invoked.
+     */
+    private Map<String, TypeInfo> getErrorTypes(ResourceInfo resourceInfo) {
+        Map<String, TypeInfo> errorTypes = new LinkedHashMap<>();
+        Map<String, String> declaringMethods = new LinkedHashMap<>();
+        for (MethodInfo methodInfo : resourceInfo.methods()) {
+            methodInfo.errorResponseTypes().forEach((statusCode, errorType) -> {
+                TypeInfo existingType = errorTypes.putIfAbsent(statusCode, errorType);
+                if (isNull(existingType)) {
+                    declaringMethods.put(statusCode, methodInfo.name());
+                } else if (!existingType.getFullName().equals(errorType.getFullName())) {
+                    throw new OpenApi2JavaException("Conflicting error response types for status %s in %s: %s in %s and %s in %s".formatted(
+                        statusCode, resourceInfo.name(), existingType.name(), declaringMethods.get(statusCode), errorType.name(), methodInfo.name()));
+                }
+            });
+        }
+        return errorTypes;
+    }
+
+    private String getNewExceptionExpression(TypeInfo errorType) {
+        return "return new %s(response, readError(response, %s.class));".formatted(getExceptionClassName(errorType, opts), errorType.name());
+    }
+}
@@ -59,9 +59,14 @@ public class KotlinPojoWriter extends BaseWriter implements PojoWriter {
         }
 
         pojoInfo.annotations().forEach(a -> writeLine(a.annotation()));
-        writeLine("@JvmRecord");
 
-        writeLine("data class %s (".formatted(pojoInfo.name()));
+        if (pojoInfo.valueClass()) {
+            writeLine("@JvmInline");
+            writeLine("value class %s (".formatted(pojoInfo.name()));
+        } else {
+            writeLine("@JvmRecord");
+            writeLine("data class %s (".formatted(pojoInfo.name()));
+        }
 
         if (isEmpty(pojoInfo.properties())) {
             // Empty data classes not allowed in Kotlin
@@ -137,7 +142,7 @@ public class KotlinPojoWriter extends BaseWriter implements PojoWriter {
     }
 
     private String prefixPropertyAnnotation(String annotation) {
-        if (annotation.startsWith("@JsonProperty")) {
+        if (UNPREFIXED_ANNOTATIONS.stream().anyMatch(annotation::startsWith)) {
             return annotation;
         }
 
@@ -148,6 +153,10 @@ public class KotlinPojoWriter extends BaseWriter implements PojoWriter {
         return RESERVED_KEYWORDS.contains(name) ? "`%s`".formatted(name) : name;
     }
 
+    private static final List<String> UNPREFIXED_ANNOTATIONS = List.of(
+        "@JsonProperty", "@SerialName", "@Contextual"
+    );
+
     private static final Set<String> RESERVED_KEYWORDS = Set.of(
         "as", "break", "class", "continue", "do", "else", "false", "for", "fun", "if", "in", "interface",
         "is", "null", "object", "package", "return", "super", "this", "throw", "true", "try", "typealias",
@@ -19,6 +19,7 @@ import io.github.torand.javacommons.stream.StreamHelper;
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.model.AnnotatedTypeName;
 import io.github.torand.openapi2java.model.AnnotationInfo;
+import io.github.torand.openapi2java.model.MethodInfo;
 import io.github.torand.openapi2java.model.MethodParamInfo;
 import io.github.torand.openapi2java.model.ResourceInfo;
 import io.github.torand.openapi2java.utils.PackageUtils;
@@ -36,6 +37,7 @@ import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static io.github.torand.openapi2java.utils.KotlinTypeMapper.toKotlinNative;
 import static io.github.torand.openapi2java.utils.PackageUtils.isFqnInPackage;
 import static io.github.torand.openapi2java.utils.StringUtils.escape;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toCollection;
@@ -44,6 +46,14 @@ import static java.util.stream.Collectors.toCollection;
  * Writes Kotlin code for a resource.
  */
 public class KotlinResourceWriter extends BaseWriter implements ResourceWriter {
+    private static final Set<String> FLOW_COLLECTION_TYPES = Set.of("List", "Set");
+    private static final Set<String> STREAMING_MEDIA_TYPES = Set.of(
+        "application/x-ndjson",
+        "application/stream+json",
+        "application/jsonl",
+        "application/x-jsonlines",
+        "text/event-stream"
+    );
 
     public KotlinResourceWriter(Writer writer, Options opts) {
         super(writer, opts);
@@ -72,6 +82,10 @@ public class KotlinResourceWriter extends BaseWriter implements ResourceWriter {
             });
 
             writeIndent(1);
+            // A Flow is cold and collected by the caller, so the function returning it must not suspend
+            if (opts.useKotlinCoroutines() && !isFlowReturn(m)) {
+                write("suspend ");
+            }
             writeLine("fun %s(".formatted(m.name()));
             for (int i=0; i<m.parameters().size(); i++) {
                 MethodParamInfo paramInfo = m.parameters().get(i);
@@ -102,6 +116,10 @@ public class KotlinResourceWriter extends BaseWriter implements ResourceWriter {
             writeIndent(1);
             if (opts.useResteasyResponse()) {
                 writeLine("): RestResponse<%s>".formatted(nonNull(m.returnType()) ? m.returnType() : "Unit"));
+            } else if (opts.useKotlinCoroutines()) {
+                writeCoroutineReturnType(m);
+            } else if (opts.useTypedReturnValues() && !m.hasAmbiguousReturnType()) {
+                writeLine(nonNull(m.returnType()) ? "): %s".formatted(toKotlinNative(m.returnType())) : ")");
             } else {
                 writeLine("): Response");
             }
@@ -121,6 +139,40 @@ public class KotlinResourceWriter extends BaseWriter implements ResourceWriter {
         writeLine("}");
     }
 
+    private void writeCoroutineReturnType(MethodInfo methodInfo) {
+        String returnType = methodInfo.returnType();
+        if (isNull(returnType)) {
+            writeLine(")");
+        } else if ("*".equals(returnType)) {
+            // Ambiguous response type, fall back to the untyped response
+            writeLine("): Response");
+        } else if (isFlowReturn(methodInfo)) {
+            writeLine("): Flow<%s>".formatted(toKotlinNative(getCollectionItemType(returnType))));
+        } else {
+            writeLine("): %s".formatted(toKotlinNative(returnType)));
+        }
+    }
+
+    private boolean isFlowReturn(MethodInfo methodInfo) {
+        return opts.useKotlinCoroutines()
+            && !opts.useResteasyResponse()
+            && nonNull(methodInfo.responseMediaType())
+            && STREAMING_MEDIA_TYPES.contains(methodInfo.responseMediaType().toLowerCase())
+            && isCollectionType(methodInfo.returnType());
+    }
+
+    private boolean isCollectionType(String returnType) {
+        if (isNull(returnType) || !returnType.endsWith(">")) {
+            return false;
+        }
+        int typeArgStart = returnType.indexOf('<');
+        return typeArgStart > 0 && FLOW_COLLECTION_TYPES.contains(returnType.substring(0, typeArgStart));
+    }
+
+    private String getCollectionItemType(String collectionType) {
+        return collectionType.substring(collectionType.indexOf('<')+1, collectionType.length()-1);
+    }
+
     private void writeImports(ResourceInfo resourceInfo) {
         Predicate<String> isInSamePackage = fqn -> isFqnInPackage(fqn, opts.rootPackage());
 
@@ -138,6 +190,10 @@ public class KotlinResourceWriter extends BaseWriter implements ResourceWriter {
 
         imports.add("import %s.%s.Companion.ROOT_PATH".formatted(opts.rootPackage(), resourceInfo.name()));
 
+        if (resourceInfo.methods().stream().anyMatch(this::isFlowReturn)) {
+            imports.add("import kotlinx.coroutines.flow.Flow");
+        }
+
         imports.forEach(this::writeLine);
         writeNewLine();
     }
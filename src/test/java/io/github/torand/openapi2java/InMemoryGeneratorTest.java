@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java;
+
+import io.github.torand.openapi2java.generators.InMemoryGenerator;
+import io.github.torand.openapi2java.generators.Options;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.torand.openapi2java.TestHelper.getJavaOptions;
+import static io.github.torand.openapi2java.TestHelper.getOpenApi31SpecUri;
+import static io.github.torand.openapi2java.TestHelper.loadOpenApi31Spec;
+import static io.github.torand.openapi2java.TestHelper.readExpectedJavaFile;
+import static io.github.torand.openapi2java.writers.WriterFactory.closeSourceArchive;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryGeneratorTest {
+
+    @Test
+    void shouldGenerateJavaFilesInMemory() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/in-memory");
+
+        Map<String, String> generatedFiles = new InMemoryGenerator(opts).generate(getOpenApi31SpecUri());
+
+        assertThat(generatedFiles).containsKeys("OrdersApi.java", "model/OrderV1Dto.java", "model/common/AddressV1Dto.java");
+        assertThat(generatedFiles.get("OrdersApi.java")).isEqualTo(readExpectedJavaFile("OrdersApi.java"));
+        assertThat(generatedFiles.get("model/OrderV1Dto.java")).isEqualTo(readExpectedJavaFile("model/OrderV1Dto.java"));
+        assertThat(Path.of("target/test-output/in-memory")).doesNotExist();
+    }
+
+    @Test
+    void shouldStreamGeneratedFilesToConsumer() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/in-memory");
+
+        List<String> streamedPaths = new ArrayList<>();
+        new InMemoryGenerator(opts).generate(loadOpenApi31Spec(), (path, content) -> streamedPaths.add(path));
+
+        assertThat(streamedPaths).contains("OrdersApi.java", "model/OrderV1Dto.java");
+        assertThat(Path.of("target/test-output/in-memory")).doesNotExist();
+    }
+
+    @Test
+    void shouldReleaseSourceArchiveWhenGenerationFails() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/in-memory");
+
+        assertThatThrownBy(() -> new InMemoryGenerator(opts).generate(loadOpenApi31Spec(), (path, content) -> {
+            throw new IllegalStateException("Consumer failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(closeSourceArchive()).isNull();
+    }
+}
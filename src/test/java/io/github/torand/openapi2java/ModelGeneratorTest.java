@@ -16,11 +16,23 @@
 package io.github.torand.openapi2java;
 
 import io.github.torand.openapi2java.generators.ModelGenerator;
+import io.github.torand.openapi2java.generators.NativeImageConfigGenerator;
 import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.ResourceGenerator;
+import io.github.torand.openapi2java.generators.StaticOpenApiFileGenerator;
+import io.github.torand.openapi2java.writers.SourceArchive;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static io.github.torand.openapi2java.TestHelper.assertMatchingJavaFiles;
 import static io.github.torand.openapi2java.TestHelper.assertMatchingJavaFilesForOpenApi30;
@@ -31,6 +43,9 @@ import static io.github.torand.openapi2java.TestHelper.getJavaOptions;
 import static io.github.torand.openapi2java.TestHelper.getKotlinOptions;
 import static io.github.torand.openapi2java.TestHelper.loadOpenApi30Spec;
 import static io.github.torand.openapi2java.TestHelper.loadOpenApi31Spec;
+import static io.github.torand.openapi2java.TestHelper.withClassesResourceDirs;
+import static io.github.torand.openapi2java.writers.WriterFactory.finishSourceArchive;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ModelGeneratorTest {
 
@@ -144,6 +159,81 @@ class ModelGeneratorTest {
         }
     }
 
+    @Test
+    void shouldGenerateKotlinPojos_withKotlinSerialization() {
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        Options kotlinOpts = getKotlinOptions().withUseKotlinSerialization(true);
+        new ModelGenerator(kotlinOpts).generate(openApiDoc);
+        assertSnippet("kotlin/model/OrderV1Dto.kt", """
+            @Schema(name = "OrderV1", description = "An order registered by a user")
+            @Serializable
+            @JvmRecord
+            data class OrderV1Dto (
+            
+                @field:Schema(description = "Unique order identifier", format = "uuid")
+                @SerialName("id")
+                @Contextual
+                val id: UUID? = null,
+            """);
+        assertSnippet("kotlin/model/OrderV1Dto.kt", """
+                @field:Schema(description = "Date and time of ticket creation", required = true, format = "date-time")
+                @SerialName("createdTime")
+                @field:NotNull
+                @Contextual
+                val createdTime: LocalDateTime,
+            """);
+        assertSnippet("kotlin/model/OrderStatusV1Dto.kt", """
+            @Schema(name = "OrderStatusV1", description = "Processing status of an order")
+            @Serializable
+            enum class OrderStatusV1Dto {
+            """);
+    }
+
+    @Test
+    void shouldGenerateKotlinValueClasses() {
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getComponents().getSchemas().get("NationalIdentityNumberV1")
+            .addExtension("x-kotlin-value-class", true);
+
+        Options kotlinOpts = getKotlinOptions();
+        new ModelGenerator(kotlinOpts).generate(openApiDoc);
+        assertSnippet("kotlin/model/NationalIdentityNumberV1Dto.kt", """
+            @Schema(name = "NationalIdentityNumberV1", description = "Identifies a Norwegian citizen")
+            @JvmInline
+            value class NationalIdentityNumberV1Dto (
+            
+                @field:NotBlank
+                @field:Pattern(regexp = "^[0-9]{11}$")
+                val value: String
+            )
+            """);
+        assertSnippet("kotlin/model/NewUserProfileV1Dto.kt", """
+                @JsonProperty("nationalIdentityNumber")
+                @field:Valid
+                @field:NotNull
+                val nationalIdentityNumber: NationalIdentityNumberV1Dto
+            """);
+    }
+
+    @Test
+    void shouldGenerateJavaPojos_withRegisterForReflection() {
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        Options javaOpts = getJavaOptions().withAddRegisterForReflectionAnnotations(true);
+        new ModelGenerator(javaOpts).generate(openApiDoc);
+        assertSnippet("java/model/OrderV1Dto.java", """
+            @Schema(name = "OrderV1", description = "An order registered by a user")
+            @RegisterForReflection
+            public record OrderV1Dto (
+            """);
+        assertSnippet("java/model/OrderStatusV1Dto.java", """
+            @Schema(name = "OrderStatusV1", description = "Processing status of an order")
+            @RegisterForReflection
+            public enum OrderStatusV1Dto {
+            """);
+    }
+
     @Test
     public void shouldSupportEmptyPojosAsJavaClasses() {
         OpenAPI openApiDoc = loadOpenApi31Spec();
@@ -159,4 +249,67 @@ class ModelGeneratorTest {
             }
             """);
     }
+
+    @Test
+    void shouldGenerateReproducibleSourceArchive() throws IOException {
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        Options javaOpts = getJavaOptions().withOutputDir("target/test-output/srcjar").withOutputFormat("srcjar");
+        Path archiveFile = Path.of("target/test-output/srcjar", SourceArchive.FILENAME);
+
+        new ModelGenerator(javaOpts).generate(openApiDoc);
+        finishSourceArchive();
+        byte[] firstArchive = Files.readAllBytes(archiveFile);
+
+        new ModelGenerator(javaOpts).generate(openApiDoc);
+        finishSourceArchive();
+        byte[] secondArchive = Files.readAllBytes(archiveFile);
+
+        assertThat(secondArchive).isEqualTo(firstArchive);
+        assertThat(Path.of("target/test-output/srcjar/model")).doesNotExist();
+
+        try (ZipFile zipFile = new ZipFile(archiveFile.toFile())) {
+            List<String> entryNames = Collections.list(zipFile.entries()).stream().map(ZipEntry::getName).toList();
+            assertThat(entryNames).contains(
+                "io/github/torand/openapi2java/test/model/OrderV1Dto.java",
+                "io/github/torand/openapi2java/test/model/common/AddressV1Dto.java"
+            );
+
+            String orderPojo = new String(zipFile.getInputStream(zipFile.getEntry("io/github/torand/openapi2java/test/model/OrderV1Dto.java")).readAllBytes());
+            assertThat(orderPojo).startsWith("package io.github.torand.openapi2java.test.model;");
+        }
+    }
+
+    @Test
+    void shouldWriteResourceFilesOutsideSourceArchive() throws IOException {
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        String outputDir = "target/test-output/srcjar-resources";
+        Options javaOpts = withClassesResourceDirs(getJavaOptions().withOutputDir(outputDir).withOutputFormat("srcjar").withGenerateRestClientConfig(true), outputDir + "/classes");
+        Path archiveFile = Path.of(outputDir, SourceArchive.FILENAME);
+        openApiDoc.getTags().stream().filter(tag -> tag.getName().equals("Orders")).findFirst().orElseThrow()
+            .addExtension("x-restclient-config", Map.of("read-timeout", 5000));
+
+        ModelGenerator modelGenerator = new ModelGenerator(javaOpts);
+        modelGenerator.generate(openApiDoc);
+        ResourceGenerator resourceGenerator = new ResourceGenerator(javaOpts);
+        resourceGenerator.generate(openApiDoc);
+        new NativeImageConfigGenerator(javaOpts).generate(modelGenerator.getGeneratedClassNames(), resourceGenerator.getGeneratedClassNames());
+        new StaticOpenApiFileGenerator(javaOpts).generate(openApiDoc);
+        finishSourceArchive();
+
+        assertThat(Path.of(outputDir, "classes/META-INF/native-image/io.github.torand/test/reflect-config.json")).exists();
+        assertThat(Path.of(outputDir, "classes/META-INF/native-image/io.github.torand/test/proxy-config.json")).exists();
+        assertThat(Path.of(outputDir, "classes/META-INF/openapi.json")).exists();
+        assertThat(Path.of(outputDir, "classes/META-INF/microprofile-config.properties")).exists();
+
+        try (ZipFile zipFile = new ZipFile(archiveFile.toFile())) {
+            List<String> entryNames = Collections.list(zipFile.entries()).stream().map(ZipEntry::getName).toList();
+            assertThat(entryNames).contains("io/github/torand/openapi2java/test/OrdersApi.java");
+            assertThat(entryNames).doesNotContain(
+                "classes/META-INF/native-image/io.github.torand/test/reflect-config.json",
+                "classes/META-INF/native-image/io.github.torand/test/proxy-config.json",
+                "classes/META-INF/openapi.json",
+                "classes/META-INF/microprofile-config.properties"
+            );
+        }
+    }
 }
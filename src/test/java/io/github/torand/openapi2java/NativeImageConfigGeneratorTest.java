@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.torand.openapi2java.generators.ModelGenerator;
+import io.github.torand.openapi2java.generators.NativeImageConfigGenerator;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.ResourceGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.torand.openapi2java.TestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageConfigGeneratorTest {
+
+    @Test
+    void shouldGenerateNativeImageConfig() throws IOException {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/native");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        ModelGenerator modelGenerator = new ModelGenerator(opts);
+        modelGenerator.generate(openApiDoc);
+        ResourceGenerator resourceGenerator = new ResourceGenerator(opts);
+        resourceGenerator.generate(openApiDoc);
+
+        new NativeImageConfigGenerator(opts).generate(modelGenerator.getGeneratedClassNames(), resourceGenerator.getGeneratedClassNames());
+
+        JsonNode reflectConfig = parseJson(Files.readString(Path.of("target/test-output/native/META-INF/native-image/reflect-config.json")));
+        List<String> reflectNames = new ArrayList<>();
+        reflectConfig.forEach(entry -> reflectNames.add(entry.get("name").asText()));
+        assertThat(reflectNames).contains(
+            "io.github.torand.openapi2java.test.model.OrderV1Dto",
+            "io.github.torand.openapi2java.test.model.OrderStatusV1Dto",
+            "io.github.torand.openapi2java.test.model.common.ErrorDto",
+            "io.github.torand.openapi2java.test.OrdersApi"
+        );
+        assertThat(reflectConfig.get(0).get("allDeclaredConstructors").asBoolean()).isTrue();
+
+        JsonNode proxyConfig = parseJson(Files.readString(Path.of("target/test-output/native/META-INF/native-image/proxy-config.json")));
+        List<String> proxyInterfaces = new ArrayList<>();
+        proxyConfig.forEach(entry -> proxyInterfaces.add(entry.get("interfaces").get(0).asText()));
+        assertThat(proxyInterfaces).containsExactly(
+            "io.github.torand.openapi2java.test.OrdersApi",
+            "io.github.torand.openapi2java.test.ProductsApi",
+            "io.github.torand.openapi2java.test.UsersApi"
+        );
+    }
+}
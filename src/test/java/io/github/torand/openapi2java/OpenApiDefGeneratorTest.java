@@ -15,12 +15,19 @@
  */
 package io.github.torand.openapi2java;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.github.torand.openapi2java.generators.OpenApiDefGenerator;
 import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.StaticOpenApiFileGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static io.github.torand.openapi2java.TestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class OpenApiDefGeneratorTest {
 
@@ -63,4 +70,29 @@ class OpenApiDefGeneratorTest {
 
         assertMatchingKotlinFiles("OpenApiDefinition.kt");
     }
+
+    @Test
+    void shouldGenerateStaticOpenApiFile() throws IOException {
+        Options opts = getJavaOptions();
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new StaticOpenApiFileGenerator(opts).generate(openApiDoc);
+
+        JsonNode openApiFile = parseJson(Files.readString(Path.of("target/test-output/java/META-INF/openapi.json")));
+        assertThat(openApiFile.get("openapi").asText()).isEqualTo(openApiDoc.getOpenapi());
+        assertThat(openApiFile.get("paths").size()).isEqualTo(openApiDoc.getPaths().size());
+        assertThat(openApiFile.get("components").get("schemas").has("OrderV1")).isTrue();
+    }
+
+    @Test
+    void shouldGenerateStaticOpenApiFile_withPercentSigns() throws IOException {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/staticopenapi");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getInfo().setDescription("Handles 100% of orders, formatted as %d");
+
+        new StaticOpenApiFileGenerator(opts).generate(openApiDoc);
+
+        JsonNode openApiFile = parseJson(Files.readString(Path.of("target/test-output/staticopenapi/META-INF/openapi.json")));
+        assertThat(openApiFile.get("info").get("description").asText()).isEqualTo("Handles 100% of orders, formatted as %d");
+    }
 }
@@ -17,12 +17,58 @@ package io.github.torand.openapi2java;
 
 import io.github.torand.openapi2java.generators.Options;
 import io.github.torand.openapi2java.generators.ResourceGenerator;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.github.torand.openapi2java.writers.SourceArchive;
+import io.github.torand.openapi2java.writers.SourceCompiler;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static io.github.torand.openapi2java.TestHelper.ConfigVariant.*;
 import static io.github.torand.openapi2java.TestHelper.*;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ResourceGeneratorTest {
 
@@ -123,6 +169,516 @@ class ResourceGeneratorTest {
         assertMatchingJavaFilesVariant("%sApi".formatted("Orders"), OIDC_CLIENT_ANNOTATION);
     }
 
+    @Test
+    void shouldGenerateJavaResources_withTypedReturnValues() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/typed");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("typed/OrdersApi.java", """
+                List<OrderV1Dto> getOrders(
+                    @HeaderParam(ACCEPT_LANGUAGE) String acceptLanguage,
+                    @HeaderParam("X-User-ID") @NotBlank String xUserID
+                );
+            """);
+        assertSnippet("typed/OrdersApi.java", """
+                void registerOrderItem(
+            """);
+        assertSnippet("typed/ProductsApi.java", """
+                byte[] downloadProductDatasheet(
+            """);
+        assertThat(Files.readString(Path.of("target/test-output/typed/OrdersApi.java"))).doesNotContain("import jakarta.ws.rs.core.Response;");
+    }
+
+    @Test
+    void shouldGenerateJavaResponseExceptionMappers() {
+        Options opts = getJavaOptions().withGenerateResponseExceptionMappers(true).withOutputDir("target/test-output/mappers");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("mappers/OrdersApi.java", """
+            @RegisterProvider(MyClientRequestFilter.class)
+            @RegisterProvider(OrdersApiExceptionMapper.class)
+            """);
+        assertSnippet("mappers/OrdersApiExceptionMapper.java", """
+                public WebApplicationException toThrowable(Response response) {
+                    int status = response.getStatus();
+                    if (status == 400 || status == 401 || status == 403 || status == 404 || status == 500) {
+                        return new ErrorResponseException(response, readError(response, ErrorDto.class));
+                    }
+                    return new WebApplicationException(response);
+                }
+            """);
+        assertSnippet("mappers/ErrorResponseException.java", """
+            public class ErrorResponseException extends WebApplicationException {
+            
+                private final transient ErrorDto error;
+            """);
+    }
+
+    @Test
+    void shouldFailForConflictingErrorResponseTypes() {
+        Options opts = getJavaOptions().withGenerateResponseExceptionMappers(true).withOutputDir("target/test-output/mappers");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().getResponses().addApiResponse("404", new ApiResponse()
+            .description("Order not found")
+            .content(new Content().addMediaType("application/json", new MediaType().schema(new Schema<>().$ref("#/components/schemas/OrderV1")))));
+
+        assertThatThrownBy(() -> new ResourceGenerator(opts).generate(openApiDoc))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Conflicting error response types for status 404 in OrdersApi");
+    }
+
+    @Test
+    void shouldGenerateJavaCachingDecorators() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/caching");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        Operation getOrderInfo = openApiDoc.getPaths().get("/orders/{orderId}").getGet();
+        getOrderInfo.addExtension("x-cache-ttl", 3600);
+        getOrderInfo.addExtension("x-cache-key-params", List.of("X-User-ID"));
+        openApiDoc.getPaths().get("/products").getGet().addExtension("x-cache-ttl", "PT5M");
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("caching/CachingOrdersApi.java", """
+            public class CachingOrdersApi implements OrdersApi {
+            
+                private static final Duration GET_ORDER_INFO_TTL = Duration.parse("PT1H");
+            """);
+        assertSnippet("caching/CachingOrdersApi.java", """
+                @Override
+                public OrderV1Dto getOrderInfo(String orderId, String acceptLanguage, String xUserID) {
+                    return cache.get(ResponseCache.key("OrdersApi.getOrderInfo", orderId, xUserID), GET_ORDER_INFO_TTL, () -> delegate.getOrderInfo(orderId, acceptLanguage, xUserID));
+                }
+            
+                @Override
+                public void registerOrderItem(String orderId, String acceptLanguage, String xUserID, OrderItemV1Dto orderItemV1) {
+                    delegate.registerOrderItem(orderId, acceptLanguage, xUserID, orderItemV1);
+                }
+            """);
+        assertSnippet("caching/CachingProductsApi.java", """
+                    return cache.get(ResponseCache.key("ProductsApi.getProducts", acceptLanguage, xUserID, offset, limit, keywords), GET_PRODUCTS_TTL, () -> delegate.getProducts(acceptLanguage, xUserID, offset, limit, keywords));
+            """);
+        assertThat(Path.of("target/test-output/caching/CachingUsersApi.java")).doesNotExist();
+        compileGenerated("target/test-output/caching", "ResponseCache.java");
+    }
+
+    @Test
+    void shouldGenerateJavaCoalescingDecorators() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withGenerateCoalescingDecorators(true).withOutputDir("target/test-output/coalescing");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().addExtension("x-coalesce", false);
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("coalescing/CoalescingOrdersApi.java", """
+                @Override
+                public List<OrderV1Dto> getOrders(String acceptLanguage, String xUserID) {
+                    return singleFlight.call(SingleFlight.key("OrdersApi.getOrders", acceptLanguage, xUserID), () -> delegate.getOrders(acceptLanguage, xUserID));
+                }
+            """);
+        assertSnippet("coalescing/CoalescingOrdersApi.java", """
+                @Override
+                public OrderV1Dto getOrderInfo(String orderId, String acceptLanguage, String xUserID) {
+                    return delegate.getOrderInfo(orderId, acceptLanguage, xUserID);
+                }
+            """);
+        compileGenerated("target/test-output/coalescing", "SingleFlight.java");
+    }
+
+    @Test
+    void shouldGenerateJavaBatchingDecorators() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/batching");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        addBatchGetOrdersOperation(openApiDoc);
+        Operation getOrderInfo = openApiDoc.getPaths().get("/orders/{orderId}").getGet();
+        getOrderInfo.addExtension("x-batch-operation", "batchGetOrders");
+        getOrderInfo.addExtension("x-batch-key-property", "id");
+        getOrderInfo.addExtension("x-batch-max-size", 50);
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("batching/BatchingOrdersApi.java", """
+                public BatchingOrdersApi(OrdersApi delegate, Duration window, ScheduledExecutorService scheduler, Executor executor) {
+                    this.delegate = delegate;
+                    this.getOrderInfoBatcher = new Batcher<>(50, window, scheduler, executor, item -> item.id());
+                }
+            
+                /// Gets the result of getOrderInfo as part of a call of batchGetOrders.
+                public CompletableFuture<OrderV1Dto> getOrderInfoAsync(String orderId, String acceptLanguage, String xUserID) {
+                    return getOrderInfoBatcher.submit(Batcher.key(acceptLanguage, xUserID), orderId, itemKeys -> delegate.batchGetOrders(acceptLanguage, xUserID, itemKeys));
+                }
+            """);
+        assertSnippet("batching/BatchingOrdersApi.java", """
+                @Override
+                public OrderV1Dto getOrderInfo(String orderId, String acceptLanguage, String xUserID) {
+                    return Batcher.await(getOrderInfoAsync(orderId, acceptLanguage, xUserID));
+                }
+            """);
+        assertThat(Path.of("target/test-output/batching/BatchingProductsApi.java")).doesNotExist();
+        compileGenerated("target/test-output/batching", "Batcher.java");
+    }
+
+    @Test
+    void shouldFailForIncompatibleBatchOperation() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/batching");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().addExtension("x-batch-operation", "createOrder");
+
+        assertThatThrownBy(() -> new ResourceGenerator(opts).generate(openApiDoc))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Batch operation createOrder must take an array of String as request body");
+    }
+
+    @Test
+    void shouldCallEachBatchedItemOnceWhenWindowAndMaxSizeRace() throws Exception {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/batching-race");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        addBatchGetOrdersOperation(openApiDoc);
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().addExtension("x-batch-operation", "batchGetOrders");
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+        Path classesDir = compileGenerated("target/test-output/batching-race", "Batcher.java");
+
+        // A window of 1 ms makes the window timer and a full batch dispatch the same batch concurrently
+        int maxBatchSize = 3;
+        int itemCount = 600;
+        Queue<List<String>> batchCalls = new ConcurrentLinkedQueue<>();
+        Function<List<String>, List<String>> batchCall = keys -> {
+            batchCalls.add(List.copyOf(keys));
+            return keys.stream().map(key -> "item-" + key).toList();
+        };
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() })) {
+            Class<?> batcherClass = classLoader.loadClass("io.github.torand.openapi2java.test.Batcher");
+            Object batcher = batcherClass.getConstructor(int.class, Duration.class, ScheduledExecutorService.class, Executor.class, Function.class)
+                .newInstance(maxBatchSize, Duration.ofMillis(1), scheduler, executor, null);
+            Method submit = batcherClass.getMethod("submit", List.class, Object.class, Function.class);
+
+            List<Future<CompletableFuture<?>>> submissions = new ArrayList<>();
+            for (int i = 0; i < itemCount; i++) {
+                String key = String.valueOf(i);
+                submissions.add(callers.submit(() -> (CompletableFuture<?>) submit.invoke(batcher, List.of(), key, batchCall)));
+            }
+            for (int i = 0; i < itemCount; i++) {
+                assertThat(submissions.get(i).get().get(5, TimeUnit.SECONDS)).isEqualTo("item-" + i);
+            }
+        } finally {
+            callers.shutdownNow();
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+
+        List<String> calledKeys = batchCalls.stream().flatMap(List::stream).toList();
+        assertThat(calledKeys).hasSize(itemCount);
+        assertThat(new HashSet<>(calledKeys)).hasSize(itemCount);
+        assertThat(batchCalls).allMatch((List<String> keys) -> keys.size() <= maxBatchSize);
+    }
+
+    @Test
+    void shouldGenerateJavaHedgingDecorators() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/hedging");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Orders").addExtension("x-hedge-after-ms", 200);
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().addExtension("x-hedge-after-ms", 50);
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("hedging/HedgingOrdersApi.java", """
+            public class HedgingOrdersApi implements OrdersApi {
+            
+                private static final Duration GET_ORDERS_HEDGE_AFTER = Duration.ofMillis(200);
+                private static final Duration GET_ORDER_INFO_HEDGE_AFTER = Duration.ofMillis(50);
+            """);
+        assertSnippet("hedging/HedgingOrdersApi.java", """
+                @Override
+                public OrderV1Dto getOrderInfo(String orderId, String acceptLanguage, String xUserID) {
+                    return hedger.call(GET_ORDER_INFO_HEDGE_AFTER, () -> delegate.getOrderInfo(orderId, acceptLanguage, xUserID));
+                }
+            
+                @Override
+                public void registerOrderItem(String orderId, String acceptLanguage, String xUserID, OrderItemV1Dto orderItemV1) {
+                    delegate.registerOrderItem(orderId, acceptLanguage, xUserID, orderItemV1);
+                }
+            """);
+        assertThat(Path.of("target/test-output/hedging/HedgingProductsApi.java")).doesNotExist();
+        compileGenerated("target/test-output/hedging", "Hedger.java");
+    }
+
+    @Test
+    void shouldCancelSlowerHedgedCall() throws Exception {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withOutputDir("target/test-output/hedging-cancel");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Orders").addExtension("x-hedge-after-ms", 200);
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+        Path classesDir = compileGenerated("target/test-output/hedging-cancel", "Hedger.java");
+
+        // The first call hangs until interrupted, so the hedged second call must answer and the first be cancelled
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch firstCallInterrupted = new CountDownLatch(1);
+        Supplier<String> call = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    firstCallInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }
+            return "second";
+        };
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() })) {
+            Class<?> hedgerClass = classLoader.loadClass("io.github.torand.openapi2java.test.Hedger");
+            Object hedger = hedgerClass.getConstructor(ExecutorService.class).newInstance(executor);
+            Object result = hedgerClass.getMethod("call", Duration.class, Supplier.class).invoke(hedger, Duration.ofMillis(50), call);
+
+            assertThat(result).isEqualTo("second");
+            assertThat(firstCallInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(attempts.get()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailForHedgedUnsafeOperation() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/hedging");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders").getPost().addExtension("x-hedge-after-ms", 50);
+
+        assertThatThrownBy(() -> new ResourceGenerator(opts).generate(openApiDoc))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Extension x-hedge-after-ms is only supported for GET operations, not for operation createOrder");
+    }
+
+    @Test
+    void shouldGenerateJavaRateLimitFilters() throws IOException {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/ratelimit");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Orders").addExtension("x-rate-limit", "200/s");
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet().addExtension("x-rate-limit", "10/min");
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("ratelimit/OrdersApi.java", """
+            @RegisterProvider(OrdersApiRateLimitFilter.class)
+            """);
+        assertSnippet("ratelimit/OrdersApiRateLimitFilter.java", """
+                private static final RateLimiter RESOURCE_LIMITER = new RateLimiter(200, Duration.parse("PT1S"));
+            
+                /// Operation limiters by HTTP method and path, as Java method names may be overloaded.
+                private static final Map<String, RateLimiter> METHOD_LIMITERS = Map.ofEntries(
+                    Map.entry("GET orders/{orderId}", new RateLimiter(10, Duration.parse("PT1M")))
+                );
+            """);
+        assertSnippet("ratelimit/OrdersApiRateLimitFilter.java", """
+                    if (requestContext.getProperty(INVOKED_METHOD_PROPERTY) instanceof Method method && method.getAnnotation(Path.class) instanceof Path path) {
+                        RateLimiter methodLimiter = METHOD_LIMITERS.get(requestContext.getMethod() + " " + path.value());
+            """);
+        assertSnippet("ratelimit/OrdersApi.java", """
+                @GET
+                @Path("orders/{orderId}")
+            """);
+        assertThat(Path.of("target/test-output/ratelimit/ProductsApiRateLimitFilter.java")).doesNotExist();
+        compileGenerated("target/test-output/ratelimit", "RateLimiter.java");
+    }
+
+    @Test
+    void shouldGenerateJavaRateLimitFilters_withResourceLimitOnly() throws IOException {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/ratelimit-resource");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Users").addExtension("x-rate-limit", "5/s");
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertThat(Files.readString(Path.of("target/test-output/ratelimit-resource/UsersApiRateLimitFilter.java")))
+            .contains("RESOURCE_LIMITER.acquire();")
+            .doesNotContain("java.lang.reflect.Method")
+            .doesNotContain("jakarta.ws.rs.Path")
+            .doesNotContain("INVOKED_METHOD_PROPERTY");
+    }
+
+    @Test
+    void shouldFailForInvalidRateLimit() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/ratelimit");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders").getGet().addExtension("x-rate-limit", "200 per second");
+
+        assertThatThrownBy(() -> new ResourceGenerator(opts).generate(openApiDoc))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Value '200 per second' of extension x-rate-limit in operation Get-Orders");
+    }
+
+    @Test
+    void shouldGenerateRestClientConfig() throws IOException {
+        Options opts = getJavaOptions().withGenerateRestClientConfig(true).withOutputDir("target/test-output/restclientconfig");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Orders").addExtension("x-restclient-config", Map.of("connection-pool-size", 100, "keep-alive-enabled", true, "read-timeout", 5000));
+        getTag(openApiDoc, "Users").addExtension("x-restclient-config", Map.of("http2", true));
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertThat(Files.readString(Path.of("target/test-output/restclientconfig/META-INF/microprofile-config.properties"))).isEqualTo("""
+            # Generated by openapi2java. Properties in application.properties take precedence.
+
+            quarkus.rest-client."order-api".connection-pool-size=100
+            quarkus.rest-client."order-api".keep-alive-enabled=true
+            quarkus.rest-client."order-api".read-timeout=5000
+
+            quarkus.rest-client."users-api".http2=true
+            """);
+    }
+
+    @Test
+    void shouldFailForUnsupportedRestClientSetting() {
+        Options opts = getJavaOptions().withGenerateRestClientConfig(true).withOutputDir("target/test-output/restclientconfig");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        getTag(openApiDoc, "Orders").addExtension("x-restclient-config", Map.of("connection-pool-size", "many"));
+
+        assertThatThrownBy(() -> new ResourceGenerator(opts).generate(openApiDoc))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Value of setting connection-pool-size in extension x-restclient-config of tag Orders is not a non-negative integer");
+    }
+
+    @Test
+    void shouldGenerateJavaBulkHelpers() {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withGenerateBulkHelpers(true).withOutputDir("target/test-output/bulk");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("bulk/OrdersApiBulk.java", """
+                /// Calls getOrderInfo for each of specified orderId values, returning the results in the same order.
+                public List<BulkResult<String, OrderV1Dto>> getOrderInfo(Collection<String> orderIds, String acceptLanguage, String xUserID) {
+                    return BulkResult.callAll(orderIds, maxConcurrency, orderId -> api.getOrderInfo(orderId, acceptLanguage, xUserID));
+                }
+            """);
+        assertSnippet("bulk/UsersApiBulk.java", """
+                public List<BulkResult<String, UserProfileV1Dto>> getUserProfile(Collection<String> userIds, String acceptLanguage) {
+            """);
+        assertThat(Path.of("target/test-output/bulk/BulkResult.java")).exists();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldCompileJavaBulkResult() throws IOException {
+        Options opts = getJavaOptions().withUseTypedReturnValues(true).withGenerateBulkHelpers(true).withOutputDir("target/test-output/bulk-compiled");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        compileGenerated("target/test-output/bulk-compiled", "BulkResult.java");
+    }
+
+    @Test
+    void shouldGenerateJavaApiClients() {
+        Options opts = getJavaOptions().withGenerateApiClients(true);
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("java/OrdersApiClient.java", """
+            public class OrdersApiClient extends AbstractApiClient {
+            
+                private static final TypeReference<List<OrderV1Dto>> GET_ORDERS_RESPONSE = new TypeReference<>() {};
+            """);
+        assertSnippet("java/OrdersApiClient.java", """
+                public CompletableFuture<Void> registerOrderItemAsync(String orderId, String acceptLanguage, String xUserID, OrderItemV1Dto orderItemV1) {
+                    return sendAsync(registerOrderItemRequest(orderId, acceptLanguage, xUserID, orderItemV1), NO_CONTENT);
+                }
+            
+                private HttpRequest registerOrderItemRequest(String orderId, String acceptLanguage, String xUserID, OrderItemV1Dto orderItemV1) {
+                    HttpRequest.Builder request = newRequest("api/orders/" + encodePath(orderId) + "/items");
+                    addHeader(request, "Accept-Language", acceptLanguage);
+                    addHeader(request, "X-User-ID", xUserID);
+                    request.header("Content-Type", "application/vnd.test.api.order-v1+json");
+                    return request.method("POST", body(orderItemV1)).build();
+                }
+            """);
+        assertSnippet("java/ProductsApiClient.java", """
+                    StringBuilder uri = new StringBuilder("api/products");
+                    addQueryParam(uri, "offset", offset);
+            """);
+        assertSnippet("java/AbstractApiClient.java", """
+            public abstract class AbstractApiClient {
+            """);
+    }
+
+    @Test
+    void shouldGenerateJavaApiClients_withSingleCookieHeader() {
+        Options opts = getJavaOptions().withGenerateApiClients(true).withOutputDir("target/test-output/apiclient-cookies");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        openApiDoc.getPaths().get("/orders/{orderId}").getGet()
+            .addParametersItem(new Parameter().name("session").in("cookie").schema(new StringSchema()))
+            .addParametersItem(new Parameter().name("theme").in("cookie").schema(new StringSchema()));
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("apiclient-cookies/OrdersApiClient.java", """
+                    addCookies(request, "session", session, "theme", theme);
+            """);
+        assertSnippet("apiclient-cookies/AbstractApiClient.java", """
+                        request.header("Cookie", cookies.toString());
+            """);
+    }
+
+    @Test
+    void shouldSendEnumParamsByJsonValueAndEncodeCookies() throws Exception {
+        String outputDir = "target/test-output/apiclient-params";
+        Options opts = getJavaOptions().withGenerateApiClients(true).withOutputDir(outputDir);
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+        Files.writeString(Path.of(outputDir, "ParamProbe.java"), """
+            package io.github.torand.openapi2java.test;
+
+            import com.fasterxml.jackson.annotation.JsonProperty;
+            import com.fasterxml.jackson.databind.ObjectMapper;
+            import java.net.URI;
+            import java.net.http.HttpRequest;
+            import java.util.List;
+
+            public class ParamProbe extends AbstractApiClient {
+                public enum Color { @JsonProperty("light-blue") LIGHT_BLUE }
+
+                public ParamProbe() {
+                    super(null, URI.create("http://localhost/"), new ObjectMapper());
+                }
+
+                public String query() {
+                    StringBuilder uri = new StringBuilder("items");
+                    addQueryParam(uri, "color", Color.LIGHT_BLUE);
+                    addQueryParam(uri, "colors", List.of(Color.LIGHT_BLUE));
+                    return uri.toString();
+                }
+
+                public String cookie() {
+                    HttpRequest.Builder request = newRequest("items");
+                    addCookies(request, "session", "a;b c", "color", Color.LIGHT_BLUE);
+                    return request.build().headers().firstValue("Cookie").orElse(null);
+                }
+            }
+            """);
+        Path classesDir = compileGenerated(outputDir, "AbstractApiClient.java", "ParamProbe.java");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() })) {
+            Class<?> probeClass = classLoader.loadClass("io.github.torand.openapi2java.test.ParamProbe");
+            Object probe = probeClass.getConstructor().newInstance();
+
+            assertThat(probeClass.getMethod("query").invoke(probe)).isEqualTo("items?color=light-blue&colors=light-blue");
+            assertThat(probeClass.getMethod("cookie").invoke(probe)).isEqualTo("session=a%3Bb+c; color=light-blue");
+        }
+    }
+
     @Test
     void shouldGenerateKotlinResources() {
         Options opts = getKotlinOptions();
@@ -214,6 +770,38 @@ class ResourceGeneratorTest {
         assertMatchingKotlinFilesVariant("%sApi".formatted("Orders"), OIDC_CLIENT_ANNOTATION);
     }
 
+    @Test
+    void shouldGenerateKotlinResources_withCoroutines() {
+        Options opts = withKotlinCoroutines(getKotlinOptions());
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        for (String resource : RESOURCES) {
+            assertMatchingKotlinFilesVariant("%sApi".formatted(resource), COROUTINES);
+        }
+    }
+
+    @Test
+    void shouldGenerateKotlinResources_withCoroutinesAndStreamingResponse() throws IOException {
+        Options opts = withKotlinCoroutines(getKotlinOptions()).withOutputDir("target/test-output/streaming");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        ApiResponse getOrdersResponse = openApiDoc.getPaths().get("/orders").getGet().getResponses().get("200");
+        MediaType jsonContent = getOrdersResponse.getContent().get("application/json");
+        getOrdersResponse.setContent(new Content().addMediaType("application/x-ndjson", jsonContent));
+
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        // A Flow is only returned for streaming media types, and never from a suspend function
+        String content = Files.readString(Path.of("target/test-output/streaming/OrdersApi_Coroutines.kt"));
+        assertThat(content)
+            .contains("import kotlinx.coroutines.flow.Flow")
+            .contains("    fun getOrders(")
+            .contains("    ): Flow<OrderV1Dto>")
+            .doesNotContain("suspend fun getOrders(")
+            .contains("suspend fun getOrderInfo(");
+    }
+
     private void removeTags(OpenAPI openApiDoc) {
         openApiDoc.setTags(emptyList());
         openApiDoc.getPaths().values()
@@ -221,4 +809,35 @@ class ResourceGeneratorTest {
                 .forEach(operation -> operation.setTags(emptyList()))
             );
     }
+
+    private void addBatchGetOrdersOperation(OpenAPI openApiDoc) {
+        Operation batchGetOrders = new Operation()
+            .operationId("batchGetOrders")
+            .addTagsItem("Orders")
+            .addParametersItem(new Parameter().$ref("#/components/parameters/AcceptLanguage"))
+            .addParametersItem(new Parameter().$ref("#/components/parameters/X-User-ID"))
+            .requestBody(new RequestBody().content(new Content().addMediaType("application/json", new MediaType().schema(new ArraySchema().items(new StringSchema())))))
+            .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                .description("Orders found")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(new ArraySchema().items(new Schema<>().$ref("#/components/schemas/OrderV1")))))));
+        openApiDoc.getPaths().addPathItem("/orders:batchGet", new PathItem().post(batchGetOrders));
+    }
+
+    private static Tag getTag(OpenAPI openApiDoc, String name) {
+        return openApiDoc.getTags().stream().filter(t -> t.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static Path compileGenerated(String outputDir, String... filenames) throws IOException {
+        SourceArchive archive = new SourceArchive(outputDir, false, true);
+        for (String filename : filenames) {
+            try (Writer writer = archive.createEntryWriter(outputDir, filename)) {
+                writer.write(Files.readString(Path.of(outputDir, filename)));
+            }
+        }
+
+        Path classesDir = Path.of(outputDir, "classes");
+        List<String> classpath = List.of(System.getProperty("java.class.path").split(File.pathSeparator));
+        new SourceCompiler(classpath).compile(archive, classesDir.toString());
+        return classesDir;
+    }
 }
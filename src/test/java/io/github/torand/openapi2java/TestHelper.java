@@ -49,7 +49,8 @@ public final class TestHelper {
         COMMON_CONFIG_KEY("CommonConfigKey"),
         COMMON_HEADERS_FACTORY("CommonHeadersFactory"),
         OIDC_CLIENT_ANNOTATION("OidcClientAnnotation"),
-        COMMON_PROVIDERS("CommonProviders");
+        COMMON_PROVIDERS("CommonProviders"),
+        COROUTINES("Coroutines");
 
         String suffix;
 
@@ -58,8 +59,16 @@ public final class TestHelper {
         }
     }
 
+    public static String getOpenApi31SpecUri() {
+        return getResourceUri("openapi-3.1.json").toString();
+    }
+
+    public static String getMultiFileSpecUri() {
+        return getResourceUri("multi-file/openapi.yaml").toString();
+    }
+
     public static OpenAPI loadOpenApi31Spec() {
-        String openApiUri = getResourceUri("openapi-3.1.json").toString();
+        String openApiUri = getOpenApi31SpecUri();
         SwaggerParseResult result = new OpenAPIV3Parser().readLocation(openApiUri, null, null);
         return result.getOpenAPI();
     }
@@ -90,6 +99,58 @@ public final class TestHelper {
             .withVerbose(true);
     }
 
+    // Writes resource files below the classes directory, like the Maven plugin does by default
+    public static Options withClassesResourceDirs(Options baseOptions, String classesDir) {
+        return new Options(
+            baseOptions.outputDir(),
+            baseOptions.outputFormat(),
+            baseOptions.compiledClassesDir(),
+            baseOptions.writeCompiledSources(),
+            baseOptions.rootPackage(),
+            baseOptions.rootUrlPath(),
+            baseOptions.resourceNameSuffix(),
+            baseOptions.resourceNameOverride(),
+            baseOptions.resourceConfigKeyOverride(),
+            baseOptions.resourceClientHeadersFactoryOverride(),
+            baseOptions.resourceProvidersOverride(),
+            baseOptions.pojoNameSuffix(),
+            baseOptions.pojosAsRecords(),
+            baseOptions.durationClassName(),
+            baseOptions.dateClassName(),
+            baseOptions.dateTimeClassName(),
+            baseOptions.includeTags(),
+            baseOptions.readIncludedTagsOnly(),
+            baseOptions.loadExternalRefsInParallel(),
+            baseOptions.lowMemoryMode(),
+            baseOptions.generateResourceInterfaces(),
+            baseOptions.generateApiClients(),
+            baseOptions.generateResponseExceptionMappers(),
+            baseOptions.generateCoalescingDecorators(),
+            baseOptions.generateBulkHelpers(),
+            baseOptions.generateOpenApiDefClass(),
+            baseOptions.generateNativeImageConfig(),
+            classesDir + "/META-INF/native-image/io.github.torand/test",
+            baseOptions.generateStaticOpenApiFile(),
+            classesDir + "/META-INF",
+            baseOptions.generateRestClientConfig(),
+            classesDir + "/META-INF",
+            baseOptions.addJsonPropertyAnnotations(),
+            baseOptions.addJakartaBeanValidationAnnotations(),
+            baseOptions.addMpOpenApiAnnotations(),
+            baseOptions.addMpRestClientAnnotations(),
+            baseOptions.addRegisterForReflectionAnnotations(),
+            baseOptions.useKotlinSyntax(),
+            baseOptions.useKotlinCoroutines(),
+            baseOptions.useKotlinSerialization(),
+            baseOptions.useResteasyResponse(),
+            baseOptions.useTypedReturnValues(),
+            baseOptions.useOidcClientAnnotation(),
+            baseOptions.indentWithTab(),
+            baseOptions.indentSize(),
+            baseOptions.verbose()
+        );
+    }
+
     public static Options withResteasyResponse(Options baseOptions) {
         return baseOptions
             .withResourceNameSuffix(baseOptions.resourceNameSuffix() + "_" + RESTEASY.suffix)
@@ -120,6 +181,12 @@ public final class TestHelper {
             .withUseOidcClientAnnotation(true);
     }
 
+    public static Options withKotlinCoroutines(Options baseOptions) {
+        return baseOptions
+            .withResourceNameSuffix(baseOptions.resourceNameSuffix() + "_" + COROUTINES.suffix)
+            .withUseKotlinCoroutines(true);
+    }
+
     public static void assertSnippet(String path, String expectedSnippet) {
         try {
             Path actualPath = Path.of("target/test-output/" + path);
@@ -137,6 +204,14 @@ public final class TestHelper {
         assertMatchingFiles(expectedPath, actualPath);
     }
 
+    public static String readExpectedJavaFile(String filename) {
+        try {
+            return Files.readString(getResourcePath("expected-output/java/%s".formatted(filename)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read expected file " + filename, e);
+        }
+    }
+
     public static void assertMatchingJavaFilesForOpenApi30(String filename) {
         Path expectedPath = getResourcePath("expected-output-30/java/%s".formatted(filename));
         Path actualPath = Path.of("target/test-output/java/%s".formatted(filename));
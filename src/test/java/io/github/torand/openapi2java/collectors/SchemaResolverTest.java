@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.collectors;
+
+import io.github.torand.openapi2java.TestHelper;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaResolverTest {
+
+    private final OpenAPI openApiDoc = TestHelper.loadOpenApi31Spec();
+    private final SchemaResolver schemaResolver = new ComponentResolver(openApiDoc).schemas();
+
+    @Test
+    void shouldResolveSchemaComponents() {
+        assertThat(schemaResolver.getTypeName("#/components/schemas/OrderV1")).isEqualTo("OrderV1");
+        assertThat(schemaResolver.getOrThrow("#/components/schemas/OrderV1")).isSameAs(openApiDoc.getComponents().getSchemas().get("OrderV1"));
+        assertThat(schemaResolver.get("#/components/schemas/Unknown")).isEqualTo(Optional.empty());
+        assertThat(schemaResolver.getModelSubpackage("#/components/schemas/AddressV1")).isEqualTo(Optional.of("common"));
+        assertThat(schemaResolver.getModelSubpackage("#/components/schemas/OrderV1")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void shouldClassifySchemaComponents() {
+        assertThat(schemaResolver.isObjectType("#/components/schemas/OrderV1")).isTrue();
+        assertThat(schemaResolver.isPrimitiveType("#/components/schemas/OrderV1")).isFalse();
+
+        assertThat(schemaResolver.isEnumType("#/components/schemas/OrderStatusV1")).isTrue();
+        assertThat(schemaResolver.isPrimitiveType("#/components/schemas/OrderStatusV1")).isFalse();
+
+        assertThat(schemaResolver.isPrimitiveType("#/components/schemas/UuidV1")).isTrue();
+        assertThat(schemaResolver.isArrayType("#/components/schemas/UuidV1")).isFalse();
+
+        assertThat(schemaResolver.isEnumType("#/components/schemas/Unknown")).isFalse();
+    }
+}
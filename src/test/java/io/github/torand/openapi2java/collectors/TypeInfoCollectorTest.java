@@ -17,9 +17,12 @@ package io.github.torand.openapi2java.collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.github.torand.openapi2java.TestHelper;
+import io.github.torand.openapi2java.generators.ModelGenerator;
 import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.ResourceGenerator;
 import io.github.torand.openapi2java.model.AnnotationInfo;
 import io.github.torand.openapi2java.model.TypeInfo;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.parser.util.OpenAPIDeserializer;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.List;
 
+import static io.github.torand.openapi2java.TestHelper.loadOpenApi31Spec;
 import static io.github.torand.openapi2java.TestHelper.parseJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -221,6 +225,53 @@ class TypeInfoCollectorTest {
         assertThat(typeInfo.getAnnotatedFullName().asString()).isEqualTo("@Valid @NotNull @Size(min = 1, max = 10) Map<@NotBlank String, @NotNull Integer>");
     }
 
+    @Test
+    void shouldShareStructurallyIdenticalInstances() {
+        String jsonSchema = """
+                {"type": "array", "items": {"type": "string", "minLength": 3}, "maxItems": 10}
+            """;
+
+        TypeInfo typeInfo1 = getTypeInfo(jsonSchema);
+        TypeInfo typeInfo2 = getTypeInfo(jsonSchema);
+
+        assertThat(typeInfo2).isSameAs(typeInfo1);
+        assertThat(typeInfo2.itemType()).isSameAs(typeInfo1.itemType());
+
+        TypeInfo otherTypeInfo = getTypeInfo("""
+                {"type": "string", "minLength": 3}
+            """);
+
+        assertThat(otherTypeInfo.annotations().get(0)).isSameAs(typeInfo1.itemType().annotations().get(0));
+        assertThat(otherTypeInfo.imports()).isSameAs(typeInfo1.itemType().imports());
+    }
+
+    @Test
+    void shouldNotShareInstancesAcrossGenerationRuns() {
+        String jsonSchema = """
+                {"type": "string", "minLength": 3}
+            """;
+
+        TypeInfo typeInfo1 = getTypeInfo(jsonSchema);
+        createTypeInfoCollector(TestHelper.getJavaOptions());
+        TypeInfo typeInfo2 = getTypeInfo(jsonSchema);
+
+        assertThat(typeInfo2).isEqualTo(typeInfo1).isNotSameAs(typeInfo1);
+    }
+
+    @Test
+    void shouldShareMostInstancesWhenGeneratingCode() {
+        Options opts = TestHelper.getJavaOptions().withOutputDir("target/test-output/interning");
+        OpenAPI openApiDoc = loadOpenApi31Spec();
+        ComponentResolver componentResolver = new ComponentResolver(openApiDoc);
+
+        new ModelGenerator(opts).generate(openApiDoc, componentResolver);
+        new ResourceGenerator(opts).generate(openApiDoc, componentResolver);
+
+        // Each canonical instance replaces more than one structurally identical instance on average
+        TypeInterner typeInterner = componentResolver.schemas().getTypeInterner();
+        assertThat(typeInterner.getSharedCount()).isGreaterThan(typeInterner.getInstanceCount());
+    }
+
     private void assertNullableBooleanType(String jsonSchema, String... expectedAnnotations) {
         TypeInfo typeInfo = getTypeInfo(jsonSchema);
         assertPrimitiveType(typeInfo, "Boolean", null, null, true, expectedAnnotations);
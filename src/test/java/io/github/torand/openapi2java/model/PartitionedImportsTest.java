@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionedImportsTest {
+
+    @Test
+    void shouldPartitionImports() {
+        PropertyInfo property = new PropertyInfo("created")
+            .withType(new TypeInfo()
+                .withName("LocalDateTime")
+                .withAddedNormalImport("java.time.LocalDateTime")
+                .withAddedNormalImport("java.lang.String"));
+        PojoInfo pojo = new PojoInfo("OrderDto")
+            .withAddedProperties(Set.of(property))
+            .withAddedAnnotation(new AnnotationInfo("@Schema")
+                .withAddedNormalImport("org.eclipse.microprofile.openapi.annotations.media.Schema")
+                .withAddedNormalImport("com.example.model.AddressDto")
+                .withAddedStaticImport("java.util.Objects.nonNull"));
+
+        PartitionedImports imports = PartitionedImports.of(pojo, "com.example.model");
+
+        assertThat(imports.javaImports()).containsExactly("java.time.LocalDateTime");
+        assertThat(imports.nonJavaImports()).containsExactly("org.eclipse.microprofile.openapi.annotations.media.Schema");
+        assertThat(imports.staticImports()).containsExactly("java.util.Objects.nonNull");
+        assertThat(imports.conflicts()).isEmpty();
+    }
+
+    @Test
+    void shouldDetectConflictingImports() {
+        PartitionedImports imports = new PartitionedImports(
+            Set.of("java.util.List"),
+            Set.of("com.example.List", "jakarta.ws.rs.core.Response", "org.jboss.resteasy.reactive.RestResponse"),
+            Set.of()
+        );
+
+        assertThat(imports.conflicts()).containsOnlyKeys("List");
+        assertThat(imports.conflicts().get("List")).containsExactly("com.example.List", "java.util.List");
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.readers;
+
+import io.github.torand.openapi2java.generators.ModelGenerator;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.ResourceGenerator;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.torand.openapi2java.TestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenApiReaderTest {
+
+    @Test
+    void shouldReadAllTags() {
+        Options opts = getJavaOptions().withIncludeTags(List.of("Orders"));
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getOpenApi31SpecUri());
+
+        assertThat(openApiDoc.getPaths()).containsKeys("/orders", "/products", "/users");
+        assertThat(openApiDoc.getComponents().getSchemas()).containsKey("NewUserProfileV1");
+    }
+
+    @Test
+    void shouldReadIncludedTagsOnly() {
+        Options opts = getJavaOptions().withIncludeTags(List.of("Orders")).withReadIncludedTagsOnly(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getOpenApi31SpecUri());
+
+        assertThat(openApiDoc.getPaths()).containsOnlyKeys("/orders", "/orders/{orderId}", "/orders/{orderId}/items");
+        assertThat(openApiDoc.getComponents().getSchemas()).containsKeys("OrderV1", "OrderItemV1", "ProductV1", "UserProfileV1");
+        assertThat(openApiDoc.getComponents().getSchemas()).doesNotContainKeys("NewUserProfileV1", "NationalIdentityNumberV1");
+        assertThat(openApiDoc.getComponents().getParameters()).containsKey("OrderId").doesNotContainKey("UserId");
+        assertThat(openApiDoc.getComponents().getSecuritySchemes()).isNotEmpty();
+    }
+
+    @Test
+    void shouldGenerateSameCodeFromIncludedTagsOnly() {
+        Options opts = getJavaOptions().withIncludeTags(List.of("Orders")).withReadIncludedTagsOnly(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getOpenApi31SpecUri());
+        new ModelGenerator(opts).generate(openApiDoc);
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertMatchingJavaFiles("OrdersApi.java");
+        assertMatchingJavaFiles("model/OrderV1Dto.java");
+        assertMatchingJavaFiles("model/OrderItemV1Dto.java");
+    }
+
+    @Test
+    void shouldRemoveExamplesInLowMemoryMode() {
+        Options opts = getJavaOptions().withLowMemoryMode(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getOpenApi31SpecUri());
+
+        assertThat(openApiDoc.getComponents().getExamples()).isNull();
+        openApiDoc.getComponents().getSchemas().values().forEach(schema -> assertThat(schema.getExample()).isNull());
+    }
+
+    @Test
+    void shouldRetainNonExampleContentNamedExampleInLowMemoryMode() throws IOException {
+        Options opts = getJavaOptions().withLowMemoryMode(true);
+        Path specFile = Path.of("target/test-output/lowmemory/openapi.json");
+        Files.createDirectories(specFile.getParent());
+        Files.writeString(specFile, """
+            {
+              "openapi": "3.1.0",
+              "info": { "title": "Examples", "version": "1.0" },
+              "paths": {},
+              "components": {
+                "schemas": {
+                  "example": { "type": "string", "example": "removed" },
+                  "Settings": {
+                    "type": "object",
+                    "x-meta": { "example": "retained" },
+                    "default": { "example": "retained" },
+                    "properties": {
+                      "examples": { "type": "array", "items": { "type": "string" }, "examples": [ [ "removed" ] ] }
+                    }
+                  }
+                }
+              }
+            }
+            """);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(specFile.toString());
+
+        Map<String, Schema> schemas = openApiDoc.getComponents().getSchemas();
+        assertThat(schemas).containsKeys("example", "Settings");
+        assertThat(schemas.get("example").getExample()).isNull();
+        Schema<?> settings = schemas.get("Settings");
+        assertThat(settings.getExtensions().get("x-meta")).isEqualTo(Map.of("example", "retained"));
+        assertThat(String.valueOf(settings.getDefault())).contains("retained");
+        assertThat(settings.getProperties()).containsKey("examples");
+        assertThat(settings.getProperties().get("examples").getExamples()).isNull();
+    }
+
+    @Test
+    void shouldGenerateSameCodeInLowMemoryMode() {
+        Options opts = getJavaOptions().withLowMemoryMode(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getOpenApi31SpecUri());
+        new ModelGenerator(opts).generate(openApiDoc);
+        new ResourceGenerator(opts).generate(openApiDoc);
+
+        assertMatchingJavaFiles("OrdersApi.java");
+        assertMatchingJavaFiles("UsersApi.java");
+        assertMatchingJavaFiles("model/OrderV1Dto.java");
+        assertMatchingJavaFiles("model/NewUserProfileV1Dto.java");
+    }
+
+    @Test
+    void shouldBundleExternalRefs() {
+        Options opts = getJavaOptions().withLoadExternalRefsInParallel(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getMultiFileSpecUri());
+
+        assertThat(openApiDoc.getPaths().get("/pets").getGet().getOperationId()).isEqualTo("getPets");
+        assertThat(openApiDoc.getComponents().getSchemas()).containsOnlyKeys("Error", "Pet", "Category", "Owner");
+        assertThat(openApiDoc.getComponents().getParameters()).containsOnlyKeys("PageLimit");
+        assertThat(openApiDoc.getComponents().getResponses()).containsOnlyKeys("NotFound");
+
+        Schema<?> ownerSchema = openApiDoc.getComponents().getSchemas().get("Owner");
+        assertThat(ownerSchema.getProperties().get("preferredCategory").get$ref()).isEqualTo("#/components/schemas/Category");
+        Schema<?> notFoundSchema = openApiDoc.getComponents().getResponses().get("NotFound").getContent().get("application/json").getSchema();
+        assertThat(notFoundSchema.get$ref()).isEqualTo("#/components/schemas/Error");
+    }
+
+    @Test
+    void shouldGenerateCodeFromBundledExternalRefs() {
+        Options opts = getJavaOptions().withOutputDir("target/test-output/multi-file").withLoadExternalRefsInParallel(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getMultiFileSpecUri());
+        new ModelGenerator(opts).generate(openApiDoc);
+
+        assertSnippet("multi-file/model/PetDto.java", """
+                @JsonProperty("owner")
+                @Valid
+                OwnerDto owner
+            """);
+        assertSnippet("multi-file/model/OwnerDto.java", """
+                CategoryDto preferredCategory
+            """);
+    }
+
+    @Test
+    void shouldRetainNamesOfComponentsDefinedByExternalRefs() {
+        Options opts = getJavaOptions().withLoadExternalRefsInParallel(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getMultiFileSpecUri());
+
+        Map<String, Schema> schemas = openApiDoc.getComponents().getSchemas();
+        assertThat(schemas).containsOnlyKeys("Error", "Pet", "Category", "Owner");
+        assertThat(schemas.get("Pet").get$ref()).isNull();
+        assertThat(schemas.get("Pet").getProperties()).containsKeys("name", "category", "owner");
+        assertThat(schemas.get("Owner").get$ref()).isNull();
+
+        Schema<?> itemsSchema = openApiDoc.getPaths().get("/pets").getGet().getResponses().get("200").getContent().get("application/json").getSchema().getItems();
+        assertThat(itemsSchema.get$ref()).isEqualTo("#/components/schemas/Pet");
+    }
+
+    @Test
+    void shouldRetainReferencedPathItemsWhenReadingIncludedTagsOnly() {
+        Options opts = getJavaOptions().withIncludeTags(List.of("Pets")).withReadIncludedTagsOnly(true);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(getMultiFileSpecUri());
+
+        assertThat(openApiDoc.getPaths()).containsOnlyKeys("/pets");
+        assertThat(openApiDoc.getPaths().get("/pets").get$ref()).endsWith("paths/pets.yaml");
+        assertThat(openApiDoc.getComponents().getSchemas()).containsKey("Error");
+    }
+
+    @Test
+    void shouldReadPrecompiledSpec() {
+        Options opts = getJavaOptions();
+        Path precompiledFile = Path.of("target/test-output/precompiled/openapi.json.gz");
+
+        String contentHash = new SpecPrecompiler(opts).precompile(getMultiFileSpecUri(), precompiledFile, true);
+        assertThat(contentHash).hasSize(64);
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(precompiledFile.toString());
+
+        assertThat(openApiDoc.getPaths().get("/pets").getGet().getOperationId()).isEqualTo("getPets");
+        assertThat(openApiDoc.getComponents().getSchemas()).containsOnlyKeys("Error", "Pet", "Category", "Owner");
+    }
+
+    @Test
+    void shouldRejectPrecompiledSpecWithChecksumMismatch() throws IOException {
+        Options opts = getJavaOptions();
+        Path precompiledFile = Path.of("target/test-output/precompiled/openapi-tampered.json.gz");
+
+        new SpecPrecompiler(opts).precompile(getOpenApi31SpecUri(), precompiledFile, true);
+        Files.writeString(SpecPrecompiler.getChecksumFile(precompiledFile), "0".repeat(64));
+
+        assertThatThrownBy(() -> new OpenApiReader(opts).read(precompiledFile.toString()))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void shouldDetectUncompressedPrecompiledSpecByChecksumFile() throws IOException {
+        Options opts = getJavaOptions();
+        Path precompiledFile = Path.of("target/test-output/precompiled/openapi-uncompressed.json");
+
+        new SpecPrecompiler(opts).precompile(getOpenApi31SpecUri(), precompiledFile, false);
+        assertThat(SpecFileLoader.isPrecompiled(precompiledFile.toString())).isTrue();
+
+        Files.writeString(SpecPrecompiler.getChecksumFile(precompiledFile), "0".repeat(64));
+
+        assertThatThrownBy(() -> new OpenApiReader(opts).read(precompiledFile.toString()))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void shouldDetectCompressedPrecompiledSpecByContent() throws IOException {
+        Options opts = getJavaOptions();
+        Path precompiledFile = Path.of("target/test-output/precompiled/openapi.bin");
+
+        new SpecPrecompiler(opts).precompile(getMultiFileSpecUri(), precompiledFile, true);
+        Files.delete(SpecPrecompiler.getChecksumFile(precompiledFile));
+
+        assertThat(SpecFileLoader.isPrecompiled(precompiledFile.toString())).isTrue();
+        assertThat(SpecFileLoader.isPrecompiled(getOpenApi31SpecUri())).isFalse();
+
+        OpenAPI openApiDoc = new OpenApiReader(opts).read(precompiledFile.toString());
+        assertThat(openApiDoc.getPaths().get("/pets").getGet().getOperationId()).isEqualTo("getPets");
+    }
+}
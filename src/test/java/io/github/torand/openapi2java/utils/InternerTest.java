@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.utils;
+
+import io.github.torand.openapi2java.model.AnnotationInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternerTest {
+
+    @Test
+    void shouldReturnCanonicalInstance() {
+        Interner<AnnotationInfo> interner = new Interner<>();
+
+        AnnotationInfo first = interner.intern(new AnnotationInfo("@NotNull", "jakarta.validation.constraints.NotNull"));
+        AnnotationInfo second = interner.intern(new AnnotationInfo("@NotNull", "jakarta.validation.constraints.NotNull"));
+        AnnotationInfo other = interner.intern(new AnnotationInfo("@Valid", "jakarta.validation.Valid"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(interner.size()).isEqualTo(2);
+        assertThat(interner.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCanonicalizeNewInstances() {
+        Interner<AnnotationInfo> interner = new Interner<>();
+        AnnotationInfo canonical = new AnnotationInfo("@Valid", "jakarta.validation.Valid");
+
+        AnnotationInfo interned = interner.intern(new AnnotationInfo("@Valid", "jakarta.validation.Valid"), annotation -> canonical);
+
+        assertThat(interned).isSameAs(canonical);
+        assertThat(interner.intern(new AnnotationInfo("@Valid", "jakarta.validation.Valid"))).isSameAs(canonical);
+    }
+}
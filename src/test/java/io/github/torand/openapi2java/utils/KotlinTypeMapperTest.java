@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.torand.openapi2java.utils.KotlinTypeMapper.toKotlinNative;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KotlinTypeMapperTest {
+
+    @Test
+    void shouldMapSimpleTypes() {
+        assertThat(toKotlinNative("Integer")).isEqualTo("Int");
+        assertThat(toKotlinNative("byte")).isEqualTo("Byte");
+        assertThat(toKotlinNative("byte[]")).isEqualTo("ByteArray");
+        assertThat(toKotlinNative("Long")).isEqualTo("Long");
+        assertThat(toKotlinNative("String")).isEqualTo("String");
+    }
+
+    @Test
+    void shouldMapTypeArguments() {
+        assertThat(toKotlinNative("List<Integer>")).isEqualTo("List<Int>");
+        assertThat(toKotlinNative("Map<String, byte[]>")).isEqualTo("Map<String, ByteArray>");
+        assertThat(toKotlinNative("List<@NotNull @Min(1) Integer>")).isEqualTo("List<@NotNull @Min(1) Int>");
+    }
+
+    @Test
+    void shouldNotMapQuotedAnnotationValues() {
+        assertThat(toKotlinNative("List<@Pattern(regexp = \"Integer\\\\d\") Integer>")).isEqualTo("List<@Pattern(regexp = \"Integer\\\\d\") Int>");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.openapi2java.writers;
+
+import io.github.torand.openapi2java.generators.NativeImageConfigGenerator;
+import io.github.torand.openapi2java.generators.Options;
+import io.github.torand.openapi2java.generators.StaticOpenApiFileGenerator;
+import io.github.torand.openapi2java.utils.OpenApi2JavaException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.github.torand.openapi2java.TestHelper.getJavaOptions;
+import static io.github.torand.openapi2java.TestHelper.loadOpenApi31Spec;
+import static io.github.torand.openapi2java.TestHelper.withClassesResourceDirs;
+import static io.github.torand.openapi2java.writers.WriterFactory.compileSourceArchive;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceCompilerTest {
+
+    private static final String OUTPUT_DIR = "target/test-output/compiled";
+
+    @Test
+    void shouldCompileSourcesWithoutWritingThem() throws IOException {
+        SourceArchive archive = new SourceArchive(OUTPUT_DIR, false, true);
+        addEntry(archive, OUTPUT_DIR + "/model", "PetDto.java", """
+            package test.model;
+            public record PetDto(String name) {}
+            """);
+        addEntry(archive, OUTPUT_DIR, "PetsApi.java", """
+            package test;
+            import test.model.PetDto;
+            public interface PetsApi { PetDto getPet(String name); }
+            """);
+
+        new SourceCompiler(emptyList()).compile(archive, OUTPUT_DIR + "/classes");
+
+        assertThat(Path.of(OUTPUT_DIR, "classes/test/model/PetDto.class")).exists();
+        assertThat(Path.of(OUTPUT_DIR, "classes/test/PetsApi.class")).exists();
+        assertThat(Path.of(OUTPUT_DIR, "model/PetDto.java")).doesNotExist();
+    }
+
+    @Test
+    void shouldReportCompilationErrors() throws IOException {
+        SourceArchive archive = new SourceArchive(OUTPUT_DIR, false, true);
+        addEntry(archive, OUTPUT_DIR, "BrokenApi.java", """
+            package test;
+            public interface BrokenApi { UnknownType get(); }
+            """);
+
+        assertThatThrownBy(() -> new SourceCompiler(emptyList()).compile(archive, OUTPUT_DIR + "/classes"))
+            .isInstanceOf(OpenApi2JavaException.class)
+            .hasMessageContaining("BrokenApi.java:2");
+    }
+
+    @Test
+    void shouldCompileForSpecifiedRelease() throws IOException {
+        SourceArchive archive = new SourceArchive(OUTPUT_DIR, false, true);
+        addEntry(archive, OUTPUT_DIR, "LegacyApi.java", """
+            package test;
+            public interface LegacyApi { String get(); }
+            """);
+
+        new SourceCompiler(emptyList(), "11").compile(archive, OUTPUT_DIR + "/classes-11");
+
+        byte[] classFile = Files.readAllBytes(Path.of(OUTPUT_DIR, "classes-11/test/LegacyApi.class"));
+        int majorVersion = ((classFile[6] & 0xff) << 8) | (classFile[7] & 0xff);
+        assertThat(majorVersion).isEqualTo(55);
+    }
+
+    @Test
+    void shouldWriteResourceFilesToConfiguredDirectory() {
+        String outputDir = OUTPUT_DIR + "/resources";
+        Options opts = withClassesResourceDirs(getJavaOptions().withOutputDir(outputDir).withOutputFormat("classes"), outputDir + "/classes");
+
+        new NativeImageConfigGenerator(opts).generate(List.of("test.model.PetDto"), List.of("test.PetsApi"));
+        new StaticOpenApiFileGenerator(opts).generate(loadOpenApi31Spec());
+        compileSourceArchive(opts, emptyList(), null);
+
+        assertThat(Path.of(outputDir, "classes/META-INF/native-image/io.github.torand/test/reflect-config.json")).exists();
+        assertThat(Path.of(outputDir, "classes/META-INF/openapi.json")).exists();
+        assertThat(Path.of(outputDir, "classes/classes")).doesNotExist();
+    }
+
+    private static void addEntry(SourceArchive archive, String directory, String filename, String content) throws IOException {
+        try (Writer writer = archive.createEntryWriter(directory, filename)) {
+            writer.write(content);
+        }
+    }
+}